@@ -0,0 +1,226 @@
+package com.healthsync.gateway.application_services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.healthsync.common.util.IdentityHeaderUtil;
+import com.healthsync.gateway.config.GatewayDashboardProperties;
+import com.healthsync.gateway.dto.DashboardResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 홈 화면 대시보드 집계 유스케이스입니다.
+ * 활성 미션, AI 건강 진단, 건강검진 이력을 동시에 조회하고, 독려 메시지는 활성 미션 결과가 도착하는 즉시 이어서 요청합니다.
+ * 전체 응답 시간은 각 호출 시간의 합이 아니라 가장 느린 경로의 시간에 수렴합니다.
+ * 각 호출은 해당 서비스 라우트와 같은 서킷 브레이커(라우트 ID)를 사용하므로, 라우트 브레이커가 열려 있으면
+ * 하위 서비스를 호출하지 않고 그 항목만 실패로 처리합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class DashboardUseCase {
+
+    public static final String PART_ACTIVE_MISSIONS = "activeMissions";
+    public static final String PART_HEALTH_DIAGNOSIS = "healthDiagnosis";
+    public static final String PART_CHECKUP_HISTORY = "checkupHistory";
+    public static final String PART_ENCOURAGEMENT = "encouragement";
+
+    private static final String GOAL_SERVICE = "goal-service";
+    private static final String INTELLIGENCE_SERVICE = "intelligence-service";
+    private static final String HEALTH_SERVICE = "health-service";
+    private static final String MOTIVATOR_SERVICE = "motivator-service";
+
+    private final WebClient webClient;
+    private final GatewayDashboardProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Value("${services.goal-service.url}")
+    private String goalServiceUrl;
+
+    @Value("${services.intelligence-service.url}")
+    private String intelligenceServiceUrl;
+
+    @Value("${services.health-service.url}")
+    private String healthServiceUrl;
+
+    @Value("${services.motivator-service.url}")
+    private String motivatorServiceUrl;
+
+    /**
+     * DashboardUseCase 생성자
+     * 서비스 URL의 호스트를 서비스 ID로 해석하여 Gateway 라우트와 같은 부하 분산기를 사용합니다.
+     *
+     * @param loadBalancerFilter 부하 분산 WebClient 필터
+     * @param properties 대시보드 설정
+     * @param circuitBreakerRegistry 서킷 브레이커 레지스트리 (라우트와 공유)
+     */
+    public DashboardUseCase(ReactorLoadBalancerExchangeFilterFunction loadBalancerFilter,
+                            GatewayDashboardProperties properties, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.webClient = WebClient.builder().filter(loadBalancerFilter).build();
+        this.properties = properties;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+    }
+
+    /**
+     * 대시보드 데이터를 병렬로 조회합니다.
+     * 일부 항목이 실패하거나 제한 시간을 초과해도 나머지 항목으로 응답합니다.
+     *
+     * @param userId 사용자 ID
+     * @param identityHeaderValue 하위 서비스로 전달할 서명된 신원 헤더 값
+     * @return 대시보드 응답
+     */
+    public Mono<DashboardResponse> getDashboard(String userId, String identityHeaderValue) {
+        Mono<Optional<JsonNode>> missions = part(PART_ACTIVE_MISSIONS, GOAL_SERVICE, properties.getMissionsTimeout(),
+                get(goalServiceUrl + "/api/goals/missions/active?userId={userId}", identityHeaderValue, userId))
+                .cache();
+
+        Mono<Optional<JsonNode>> diagnosis = part(PART_HEALTH_DIAGNOSIS, INTELLIGENCE_SERVICE,
+                properties.getDiagnosisTimeout(),
+                get(intelligenceServiceUrl + "/api/intelligence/health/diagnosis?userId={userId}",
+                        identityHeaderValue, userId));
+
+        Mono<Optional<JsonNode>> history = part(PART_CHECKUP_HISTORY, HEALTH_SERVICE, properties.getHistoryTimeout(),
+                get(healthServiceUrl + "/api/health/checkup/history?userId={userId}&maxRecords={maxRecords}",
+                        identityHeaderValue, userId, properties.getHistoryMaxRecords()));
+
+        Mono<Optional<JsonNode>> encouragement = missions.flatMap(activeMissions -> activeMissions
+                .map(data -> encouragementRequest(userId, data))
+                .map(request -> part(PART_ENCOURAGEMENT, MOTIVATOR_SERVICE, properties.getEncouragementTimeout(),
+                        post(motivatorServiceUrl + "/api/motivator/notifications/encouragement",
+                                identityHeaderValue, request)))
+                .orElseGet(() -> Mono.just(Optional.empty())));
+
+        return Mono.zip(missions, diagnosis, history, encouragement)
+                .map(parts -> {
+                    List<String> failedParts = new ArrayList<>();
+                    collectFailure(failedParts, PART_ACTIVE_MISSIONS, parts.getT1());
+                    collectFailure(failedParts, PART_HEALTH_DIAGNOSIS, parts.getT2());
+                    collectFailure(failedParts, PART_CHECKUP_HISTORY, parts.getT3());
+                    if (parts.getT1().isPresent()) {
+                        collectFailure(failedParts, PART_ENCOURAGEMENT, parts.getT4());
+                    }
+
+                    return DashboardResponse.builder()
+                            .activeMissions(parts.getT1().orElse(null))
+                            .healthDiagnosis(parts.getT2().orElse(null))
+                            .checkupHistory(parts.getT3().orElse(null))
+                            .encouragement(parts.getT4().orElse(null))
+                            .failedParts(failedParts)
+                            .build();
+                });
+    }
+
+    /**
+     * 개별 항목 호출에 서킷 브레이커, 제한 시간, 실패 격리를 적용합니다.
+     *
+     * @param name 항목 이름
+     * @param serviceId 서비스 ID (서킷 브레이커 이름)
+     * @param timeout 제한 시간
+     * @param call 하위 서비스 호출
+     * @return 항목 데이터 (실패 시 빈 Optional)
+     */
+    private Mono<Optional<JsonNode>> part(String name, String serviceId, Duration timeout, Mono<JsonNode> call) {
+        return guarded(circuitBreakerRegistry.circuitBreaker(serviceId), call.timeout(timeout))
+                .map(body -> body.path("data"))
+                .filter(data -> !data.isMissingNode() && !data.isNull())
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    log.warn("대시보드 항목 조회 실패: part={}, error={}", name, e.toString());
+                    return Mono.just(Optional.empty());
+                })
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    /**
+     * 라우트 필터와 같은 기준으로 호출 결과를 서킷 브레이커에 기록합니다.
+     * 4xx 응답은 하위 서비스 장애가 아니므로 성공으로 기록하고, 제한 시간 초과는 실패로 기록합니다.
+     *
+     * @param breaker 서킷 브레이커
+     * @param call 하위 서비스 호출 (제한 시간 적용)
+     * @return 브레이커가 적용된 호출
+     */
+    private Mono<JsonNode> guarded(CircuitBreaker breaker, Mono<JsonNode> call) {
+        return Mono.defer(() -> {
+            if (!breaker.tryAcquirePermission()) {
+                return Mono.error(CallNotPermittedException.createCallNotPermittedException(breaker));
+            }
+            long start = breaker.getCurrentTimestamp();
+            return call
+                    .doOnSuccess(body -> breaker.onSuccess(breaker.getCurrentTimestamp() - start,
+                            breaker.getTimestampUnit()))
+                    .doOnError(e -> {
+                        long duration = breaker.getCurrentTimestamp() - start;
+                        if (e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+                            breaker.onSuccess(duration, breaker.getTimestampUnit());
+                        } else {
+                            breaker.onError(duration, breaker.getTimestampUnit(), e);
+                        }
+                    })
+                    .doOnCancel(breaker::releasePermission);
+        });
+    }
+
+    private Mono<JsonNode> get(String uriTemplate, String identityHeaderValue, Object... uriVariables) {
+        return webClient.get()
+                .uri(uriTemplate, uriVariables)
+                .header(IdentityHeaderUtil.IDENTITY_HEADER, identityHeaderValue)
+                .retrieve()
+                .bodyToMono(JsonNode.class);
+    }
+
+    private Mono<JsonNode> post(String uri, String identityHeaderValue, JsonNode body) {
+        return webClient.post()
+                .uri(uri)
+                .header(IdentityHeaderUtil.IDENTITY_HEADER, identityHeaderValue)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(JsonNode.class);
+    }
+
+    /**
+     * 활성 미션 응답으로 독려 메시지 요청 본문을 만듭니다.
+     *
+     * @param userId 사용자 ID
+     * @param activeMissions 활성 미션 데이터
+     * @return 독려 요청 본문 (미션이 없으면 null)
+     */
+    private JsonNode encouragementRequest(String userId, JsonNode activeMissions) {
+        JsonNode dailyMissions = activeMissions.path("dailyMissions");
+        if (!dailyMissions.isArray() || dailyMissions.isEmpty()) {
+            return null;
+        }
+
+        ObjectNode request = JsonNodeFactory.instance.objectNode();
+        request.put("userId", userId);
+        ArrayNode missionsStatus = request.putArray("missionsStatus");
+        for (JsonNode mission : dailyMissions) {
+            missionsStatus.addObject()
+                    .put("missionId", mission.path("missionId").asText())
+                    .put("completed", mission.path("completedToday").asBoolean());
+        }
+        return request;
+    }
+
+    private void collectFailure(List<String> failedParts, String name, Optional<JsonNode> part) {
+        if (part.isEmpty()) {
+            failedParts.add(name);
+        }
+    }
+}
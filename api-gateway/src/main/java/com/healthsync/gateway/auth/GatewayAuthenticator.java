@@ -0,0 +1,61 @@
+package com.healthsync.gateway.auth;
+
+import com.healthsync.common.security.TokenRevocationStore;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Authorization 헤더의 Bearer 토큰을 검증하고 로그아웃으로 폐기된 토큰을 거부하는 인증기입니다.
+ * Gateway 라우트 필터와 Gateway가 직접 처리하는 API가 같은 검증/폐기 확인 절차를 사용하도록 합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class GatewayAuthenticator {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Mono<Optional<VerifiedToken>> UNAUTHENTICATED = Mono.just(Optional.empty());
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationStore revocationStore;
+
+    /**
+     * GatewayAuthenticator 생성자
+     *
+     * @param verifiedTokenCache 검증 완료 토큰 캐시
+     * @param revocationStore 폐기 토큰 저장소
+     */
+    public GatewayAuthenticator(VerifiedTokenCache verifiedTokenCache, TokenRevocationStore revocationStore) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocationStore = revocationStore;
+    }
+
+    /**
+     * Authorization 헤더로 사용자를 인증합니다.
+     *
+     * @param authorization Authorization 헤더 값 (없으면 null)
+     * @return 검증된 토큰 (토큰이 없거나 유효하지 않거나 폐기되었으면 빈 Optional)
+     */
+    public Mono<Optional<VerifiedToken>> authenticate(String authorization) {
+        String token = resolveBearerToken(authorization);
+        VerifiedToken verified = token != null ? verifiedTokenCache.verify(token) : null;
+        if (verified == null) {
+            return UNAUTHENTICATED;
+        }
+        if (verified.getTokenId() == null) {
+            return Mono.just(Optional.of(verified));
+        }
+
+        return revocationStore.isRevoked(verified.getTokenId())
+                .map(revoked -> revoked ? Optional.<VerifiedToken>empty() : Optional.of(verified));
+    }
+
+    private String resolveBearerToken(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
@@ -0,0 +1,30 @@
+package com.healthsync.gateway.auth;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명 검증을 마친 JWT의 식별 정보입니다.
+ * 내부 서비스로 전달할 신원 헤더 값도 검증 시점에 한 번만 생성하여 보관합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    private final String tokenId;
+    private final String userId;
+    private final long expiresAtEpochSecond;
+    private final String identityHeaderValue;
+
+    /**
+     * 토큰 만료 여부를 반환합니다.
+     *
+     * @return 만료 여부
+     */
+    public boolean isExpired() {
+        return expiresAtEpochSecond <= System.currentTimeMillis() / 1000;
+    }
+}
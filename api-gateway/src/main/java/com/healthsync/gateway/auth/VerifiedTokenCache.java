@@ -0,0 +1,116 @@
+package com.healthsync.gateway.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.healthsync.common.util.IdentityHeaderUtil;
+import com.healthsync.common.util.JwtUtil;
+import com.healthsync.common.util.ParsedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증을 마친 JWT를 토큰 해시 기준으로 만료 시각까지 보관하는 캐시입니다.
+ * 캐시 적중 시 HMAC 서명 검증과 신원 헤더 서명 비용 없이 사용자를 식별합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final IdentityHeaderUtil identityHeaderUtil;
+    private final Cache<String, VerifiedToken> cache;
+
+    /**
+     * VerifiedTokenCache 생성자
+     *
+     * @param jwtUtil JWT 유틸리티
+     * @param identityHeaderUtil 내부 신원 헤더 유틸리티
+     * @param maximumSize 최대 캐시 항목 수
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public VerifiedTokenCache(JwtUtil jwtUtil, IdentityHeaderUtil identityHeaderUtil,
+                              long maximumSize, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.identityHeaderUtil = identityHeaderUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.verified-tokens");
+    }
+
+    /**
+     * 토큰을 검증하고 식별 정보를 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보 (유효하지 않으면 null)
+     */
+    public VerifiedToken verify(String token) {
+        String cacheKey = hash(token);
+        VerifiedToken cached = cache.getIfPresent(cacheKey);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        ParsedToken parsed = jwtUtil.parseOnce(token);
+        if (!parsed.isValid() || parsed.getExpiresAt() == null) {
+            log.debug("JWT 검증 실패");
+            return null;
+        }
+
+        String userId = parsed.getUserId();
+        long expiresAt = parsed.getExpiresAtEpochSecond();
+        VerifiedToken verified = new VerifiedToken(parsed.getTokenId(), userId, expiresAt,
+                identityHeaderUtil.createHeaderValue(userId, expiresAt));
+        cache.put(cacheKey, verified);
+        return verified;
+    }
+
+    /**
+     * 토큰 원문 대신 보관할 SHA-256 해시를 계산합니다.
+     *
+     * @param token JWT 토큰
+     * @return Base64 인코딩된 해시
+     */
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 각 항목을 토큰 자체의 만료 시각까지 유지하는 만료 정책입니다.
+     */
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingSeconds = value.getExpiresAtEpochSecond() - System.currentTimeMillis() / 1000;
+            return TimeUnit.SECONDS.toNanos(Math.max(remainingSeconds, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.healthsync.gateway.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * Gateway 응답 캐시에 보관되는 응답 본문과 검증자(ETag)입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class CachedResponse {
+
+    private final byte[] body;
+    private final MediaType contentType;
+    private final String etag;
+    private final long expiresAtMillis;
+
+    /**
+     * 만료 여부를 반환합니다.
+     *
+     * @return 만료 여부
+     */
+    public boolean isExpired() {
+        return expiresAtMillis <= System.currentTimeMillis();
+    }
+}
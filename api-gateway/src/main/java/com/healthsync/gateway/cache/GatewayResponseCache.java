@@ -0,0 +1,189 @@
+package com.healthsync.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 GET 응답을 보관하는 Gateway 로컬 캐시입니다.
+ * ETag는 응답 본문의 해시로 계산하므로 Gateway 인스턴스가 달라도 동일한 값을 가집니다.
+ * <p>
+ * 캐시 키에 사용자별 세대 번호를 넣어, 사용자 무효화는 세대 번호만 바꾸는 O(1) 작업으로 처리합니다.
+ * 이전 세대 항목은 더 이상 조회되지 않고 TTL이나 크기 제한으로 정리됩니다.
+ * 무효화는 Redis pub/sub로 다른 Gateway 인스턴스에도 전파합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class GatewayResponseCache implements SmartLifecycle {
+
+    public static final String CHANNEL = "gateway:response-cache:invalidations";
+
+    private static final char KEY_SEPARATOR = '|';
+    private static final char MESSAGE_SEPARATOR = ':';
+
+    private final Cache<String, CachedResponse> cache;
+    private final Cache<String, Long> generations;
+    private final AtomicLong generationSequence = new AtomicLong();
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+    private volatile Disposable subscription;
+
+    /**
+     * GatewayResponseCache 생성자
+     *
+     * @param maximumSize 최대 캐시 항목 수
+     * @param redisTemplate Reactive Redis 템플릿 (무효화 전파용)
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public GatewayResponseCache(long maximumSize, ReactiveStringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilEntryExpiry())
+                .recordStats()
+                .build();
+        // 세대 번호가 밀려나면 새 번호가 발급되므로 해당 사용자의 항목이 무효화될 뿐 오래된 응답이 나가지는 않습니다
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        this.redisTemplate = redisTemplate;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response-cache");
+    }
+
+    /**
+     * 사용자의 현재 세대와 요청 URI로 캐시 키를 생성합니다.
+     *
+     * @param userId 사용자 ID
+     * @param pathAndQuery 경로와 쿼리 문자열
+     * @return 캐시 키
+     */
+    public String key(String userId, String pathAndQuery) {
+        long generation = generations.get(userId, id -> generationSequence.incrementAndGet());
+        return userId + KEY_SEPARATOR + generation + KEY_SEPARATOR + pathAndQuery;
+    }
+
+    /**
+     * 응답 본문의 ETag를 계산합니다.
+     *
+     * @param body 응답 본문
+     * @return 따옴표로 감싼 ETag
+     */
+    public static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시된 응답을 조회합니다.
+     *
+     * @param key 캐시 키
+     * @return 캐시된 응답 (없거나 만료되었으면 null)
+     */
+    public CachedResponse get(String key) {
+        CachedResponse cached = cache.getIfPresent(key);
+        return cached != null && !cached.isExpired() ? cached : null;
+    }
+
+    /**
+     * 응답을 저장합니다.
+     *
+     * @param key 캐시 키
+     * @param response 캐시할 응답
+     */
+    public void put(String key, CachedResponse response) {
+        cache.put(key, response);
+    }
+
+    /**
+     * 사용자의 캐시 항목을 모두 무효화하고 다른 Gateway 인스턴스에 전파합니다.
+     * 변경 요청 이후 같은 사용자가 이전 조회 결과를 받지 않도록 합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidateUser(String userId) {
+        generations.invalidate(userId);
+        redisTemplate.convertAndSend(CHANNEL, instanceId + MESSAGE_SEPARATOR + userId)
+                .subscribe(null, e -> log.warn("응답 캐시 무효화 전파 실패: userId={}, error={}", userId, e.toString()));
+    }
+
+    @Override
+    public void start() {
+        subscription = redisTemplate.listenToChannel(CHANNEL)
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::onInvalidation)
+                .retryWhen(Retry.fixedDelay(Long.MAX_VALUE, Duration.ofSeconds(5))
+                        .doBeforeRetry(signal -> log.warn("응답 캐시 무효화 채널 재구독: {}", signal.failure().toString())))
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+            subscription = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null;
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 무효화 메시지(인스턴스 ID:사용자 ID)를 반영합니다.
+     *
+     * @param message 무효화 메시지
+     */
+    private void onInvalidation(String message) {
+        int separator = message.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0 || instanceId.equals(message.substring(0, separator))) {
+            return;
+        }
+        generations.invalidate(message.substring(separator + 1));
+    }
+
+    /**
+     * 각 항목을 규칙별 TTL로 계산된 만료 시각까지 유지하는 만료 정책입니다.
+     */
+    private static class UntilEntryExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            long remainingMillis = value.getExpiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
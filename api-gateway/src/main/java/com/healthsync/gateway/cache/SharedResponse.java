@@ -0,0 +1,21 @@
+package com.healthsync.gateway.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * 병합된 요청들이 함께 사용하는 하위 서비스 응답입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class SharedResponse {
+
+    private final HttpStatusCode statusCode;
+    private final HttpHeaders headers;
+    private final byte[] body;
+}
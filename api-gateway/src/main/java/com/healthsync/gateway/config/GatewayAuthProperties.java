@@ -0,0 +1,46 @@
+package com.healthsync.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway 인증 설정 정보를 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gateway.auth")
+public class GatewayAuthProperties {
+
+    /**
+     * 인증 없이 통과시키는 경로 패턴
+     */
+    private List<String> publicPaths = new ArrayList<>(List.of("/api/auth/**", "/actuator/**"));
+
+    /**
+     * 검증 완료 토큰 캐시의 최대 항목 수
+     */
+    private long tokenCacheMaxSize = 10_000;
+
+    /**
+     * 폐기 토큰 Bloom 필터의 예상 항목 수 (토큰 만료 전까지 누적되는 로그아웃 수)
+     */
+    private long revocationExpectedInsertions = 100_000;
+
+    /**
+     * 폐기 토큰 Bloom 필터의 목표 오탐률 (오탐 시에만 Redis를 조회)
+     */
+    private double revocationFalsePositiveRate = 0.001;
+
+    /**
+     * 폐기 토큰 Bloom 필터 재구성 주기 (pub/sub 메시지 유실 보정 및 만료 항목 정리)
+     */
+    private Duration revocationRebuildInterval = Duration.ofMinutes(10);
+}
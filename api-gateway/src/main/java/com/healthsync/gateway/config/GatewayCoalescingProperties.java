@@ -0,0 +1,35 @@
+package com.healthsync.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway 동일 GET 요청 병합(single-flight) 설정 정보를 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gateway.coalescing")
+public class GatewayCoalescingProperties {
+
+    /**
+     * 요청 병합 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 병합 대상 경로 패턴 (허용 목록, 비어 있으면 병합하지 않음)
+     */
+    private List<String> paths = new ArrayList<>();
+
+    /**
+     * 대기 중인 요청과 공유할 응답 본문의 최대 크기 (bytes, 초과하면 공유하지 않음)
+     */
+    private int maxBodyBytes = 1024 * 1024;
+}
@@ -0,0 +1,99 @@
+package com.healthsync.gateway.config;
+
+import com.healthsync.gateway.resilience.RequestPriority;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway 적응형 동시성 한도 및 우선순위별 요청 차단 설정 정보를 관리하는 클래스입니다.
+ * 한도 값은 라우트별 한도 각각에 적용됩니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gateway.concurrency")
+public class GatewayConcurrencyProperties {
+
+    /**
+     * 동시성 한도 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 초기 동시성 한도
+     */
+    private int initialLimit = 100;
+
+    /**
+     * 최소 동시성 한도
+     */
+    private int minLimit = 10;
+
+    /**
+     * 최대 동시성 한도
+     */
+    private int maxLimit = 1000;
+
+    /**
+     * 한도 갱신 시 새 값의 반영 비율 (0~1)
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * 장기 평균 대비 허용하는 단기 응답 시간 증가 배율
+     */
+    private double rttTolerance = 1.5;
+
+    /**
+     * 장기 평균 응답 시간의 EWMA 표본 수
+     */
+    private int longWindow = 600;
+
+    /**
+     * LOW 우선순위가 사용할 수 있는 한도 비율
+     */
+    private double lowPriorityShare = 0.5;
+
+    /**
+     * NORMAL 우선순위가 사용할 수 있는 한도 비율
+     */
+    private double normalPriorityShare = 0.9;
+
+    /**
+     * 규칙에 일치하지 않는 요청의 우선순위
+     */
+    private RequestPriority defaultPriority = RequestPriority.NORMAL;
+
+    /**
+     * 경로/메서드별 우선순위 규칙 (처음 일치한 규칙 적용)
+     */
+    private List<PriorityRule> priorities = new ArrayList<>();
+
+    /**
+     * 우선순위 규칙입니다.
+     */
+    @Data
+    public static class PriorityRule {
+
+        /**
+         * 우선순위
+         */
+        private RequestPriority priority = RequestPriority.NORMAL;
+
+        /**
+         * 적용 경로 패턴
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * 적용 HTTP 메서드 (비어 있으면 전체)
+         */
+        private List<String> methods = new ArrayList<>();
+    }
+}
@@ -1,43 +1,240 @@
 package com.healthsync.gateway.config;
 
-import org.springframework.cloud.gateway.filter.GlobalFilter;
+import com.healthsync.common.security.TokenRevocationStore;
+import com.healthsync.common.util.IdentityHeaderUtil;
+import com.healthsync.common.util.JwtUtil;
+import com.healthsync.gateway.auth.GatewayAuthenticator;
+import com.healthsync.gateway.auth.VerifiedTokenCache;
+import com.healthsync.gateway.cache.GatewayResponseCache;
+import com.healthsync.gateway.filter.AdaptiveConcurrencyFilter;
+import com.healthsync.gateway.filter.JwtAuthenticationFilter;
+import com.healthsync.gateway.filter.RateLimitFilter;
+import com.healthsync.gateway.filter.RequestCoalescingFilter;
+import com.healthsync.gateway.filter.ResilienceFilter;
+import com.healthsync.gateway.filter.ResponseCacheFilter;
+import com.healthsync.gateway.filter.RouteMetricsFilter;
+import com.healthsync.gateway.filter.StreamingResponseFilter;
+import com.healthsync.gateway.ratelimit.RedisTokenBucketRateLimiter;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.annotation.Order;
-import reactor.core.publisher.Mono;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 
 /**
  * Gateway 설정을 관리하는 클래스입니다.
- * 
+ *
  * @author healthsync-team
  * @version 1.0
  */
 @Configuration
 public class GatewayConfig {
-    
-    /**
-     * 요청/응답 로깅을 위한 글로벌 필터를 설정합니다.
-     * 
-     * @return 로깅 글로벌 필터
-     */
-    @Bean
-    @Order(-1)
-    public GlobalFilter loggingFilter() {
-        return (exchange, chain) -> {
-            String requestPath = exchange.getRequest().getPath().value();
-            String requestMethod = exchange.getRequest().getMethod().name();
-            
-            long startTime = System.currentTimeMillis();
-            
-            return chain.filter(exchange).then(
-                Mono.fromRunnable(() -> {
-                    long endTime = System.currentTimeMillis();
-                    long duration = endTime - startTime;
-                    
-                    System.out.printf("Gateway: %s %s - %dms%n", 
-                            requestMethod, requestPath, duration);
-                })
-            );
-        };
+
+    /**
+     * 라우트별 지연 시간/처리 중 요청 메트릭을 기록하는 글로벌 필터를 설정합니다.
+     * 결과는 actuator의 prometheus 엔드포인트로 노출됩니다.
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 라우트 메트릭 글로벌 필터
+     */
+    @Bean
+    public RouteMetricsFilter routeMetricsFilter(MeterRegistry meterRegistry) {
+        return new RouteMetricsFilter(meterRegistry);
+    }
+
+    /**
+     * 사용자 서비스와 동일한 키로 JWT를 검증하는 유틸리티를 생성합니다.
+     *
+     * @param secret JWT 시크릿 키
+     * @param accessTokenValidity 액세스 토큰 유효 시간
+     * @param refreshTokenValidity 리프레시 토큰 유효 시간
+     * @param verifiedCacheSize 검증된 토큰 캐시 크기 (Gateway는 VerifiedTokenCache가 캐시하므로 기본 0)
+     * @return JwtUtil
+     */
+    @Bean
+    public JwtUtil jwtUtil(
+            @Value("${jwt.secret:healthsync-default-secret-key-for-development-only}") String secret,
+            @Value("${jwt.access-token.expire-length:3600000}") long accessTokenValidity,
+            @Value("${jwt.refresh-token.expire-length:604800000}") long refreshTokenValidity,
+            @Value("${jwt.verified-cache.max-size:0}") long verifiedCacheSize) {
+        return new JwtUtil(secret, accessTokenValidity, refreshTokenValidity, verifiedCacheSize);
+    }
+
+    /**
+     * 내부 서비스로 전달할 신원 헤더 서명 유틸리티를 생성합니다.
+     *
+     * @param secret 내부 신원 헤더 서명 키
+     * @return IdentityHeaderUtil
+     */
+    @Bean
+    public IdentityHeaderUtil identityHeaderUtil(
+            @Value("${internal-auth.secret:healthsync-internal-identity-secret-for-development-only}") String secret) {
+        return new IdentityHeaderUtil(secret);
+    }
+
+    /**
+     * 검증 완료 토큰 캐시를 생성합니다.
+     *
+     * @param jwtUtil JWT 유틸리티
+     * @param identityHeaderUtil 내부 신원 헤더 유틸리티
+     * @param authProperties Gateway 인증 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @return VerifiedTokenCache
+     */
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(JwtUtil jwtUtil, IdentityHeaderUtil identityHeaderUtil,
+                                                 GatewayAuthProperties authProperties, MeterRegistry meterRegistry) {
+        return new VerifiedTokenCache(jwtUtil, identityHeaderUtil, authProperties.getTokenCacheMaxSize(), meterRegistry);
+    }
+
+    /**
+     * 로그아웃으로 폐기된 토큰 저장소를 생성합니다.
+     *
+     * @param redisTemplate Reactive Redis 템플릿
+     * @param authProperties Gateway 인증 설정
+     * @return TokenRevocationStore
+     */
+    @Bean
+    public TokenRevocationStore tokenRevocationStore(ReactiveStringRedisTemplate redisTemplate,
+                                                     GatewayAuthProperties authProperties) {
+        return new TokenRevocationStore(redisTemplate, authProperties.getRevocationExpectedInsertions(),
+                authProperties.getRevocationFalsePositiveRate(), authProperties.getRevocationRebuildInterval());
+    }
+
+    /**
+     * 토큰 검증과 폐기 여부 확인을 함께 수행하는 인증기를 생성합니다.
+     *
+     * @param verifiedTokenCache 검증 완료 토큰 캐시
+     * @param tokenRevocationStore 폐기 토큰 저장소
+     * @return GatewayAuthenticator
+     */
+    @Bean
+    public GatewayAuthenticator gatewayAuthenticator(VerifiedTokenCache verifiedTokenCache,
+                                                     TokenRevocationStore tokenRevocationStore) {
+        return new GatewayAuthenticator(verifiedTokenCache, tokenRevocationStore);
+    }
+
+    /**
+     * Bearer 토큰을 검증하고 신원 헤더를 전달하는 글로벌 필터를 설정합니다.
+     *
+     * @param authenticator 토큰 검증/폐기 확인 인증기
+     * @param authProperties Gateway 인증 설정
+     * @return JWT 인증 글로벌 필터
+     */
+    @Bean
+    public JwtAuthenticationFilter jwtAuthenticationFilter(GatewayAuthenticator authenticator,
+                                                           GatewayAuthProperties authProperties) {
+        return new JwtAuthenticationFilter(authenticator, authProperties.getPublicPaths());
+    }
+
+    /**
+     * Redis 토큰 버킷 요청 제한기를 생성합니다.
+     *
+     * @param redisTemplate Reactive Redis 템플릿
+     * @return RedisTokenBucketRateLimiter
+     */
+    @Bean
+    public RedisTokenBucketRateLimiter redisTokenBucketRateLimiter(ReactiveStringRedisTemplate redisTemplate) {
+        return new RedisTokenBucketRateLimiter(redisTemplate);
+    }
+
+    /**
+     * 사용자별/라우트별 요청 제한 글로벌 필터를 설정합니다.
+     *
+     * @param rateLimiter 토큰 버킷 요청 제한기
+     * @param rateLimitProperties 요청 제한 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 요청 제한 글로벌 필터
+     */
+    @Bean
+    public RateLimitFilter rateLimitFilter(RedisTokenBucketRateLimiter rateLimiter,
+                                           GatewayRateLimitProperties rateLimitProperties,
+                                           MeterRegistry meterRegistry) {
+        return new RateLimitFilter(rateLimiter, rateLimitProperties, meterRegistry);
+    }
+
+    /**
+     * Gateway 응답 캐시를 생성합니다.
+     *
+     * @param responseCacheProperties 응답 캐시 설정
+     * @param redisTemplate Reactive Redis 템플릿
+     * @param meterRegistry 메트릭 레지스트리
+     * @return GatewayResponseCache
+     */
+    @Bean
+    public GatewayResponseCache gatewayResponseCache(GatewayResponseCacheProperties responseCacheProperties,
+                                                     ReactiveStringRedisTemplate redisTemplate,
+                                                     MeterRegistry meterRegistry) {
+        return new GatewayResponseCache(responseCacheProperties.getMaxEntries(), redisTemplate, meterRegistry);
+    }
+
+    /**
+     * GET 응답 캐시 및 ETag/304 처리 글로벌 필터를 설정합니다.
+     *
+     * @param responseCache 응답 캐시
+     * @param responseCacheProperties 응답 캐시 설정
+     * @return 응답 캐시 글로벌 필터
+     */
+    @Bean
+    public ResponseCacheFilter responseCacheFilter(GatewayResponseCache responseCache,
+                                                   GatewayResponseCacheProperties responseCacheProperties) {
+        return new ResponseCacheFilter(responseCache, responseCacheProperties);
+    }
+
+    /**
+     * 동일 GET 요청 병합(single-flight) 글로벌 필터를 설정합니다.
+     *
+     * @param coalescingProperties 요청 병합 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 요청 병합 글로벌 필터
+     */
+    @Bean
+    public RequestCoalescingFilter requestCoalescingFilter(GatewayCoalescingProperties coalescingProperties,
+                                                           MeterRegistry meterRegistry) {
+        return new RequestCoalescingFilter(coalescingProperties, meterRegistry);
+    }
+
+    /**
+     * 라우트별 서킷 브레이커/재시도 예산/헤지 요청 글로벌 필터를 설정합니다.
+     * 서킷 브레이커 상태는 actuator의 circuitbreakers 엔드포인트와 health에 노출됩니다.
+     *
+     * @param circuitBreakerRegistry 서킷 브레이커 레지스트리
+     * @param resilienceProperties 복원력 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @param loadBalancerFilter 부하 분산 WebClient 필터
+     * @return 복원력 글로벌 필터
+     */
+    @Bean
+    public ResilienceFilter resilienceFilter(CircuitBreakerRegistry circuitBreakerRegistry,
+                                             GatewayResilienceProperties resilienceProperties,
+                                             MeterRegistry meterRegistry,
+                                             ReactorLoadBalancerExchangeFilterFunction loadBalancerFilter) {
+        return new ResilienceFilter(circuitBreakerRegistry, resilienceProperties, meterRegistry, loadBalancerFilter);
+    }
+
+    /**
+     * 적응형 동시성 한도 및 우선순위별 요청 차단 글로벌 필터를 설정합니다.
+     *
+     * @param concurrencyProperties 동시성 한도 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 동시성 한도 글로벌 필터
+     */
+    @Bean
+    public AdaptiveConcurrencyFilter adaptiveConcurrencyFilter(GatewayConcurrencyProperties concurrencyProperties,
+                                                               MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyFilter(concurrencyProperties, meterRegistry);
+    }
+
+    /**
+     * 스트리밍(SSE) 응답의 라우트별 유휴 제한 시간 글로벌 필터를 설정합니다.
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 스트리밍 응답 글로벌 필터
+     */
+    @Bean
+    public StreamingResponseFilter streamingResponseFilter(MeterRegistry meterRegistry) {
+        return new StreamingResponseFilter(meterRegistry);
     }
 }
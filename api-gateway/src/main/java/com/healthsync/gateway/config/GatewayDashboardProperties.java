@@ -0,0 +1,45 @@
+package com.healthsync.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 대시보드 집계 API 설정 정보를 관리하는 클래스입니다.
+ * 각 구성 요소 호출은 개별 제한 시간을 가지며, 초과 시 해당 항목만 비운 채 응답합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gateway.dashboard")
+public class GatewayDashboardProperties {
+
+    /**
+     * 활성 미션 조회 제한 시간
+     */
+    private Duration missionsTimeout = Duration.ofSeconds(2);
+
+    /**
+     * AI 건강 진단 조회 제한 시간
+     */
+    private Duration diagnosisTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 건강검진 이력 조회 제한 시간
+     */
+    private Duration historyTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 독려 메시지 생성 제한 시간
+     */
+    private Duration encouragementTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 대시보드에 포함할 건강검진 이력 건수
+     */
+    private int historyMaxRecords = 5;
+}
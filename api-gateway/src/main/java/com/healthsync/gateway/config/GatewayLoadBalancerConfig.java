@@ -0,0 +1,58 @@
+package com.healthsync.gateway.config;
+
+import com.healthsync.gateway.loadbalancer.InstanceStatsRegistry;
+import com.healthsync.gateway.loadbalancer.InstanceStatsReleaseFilter;
+import com.healthsync.gateway.loadbalancer.LatencyAwareLoadBalancerConfiguration;
+import com.healthsync.gateway.loadbalancer.ServiceInstanceRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gateway 부하 분산 설정을 관리하는 클래스입니다.
+ * {@code lb://} 라우트와 부하 분산 WebClient 호출 모두 지연 시간 기반 부하 분산기를 사용합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class GatewayLoadBalancerConfig {
+
+    /**
+     * 서비스 인스턴스 레지스트리를 생성합니다.
+     *
+     * @param properties 부하 분산 설정
+     * @return ServiceInstanceRegistry
+     */
+    @Bean
+    public ServiceInstanceRegistry serviceInstanceRegistry(GatewayLoadBalancerProperties properties) {
+        return new ServiceInstanceRegistry(properties.getInstances(), properties.getInstancesFile(),
+                properties.getReloadInterval());
+    }
+
+    /**
+     * 인스턴스별 처리 중 요청/지연 시간 통계 레지스트리를 생성합니다.
+     *
+     * @param properties 부하 분산 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @return InstanceStatsRegistry
+     */
+    @Bean
+    public InstanceStatsRegistry instanceStatsRegistry(GatewayLoadBalancerProperties properties,
+                                                       MeterRegistry meterRegistry) {
+        return new InstanceStatsRegistry(properties.getDecayTime(), properties.getOutstandingMaxAge(), meterRegistry);
+    }
+
+    /**
+     * 취소된 라우트 요청의 처리 중 요청 수를 반납하는 글로벌 필터를 생성합니다.
+     *
+     * @param instanceStatsRegistry 인스턴스 통계 레지스트리
+     * @return 부하 분산 임대 반납 글로벌 필터
+     */
+    @Bean
+    public InstanceStatsReleaseFilter instanceStatsReleaseFilter(InstanceStatsRegistry instanceStatsRegistry) {
+        return new InstanceStatsReleaseFilter(instanceStatsRegistry);
+    }
+}
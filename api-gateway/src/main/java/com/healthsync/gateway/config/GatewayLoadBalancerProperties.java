@@ -0,0 +1,67 @@
+package com.healthsync.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gateway 부하 분산 설정 정보를 관리하는 클래스입니다.
+ * 서비스 인스턴스 목록은 정적 설정과 재적재 가능한 파일에서 가져오며, 파일에 정의된 서비스는 정적 설정보다 우선합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gateway.load-balancer")
+public class GatewayLoadBalancerProperties {
+
+    /**
+     * 인스턴스 선택 전략
+     */
+    private Strategy strategy = Strategy.PEAK_EWMA;
+
+    /**
+     * 지연 시간 EWMA의 감쇠 시간
+     */
+    private Duration decayTime = Duration.ofSeconds(10);
+
+    /**
+     * 완료/취소 콜백 없이 남은 처리 중 요청을 집계에서 제외하기까지의 최대 시간 (가장 긴 요청보다 길게 설정)
+     */
+    private Duration outstandingMaxAge = Duration.ofMinutes(2);
+
+    /**
+     * 서비스별 정적 인스턴스 URL 목록
+     */
+    private Map<String, List<String>> instances = new LinkedHashMap<>();
+
+    /**
+     * 인스턴스 목록 파일 경로 (serviceId=url1,url2 형식의 properties 파일, 비어 있으면 사용하지 않음)
+     */
+    private String instancesFile;
+
+    /**
+     * 인스턴스 목록 파일 변경 확인 주기
+     */
+    private Duration reloadInterval = Duration.ofSeconds(5);
+
+    /**
+     * 인스턴스 선택 전략
+     */
+    public enum Strategy {
+        /**
+         * 처리 중 요청 수가 가장 적은 인스턴스 선택
+         */
+        LEAST_OUTSTANDING,
+        /**
+         * 최근 최대 지연 시간 EWMA와 처리 중 요청 수의 곱이 가장 작은 인스턴스 선택
+         */
+        PEAK_EWMA
+    }
+}
@@ -0,0 +1,89 @@
+package com.healthsync.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway 요청 제한(Rate Limit) 설정 정보를 관리하는 클래스입니다.
+ * 정책은 선언 순서대로 평가되며 처음 일치한 정책 하나만 적용됩니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class GatewayRateLimitProperties {
+
+    /**
+     * 요청 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * Redis 버킷 키 접두사
+     */
+    private String keyPrefix = "gateway:rate-limit";
+
+    /**
+     * Redis 장애 시 요청 허용 여부
+     */
+    private boolean failOpen = true;
+
+    /**
+     * 요청 제한 정책 목록
+     */
+    private List<Policy> policies = new ArrayList<>();
+
+    /**
+     * 경로/메서드 단위 요청 제한 정책입니다.
+     * 사용자 버킷과 라우트 전체 버킷을 함께 검사하며, 충전량이 0 이하인 버킷은 검사하지 않습니다.
+     */
+    @Data
+    public static class Policy {
+
+        /**
+         * 정책 이름 (버킷 키와 메트릭 태그에 사용)
+         */
+        private String name;
+
+        /**
+         * 적용 경로 패턴
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * 적용 HTTP 메서드 (비어 있으면 전체)
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * 사용자별 초당 충전 토큰 수
+         */
+        private double userReplenishRate;
+
+        /**
+         * 사용자별 최대 토큰 수
+         */
+        private long userBurstCapacity;
+
+        /**
+         * 라우트 전체 초당 충전 토큰 수
+         */
+        private double routeReplenishRate;
+
+        /**
+         * 라우트 전체 최대 토큰 수
+         */
+        private long routeBurstCapacity;
+
+        /**
+         * 요청당 소비 토큰 수
+         */
+        private long requestedTokens = 1;
+    }
+}
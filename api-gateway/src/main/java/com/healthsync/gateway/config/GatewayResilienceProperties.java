@@ -0,0 +1,94 @@
+package com.healthsync.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Gateway 라우트별 재시도 예산 및 헤지 요청 설정 정보를 관리하는 클래스입니다.
+ * 서킷 브레이커 임계값은 resilience4j.circuitbreaker 설정을 따르며, 라우트 ID가 브레이커 이름이 됩니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gateway.resilience")
+public class GatewayResilienceProperties {
+
+    private static final Route DEFAULT_ROUTE = new Route();
+
+    /**
+     * 복원력 계층 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 라우트 ID별 설정 (없는 라우트는 기본값 사용)
+     */
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    /**
+     * 라우트 설정을 반환합니다.
+     *
+     * @param routeId 라우트 ID
+     * @return 라우트 설정
+     */
+    public Route route(String routeId) {
+        Route route = routes.get(routeId);
+        return route != null ? route : DEFAULT_ROUTE;
+    }
+
+    /**
+     * 라우트 단위 재시도/헤지 설정입니다.
+     */
+    @Data
+    public static class Route {
+
+        /**
+         * 요청 한 건당 적립되는 재시도 예산 비율 (%)
+         */
+        private double retryBudgetPercent = 10;
+
+        /**
+         * 트래픽이 적을 때도 허용하는 초당 최소 재시도 수
+         */
+        private double minRetriesPerSecond = 1;
+
+        /**
+         * 요청당 최대 재시도 횟수 (GET/HEAD의 연결 오류/타임아웃에만 적용)
+         */
+        private int maxRetries = 1;
+
+        /**
+         * GET 헤지 요청 사용 여부
+         */
+        private boolean hedgeEnabled = false;
+
+        /**
+         * 헤지 요청 지연의 기준 분위수
+         */
+        private double hedgeQuantile = 0.95;
+
+        /**
+         * 헤지 요청 최소 지연 시간
+         */
+        private Duration hedgeMinDelay = Duration.ofMillis(20);
+
+        /**
+         * 헤지 요청 최대 지연 시간 (표본이 부족할 때도 사용)
+         */
+        private Duration hedgeMaxDelay = Duration.ofSeconds(1);
+
+        /**
+         * 헤지 응답 본문을 메모리에 모을 수 있는 최대 크기 (초과하면 헤지 응답을 버리고 주 요청 응답을 사용)
+         */
+        private DataSize hedgeMaxBodySize = DataSize.ofMegabytes(1);
+    }
+}
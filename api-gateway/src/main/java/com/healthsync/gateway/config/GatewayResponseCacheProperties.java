@@ -0,0 +1,59 @@
+package com.healthsync.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway 응답 캐시 설정 정보를 관리하는 클래스입니다.
+ * 규칙은 선언 순서대로 평가되며 처음 일치한 규칙의 TTL이 적용됩니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class GatewayResponseCacheProperties {
+
+    /**
+     * 응답 캐시 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 최대 캐시 항목 수
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * 캐시할 응답 본문의 최대 크기 (bytes)
+     */
+    private int maxBodyBytes = 256 * 1024;
+
+    /**
+     * 캐시 대상 경로 규칙 목록
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 경로 단위 캐시 규칙입니다.
+     */
+    @Data
+    public static class Rule {
+
+        /**
+         * 적용 경로 패턴
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * 캐시 유지 시간
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,40 @@
+package com.healthsync.gateway.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 홈 화면 대시보드 응답 DTO 클래스입니다.
+ * 각 항목은 하위 서비스 응답의 data 필드를 그대로 담으며, 실패한 항목은 null입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대시보드 응답")
+public class DashboardResponse {
+
+    @Schema(description = "활성 미션 (goal-service)")
+    private JsonNode activeMissions;
+
+    @Schema(description = "AI 건강 진단 (intelligence-service)")
+    private JsonNode healthDiagnosis;
+
+    @Schema(description = "건강검진 이력 (health-service)")
+    private JsonNode checkupHistory;
+
+    @Schema(description = "독려 메시지 (motivator-service)")
+    private JsonNode encouragement;
+
+    @Schema(description = "조회에 실패했거나 제한 시간을 초과한 항목")
+    private List<String> failedParts;
+}
@@ -0,0 +1,145 @@
+package com.healthsync.gateway.filter;
+
+import com.healthsync.gateway.config.GatewayConcurrencyProperties;
+import com.healthsync.gateway.config.GatewayConcurrencyProperties.PriorityRule;
+import com.healthsync.gateway.resilience.GradientConcurrencyLimiter;
+import com.healthsync.gateway.resilience.RequestPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 적응형 동시성 한도를 적용하고 한도 초과 시 낮은 우선순위 요청부터 차단하는 글로벌 필터입니다.
+ * 응답 캐시/요청 병합 이후에 실행되므로 실제로 하위 서비스로 전달되는 요청만 한도를 사용합니다.
+ * 한도는 라우트별로 따로 계산하므로 LLM/스트리밍처럼 느린 라우트의 응답 시간이 빠른 라우트의 한도를 낮추지 않습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class AdaptiveConcurrencyFilter implements GlobalFilter, Ordered {
+
+    public static final String LIMIT_METRIC = "healthsync.gateway.concurrency.limit";
+    public static final String INFLIGHT_METRIC = "healthsync.gateway.concurrency.inflight";
+    public static final String SHED_METRIC = "healthsync.gateway.concurrency.shed";
+
+    private static final String DEFAULT_ROUTE = "default";
+
+    private final Map<String, GradientConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final GatewayConcurrencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * AdaptiveConcurrencyFilter 생성자
+     *
+     * @param properties 동시성 한도 설정
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public AdaptiveConcurrencyFilter(GatewayConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : DEFAULT_ROUTE;
+        GradientConcurrencyLimiter limiter = limiters.computeIfAbsent(routeId, this::createLimiter);
+
+        RequestPriority priority = resolvePriority(exchange.getRequest());
+        if (!limiter.tryAcquire(priority)) {
+            shedCounter(routeId, priority).increment();
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return exchange.getResponse().setComplete();
+        }
+
+        long start = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (released.compareAndSet(false, true)) {
+                        limiter.release(isLatencySample(exchange, signal) ? System.nanoTime() - start : -1);
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 55;
+    }
+
+    private GradientConcurrencyLimiter createLimiter(String routeId) {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties.getInitialLimit(),
+                properties.getMinLimit(), properties.getMaxLimit(), properties.getSmoothing(),
+                properties.getRttTolerance(), properties.getLongWindow(), properties.getLowPriorityShare(),
+                properties.getNormalPriorityShare());
+        Gauge.builder(LIMIT_METRIC, limiter, GradientConcurrencyLimiter::getLimit)
+                .description("Gateway 라우트별 적응형 동시성 한도")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder(INFLIGHT_METRIC, limiter, GradientConcurrencyLimiter::getInflight)
+                .description("Gateway 라우트별 동시성 한도 내 처리 중 요청 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    private RequestPriority resolvePriority(ServerHttpRequest request) {
+        String path = request.getPath().value();
+        String method = request.getMethod().name();
+        for (PriorityRule rule : properties.getPriorities()) {
+            if (!rule.getMethods().isEmpty() && !rule.getMethods().contains(method)) {
+                continue;
+            }
+            for (String pattern : rule.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return rule.getPriority();
+                }
+            }
+        }
+        return properties.getDefaultPriority();
+    }
+
+    /**
+     * 정상 완료된 응답의 처리 시간만 한도 계산에 사용합니다.
+     * 오류/취소/5xx 응답과 스트리밍 응답은 하위 서비스의 처리 지연을 대표하지 않으므로 제외합니다.
+     */
+    private boolean isLatencySample(ServerWebExchange exchange, SignalType signal) {
+        if (signal != SignalType.ON_COMPLETE
+                || StreamingResponseFilter.isStreamingResponse(exchange.getResponse().getHeaders())) {
+            return false;
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status == null || !status.is5xxServerError();
+    }
+
+    private Counter shedCounter(String routeId, RequestPriority priority) {
+        return Counter.builder(SHED_METRIC)
+                .description("동시성 한도 초과로 차단된 요청 수")
+                .tag("route", routeId)
+                .tag("priority", priority.name())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,111 @@
+package com.healthsync.gateway.filter;
+
+import com.healthsync.common.util.IdentityHeaderUtil;
+import com.healthsync.gateway.auth.GatewayAuthenticator;
+import com.healthsync.gateway.auth.VerifiedToken;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Gateway에서 Bearer 토큰을 한 번만 검증하고 서명된 신원 헤더를 내부 서비스로 전달하는 글로벌 필터입니다.
+ * 로그아웃으로 폐기된 토큰은 거부하며, 폐기 여부는 대부분 로컬 Bloom 필터만으로 판정합니다.
+ * 클라이언트가 직접 보낸 신원 헤더는 항상 제거합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 인증된 사용자 ID를 보관하는 exchange 속성 이름
+     */
+    public static final String USER_ID_ATTR = JwtAuthenticationFilter.class.getName() + ".userId";
+
+    private final GatewayAuthenticator authenticator;
+    private final List<String> publicPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * JwtAuthenticationFilter 생성자
+     *
+     * @param authenticator 토큰 검증/폐기 확인 인증기
+     * @param publicPaths 인증 제외 경로 패턴
+     */
+    public JwtAuthenticationFilter(GatewayAuthenticator authenticator, List<String> publicPaths) {
+        this.authenticator = authenticator;
+        this.publicPaths = List.copyOf(publicPaths);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        if (request.getMethod() == HttpMethod.OPTIONS || isPublicPath(request.getPath().value())) {
+            return chain.filter(withIdentityHeader(exchange, null));
+        }
+
+        return authenticator.authenticate(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .flatMap(verified -> verified.isPresent()
+                        ? authenticated(exchange, chain, verified.get())
+                        : unauthorized(exchange));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 20;
+    }
+
+    private Mono<Void> authenticated(ServerWebExchange exchange, GatewayFilterChain chain, VerifiedToken verified) {
+        exchange.getAttributes().put(USER_ID_ATTR, verified.getUserId());
+        return chain.filter(withIdentityHeader(exchange, verified.getIdentityHeaderValue()));
+    }
+
+    private Mono<Void> unauthorized(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        return exchange.getResponse().setComplete();
+    }
+
+    /**
+     * 클라이언트가 보낸 신원 헤더를 제거하고 필요 시 Gateway가 서명한 값으로 교체합니다.
+     *
+     * @param exchange ServerWebExchange
+     * @param identityHeaderValue 서명된 신원 헤더 값 (없으면 null)
+     * @return 헤더가 정리된 ServerWebExchange
+     */
+    private ServerWebExchange withIdentityHeader(ServerWebExchange exchange, String identityHeaderValue) {
+        if (identityHeaderValue == null
+                && !exchange.getRequest().getHeaders().containsKey(IdentityHeaderUtil.IDENTITY_HEADER)) {
+            return exchange;
+        }
+
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove(IdentityHeaderUtil.IDENTITY_HEADER);
+                    if (identityHeaderValue != null) {
+                        headers.set(IdentityHeaderUtil.IDENTITY_HEADER, identityHeaderValue);
+                    }
+                })
+                .build();
+        return exchange.mutate().request(request).build();
+    }
+
+    private boolean isPublicPath(String path) {
+        for (String pattern : publicPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,173 @@
+package com.healthsync.gateway.filter;
+
+import com.healthsync.gateway.config.GatewayRateLimitProperties;
+import com.healthsync.gateway.config.GatewayRateLimitProperties.Policy;
+import com.healthsync.gateway.ratelimit.RateLimitDecision;
+import com.healthsync.gateway.ratelimit.RedisTokenBucketRateLimiter;
+import com.healthsync.gateway.ratelimit.RedisTokenBucketRateLimiter.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별/라우트별 토큰 버킷으로 요청을 제한하는 글로벌 필터입니다.
+ * 인증 필터 이후에 실행되어 인증된 사용자 ID를, 없으면 클라이언트 IP를 버킷 키로 사용합니다.
+ * 제한을 초과한 요청은 하위 서비스로 전달하지 않고 429와 Retry-After 헤더로 응답합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    public static final String REJECTED_METRIC = "healthsync.gateway.rate-limit.rejected";
+    public static final String ERROR_METRIC = "healthsync.gateway.rate-limit.errors";
+
+    private static final String UNKNOWN_ROUTE = "unmatched";
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private final RedisTokenBucketRateLimiter rateLimiter;
+    private final GatewayRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * RateLimitFilter 생성자
+     *
+     * @param rateLimiter 토큰 버킷 요청 제한기
+     * @param properties 요청 제한 설정
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public RateLimitFilter(RedisTokenBucketRateLimiter rateLimiter, GatewayRateLimitProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        Policy policy = resolvePolicy(exchange.getRequest());
+        if (policy == null) {
+            return chain.filter(exchange);
+        }
+
+        return rateLimiter.tryConsume(buckets(exchange, policy), policy.getRequestedTokens())
+                .onErrorResume(e -> {
+                    log.warn("요청 제한 검사 실패: policy={}, error={}", policy.getName(), e.getMessage());
+                    errorCounter(policy).increment();
+                    return properties.isFailOpen()
+                            ? Mono.just(RateLimitDecision.allowed())
+                            : Mono.just(new RateLimitDecision(false, 1000));
+                })
+                .defaultIfEmpty(RateLimitDecision.allowed())
+                .flatMap(decision -> {
+                    if (decision.isAllowed()) {
+                        return chain.filter(exchange);
+                    }
+                    rejectedCounter(policy).increment();
+                    exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                    exchange.getResponse().getHeaders()
+                            .set(HttpHeaders.RETRY_AFTER, String.valueOf(decision.getRetryAfterSeconds()));
+                    return exchange.getResponse().setComplete();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 30;
+    }
+
+    /**
+     * 요청 경로/메서드에 처음 일치하는 정책을 반환합니다.
+     *
+     * @param request 요청
+     * @return 적용 정책 (없으면 null)
+     */
+    private Policy resolvePolicy(ServerHttpRequest request) {
+        String path = request.getPath().value();
+        String method = request.getMethod().name();
+        for (Policy policy : properties.getPolicies()) {
+            if (!policy.getMethods().isEmpty() && !policy.getMethods().contains(method)) {
+                continue;
+            }
+            for (String pattern : policy.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return policy;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 정책에 따라 검사할 사용자 버킷과 라우트 버킷을 구성합니다.
+     *
+     * @param exchange ServerWebExchange
+     * @param policy 적용 정책
+     * @return 버킷 목록
+     */
+    private List<Bucket> buckets(ServerWebExchange exchange, Policy policy) {
+        String prefix = properties.getKeyPrefix() + ":" + policy.getName();
+        List<Bucket> buckets = new ArrayList<>(2);
+        if (policy.getUserReplenishRate() > 0 && policy.getUserBurstCapacity() > 0) {
+            buckets.add(new Bucket(prefix + ":client:" + resolveClientKey(exchange),
+                    policy.getUserReplenishRate(), policy.getUserBurstCapacity()));
+        }
+        if (policy.getRouteReplenishRate() > 0 && policy.getRouteBurstCapacity() > 0) {
+            buckets.add(new Bucket(prefix + ":route:" + resolveRouteId(exchange),
+                    policy.getRouteReplenishRate(), policy.getRouteBurstCapacity()));
+        }
+        return buckets;
+    }
+
+    private String resolveClientKey(ServerWebExchange exchange) {
+        String userId = exchange.getAttribute(JwtAuthenticationFilter.USER_ID_ATTR);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "ip:" + UNKNOWN_CLIENT;
+        }
+        return "ip:" + remoteAddress.getAddress().getHostAddress();
+    }
+
+    private String resolveRouteId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : UNKNOWN_ROUTE;
+    }
+
+    private Counter rejectedCounter(Policy policy) {
+        return Counter.builder(REJECTED_METRIC)
+                .description("요청 제한으로 거부된 요청 수")
+                .tag("policy", policy.getName())
+                .register(meterRegistry);
+    }
+
+    private Counter errorCounter(Policy policy) {
+        return Counter.builder(ERROR_METRIC)
+                .description("요청 제한 검사 중 발생한 Redis 오류 수")
+                .tag("policy", policy.getName())
+                .register(meterRegistry);
+    }
+}
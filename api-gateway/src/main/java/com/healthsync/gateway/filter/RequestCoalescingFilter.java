@@ -0,0 +1,218 @@
+package com.healthsync.gateway.filter;
+
+import com.healthsync.gateway.cache.SharedResponse;
+import com.healthsync.gateway.config.GatewayCoalescingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동일 사용자의 동일한 GET 요청이 동시에 들어오면 하위 서비스 호출을 한 번으로 병합하는 글로벌 필터입니다.
+ * 설정된 경로(허용 목록)만 대상으로 하며, leader의 응답은 버퍼링 없이 그대로 전달하고 공유용 사본만 최대 크기까지 보관합니다.
+ * 먼저 도착한 요청(leader)만 하위 서비스를 호출하고, 이후 요청(follower)은 그 응답을 공유합니다.
+ * leader가 응답을 공유하지 못하면(오류, 취소, 스트리밍, 최대 크기 초과) follower는 각자 하위 서비스를 호출합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    public static final String COALESCED_METRIC = "healthsync.gateway.requests.coalesced";
+
+    private static final String UNKNOWN_ROUTE = "unmatched";
+    private static final List<String> UNSHARED_HEADERS = List.of(
+            HttpHeaders.SET_COOKIE, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION);
+
+    private final GatewayCoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * RequestCoalescingFilter 생성자
+     *
+     * @param properties 요청 병합 설정
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public RequestCoalescingFilter(GatewayCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String userId = exchange.getAttribute(JwtAuthenticationFilter.USER_ID_ATTR);
+        if (!properties.isEnabled() || userId == null || request.getMethod() != HttpMethod.GET
+                || StreamingResponseFilter.isStreamingRequest(request) || !isTargetPath(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = resolveRouteId(exchange);
+        String key = routeId + '|' + userId + '|' + request.getURI().getRawPath()
+                + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : "");
+
+        Sinks.One<SharedResponse> sink = Sinks.one();
+        Sinks.One<SharedResponse> existing = inFlight.putIfAbsent(key, sink);
+        if (existing != null) {
+            return follow(exchange, chain, existing, routeId);
+        }
+
+        ServerHttpResponse leaderResponse = new SharingResponseDecorator(exchange.getResponse(), key, sink);
+        return chain.filter(exchange.mutate().response(leaderResponse).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, sink);
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 50;
+    }
+
+    /**
+     * 진행 중인 leader의 응답을 기다렸다가 그대로 기록합니다.
+     *
+     * @param exchange ServerWebExchange
+     * @param chain 필터 체인
+     * @param leader 진행 중인 leader 응답
+     * @param routeId 라우트 ID
+     * @return 완료 Mono
+     */
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain,
+                              Sinks.One<SharedResponse> leader, String routeId) {
+        return leader.asMono()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(shared -> {
+                    if (shared.isEmpty()) {
+                        return chain.filter(exchange);
+                    }
+                    coalescedCounter(routeId).increment();
+                    return writeShared(exchange.getResponse(), shared.get());
+                });
+    }
+
+    private Mono<Void> writeShared(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.getStatusCode());
+        shared.getHeaders().forEach((name, values) -> {
+            if (!response.getHeaders().containsKey(name)) {
+                response.getHeaders().put(name, values);
+            }
+        });
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.getBody())));
+    }
+
+    private boolean isTargetPath(String path) {
+        for (String pattern : properties.getPaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String resolveRouteId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : UNKNOWN_ROUTE;
+    }
+
+    private Counter coalescedCounter(String routeId) {
+        return Counter.builder(COALESCED_METRIC)
+                .description("다른 진행 중 요청의 응답을 공유한 요청 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    /**
+     * leader 응답 본문을 모아 대기 중인 follower와 공유하는 응답 데코레이터입니다.
+     */
+    private class SharingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final Sinks.One<SharedResponse> sink;
+
+        SharingResponseDecorator(ServerHttpResponse delegate, String key, Sinks.One<SharedResponse> sink) {
+            super(delegate);
+            this.key = key;
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long contentLength = getHeaders().getContentLength();
+            if (getStatusCode() == null || StreamingResponseFilter.isStreamingResponse(getHeaders())
+                    || contentLength > properties.getMaxBodyBytes()) {
+                release();
+                return super.writeWith(body);
+            }
+
+            // 본문은 그대로 흘려보내고, 공유용 사본은 최대 크기까지만 복사합니다.
+            ByteArrayOutputStream copy = new ByteArrayOutputStream(contentLength > 0 ? (int) contentLength : 256);
+            AtomicBoolean overflowed = new AtomicBoolean();
+            Flux<? extends DataBuffer> teed = Flux.from(body)
+                    .doOnNext(buffer -> {
+                        if (overflowed.get()) {
+                            return;
+                        }
+                        int count = buffer.readableByteCount();
+                        if (copy.size() + count > properties.getMaxBodyBytes()) {
+                            overflowed.set(true);
+                            release();
+                            return;
+                        }
+                        int position = buffer.readPosition();
+                        byte[] bytes = new byte[count];
+                        buffer.read(bytes);
+                        buffer.readPosition(position);
+                        copy.writeBytes(bytes);
+                    })
+                    .doOnComplete(() -> {
+                        inFlight.remove(key, sink);
+                        if (!overflowed.get()) {
+                            sink.tryEmitValue(new SharedResponse(getStatusCode(), sharedHeaders(), copy.toByteArray()));
+                        }
+                    });
+            return super.writeWith(teed);
+        }
+
+        /**
+         * 응답을 공유하지 않기로 하고 대기 중인 follower가 각자 하위 서비스를 호출하도록 합니다.
+         */
+        private void release() {
+            inFlight.remove(key, sink);
+            sink.tryEmitEmpty();
+        }
+
+        private HttpHeaders sharedHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(getHeaders());
+            UNSHARED_HEADERS.forEach(headers::remove);
+            return headers;
+        }
+    }
+}
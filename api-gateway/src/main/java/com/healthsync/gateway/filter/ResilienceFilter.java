@@ -0,0 +1,372 @@
+package com.healthsync.gateway.filter;
+
+import com.healthsync.gateway.cache.SharedResponse;
+import com.healthsync.gateway.config.GatewayResilienceProperties;
+import com.healthsync.gateway.resilience.LatencyQuantileTracker;
+import com.healthsync.gateway.resilience.RetryBudget;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라우트별 서킷 브레이커, 재시도 예산, GET 헤지 요청을 적용하는 글로벌 필터입니다.
+ * <ul>
+ *     <li>서킷 브레이커: 라우트 ID를 이름으로 사용하며 5xx/오류/타임아웃을 실패로 기록합니다. 열린 상태에서는 503으로 즉시 응답합니다.</li>
+ *     <li>재시도: GET/HEAD 요청이 응답 전 연결 오류나 타임아웃으로 실패하면 재시도 예산 안에서 다른 인스턴스로 다시 보냅니다.</li>
+ *     <li>헤지: 설정된 라우트의 GET 요청은 주 요청을 평소처럼 필터 체인으로 보내고, 최근 p95 응답 시간이 지나도
+ *     응답 쓰기가 시작되지 않았을 때만 같은 요청을 한 번 더 보냅니다. 주 요청이 먼저 응답을 쓰기 시작하면 헤지 요청을 취소하고,
+ *     헤지 응답이 먼저 도착하면 주 요청을 취소합니다. 헤지 요청은 라우트 필터를 거치지 않고 경로를 그대로 전달하므로
+ *     경로 재작성이 필요한 라우트에는 사용하지 않으며, 응답 본문이 {@code hedge-max-body-size}를 넘거나 스트리밍/5xx 응답이면 버립니다.</li>
+ * </ul>
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class ResilienceFilter implements GlobalFilter, Ordered {
+
+    public static final String RETRY_METRIC = "healthsync.gateway.retries";
+    public static final String HEDGE_METRIC = "healthsync.gateway.hedged-requests";
+
+    private static final String LOAD_BALANCED_SCHEME = "lb";
+    private static final int NO_WINNER = 0;
+    private static final int PRIMARY_WINNER = 1;
+    private static final int HEDGE_WINNER = 2;
+    private static final List<String> UNFORWARDED_HEADERS = List.of(
+            HttpHeaders.HOST, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONNECTION, HttpHeaders.TRANSFER_ENCODING);
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final GatewayResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final WebClient webClient;
+    private final WebClient loadBalancedWebClient;
+    private final Map<String, RouteState> routeStates = new ConcurrentHashMap<>();
+
+    /**
+     * ResilienceFilter 생성자
+     *
+     * @param circuitBreakerRegistry 서킷 브레이커 레지스트리
+     * @param properties 복원력 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @param loadBalancerFilter 부하 분산 WebClient 필터 (헤지 요청용)
+     */
+    public ResilienceFilter(CircuitBreakerRegistry circuitBreakerRegistry, GatewayResilienceProperties properties,
+                            MeterRegistry meterRegistry, ReactorLoadBalancerExchangeFilterFunction loadBalancerFilter) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.webClient = WebClient.builder().build();
+        this.loadBalancedWebClient = WebClient.builder().filter(loadBalancerFilter).build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        RouteState state = routeStates.computeIfAbsent(route.getId(), this::createState);
+        state.retryBudget.deposit();
+
+        CircuitBreaker breaker = state.circuitBreaker;
+        if (!breaker.tryAcquirePermission()) {
+            return rejectOpenCircuit(exchange, breaker);
+        }
+
+        long start = breaker.getCurrentTimestamp();
+        HttpMethod method = exchange.getRequest().getMethod();
+        Mono<Void> call = state.config.isHedgeEnabled() && method == HttpMethod.GET
+                && !StreamingResponseFilter.isStreamingRequest(exchange.getRequest())
+                ? hedged(exchange, chain, route, state)
+                : proceed(exchange, chain, state, method, 0);
+
+        return call
+                .doOnSuccess(ignored -> {
+                    long duration = breaker.getCurrentTimestamp() - start;
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (status != null && status.is5xxServerError()) {
+                        breaker.onError(duration, breaker.getTimestampUnit(), new UpstreamServerError(status));
+                    } else if (StreamingResponseFilter.isStreamingResponse(exchange.getResponse().getHeaders())) {
+                        // 스트리밍 응답의 전체 시간은 지연이 아니므로 느린 호출로 기록하지 않습니다.
+                        breaker.onSuccess(0, breaker.getTimestampUnit());
+                    } else {
+                        breaker.onSuccess(duration, breaker.getTimestampUnit());
+                        state.latency.record(breaker.getTimestampUnit().toNanos(duration));
+                    }
+                })
+                .doOnError(e -> breaker.onError(breaker.getCurrentTimestamp() - start, breaker.getTimestampUnit(), e))
+                .doOnCancel(breaker::releasePermission);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 60;
+    }
+
+    /**
+     * 하위 필터 체인을 실행하고, 멱등 요청이 응답 전 실패하면 재시도 예산 안에서 다시 실행합니다.
+     *
+     * @param exchange ServerWebExchange
+     * @param chain 필터 체인
+     * @param state 라우트 상태
+     * @param method HTTP 메서드
+     * @param attempt 현재 재시도 횟수
+     * @return 완료 Mono
+     */
+    private Mono<Void> proceed(ServerWebExchange exchange, GatewayFilterChain chain, RouteState state,
+                               HttpMethod method, int attempt) {
+        return chain.filter(exchange).onErrorResume(e -> {
+            boolean idempotent = method == HttpMethod.GET || method == HttpMethod.HEAD;
+            if (!idempotent || e instanceof HedgeWonException || attempt >= state.config.getMaxRetries()
+                    || exchange.getResponse().isCommitted() || !state.retryBudget.tryWithdraw()) {
+                return Mono.error(e);
+            }
+
+            log.debug("하위 서비스 요청 재시도: route={}, attempt={}, error={}", state.routeId, attempt + 1, e.toString());
+            counter(RETRY_METRIC, "재시도 예산으로 허용된 재시도 수", state.routeId).increment();
+            ServerWebExchangeUtils.reset(exchange);
+            return proceed(exchange, chain, state, method, attempt + 1);
+        });
+    }
+
+    /**
+     * 주 요청을 필터 체인으로 보내고, p95 지연 후에도 응답 쓰기가 시작되지 않았으면 헤지 요청을 보냅니다.
+     * 응답을 먼저 쓰기 시작한 쪽이 이기며, 진 쪽은 취소됩니다.
+     *
+     * @param exchange ServerWebExchange
+     * @param chain 필터 체인
+     * @param route 라우트
+     * @param state 라우트 상태
+     * @return 완료 Mono
+     */
+    private Mono<Void> hedged(ServerWebExchange exchange, GatewayFilterChain chain, Route route, RouteState state) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        AtomicInteger winner = new AtomicInteger(NO_WINNER);
+
+        ServerWebExchange primaryExchange = exchange.mutate()
+                .response(new PrimaryResponseDecorator(response, winner))
+                .build();
+        Mono<Boolean> primary = proceed(primaryExchange, chain, state, HttpMethod.GET, 0)
+                .thenReturn(Boolean.TRUE);
+
+        boolean loadBalanced = LOAD_BALANCED_SCHEME.equals(route.getUri().getScheme());
+        URI target = URI.create((loadBalanced ? "http://" + route.getUri().getHost() : route.getUri().toString())
+                + request.getURI().getRawPath()
+                + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : ""));
+        WebClient client = loadBalanced ? loadBalancedWebClient : webClient;
+        Mono<Boolean> hedge = Mono.delay(hedgeDelay(state))
+                .filter(tick -> winner.get() == NO_WINNER && !response.isCommitted()
+                        && state.retryBudget.tryWithdraw())
+                .flatMap(tick -> {
+                    counter(HEDGE_METRIC, "p95 지연 이후 전송된 헤지 요청 수", state.routeId).increment();
+                    return send(client, target, request, responseTimeout(route),
+                            (int) state.config.getHedgeMaxBodySize().toBytes());
+                })
+                .filter(upstream -> winner.compareAndSet(NO_WINNER, HEDGE_WINNER))
+                .flatMap(upstream -> write(response, upstream))
+                .thenReturn(Boolean.TRUE);
+
+        return Mono.firstWithValue(primary, hedge)
+                .onErrorMap(NoSuchElementException.class,
+                        e -> e.getSuppressed().length > 0 ? e.getSuppressed()[0] : e)
+                .then();
+    }
+
+    private Mono<SharedResponse> send(WebClient client, URI target, ServerHttpRequest request, Duration timeout,
+                                      int maxBodyBytes) {
+        Mono<SharedResponse> call = client.method(request.getMethod())
+                .uri(target)
+                .headers(headers -> request.getHeaders().forEach((name, values) -> {
+                    if (UNFORWARDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                        headers.put(name, values);
+                    }
+                }))
+                .exchangeToMono(response -> {
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    if (response.statusCode().is5xxServerError() || StreamingResponseFilter.isStreamingResponse(headers)) {
+                        // 주 요청보다 나을 것이 없는 응답이므로 버리고 주 요청을 기다립니다.
+                        return response.releaseBody().then(Mono.empty());
+                    }
+                    return DataBufferUtils.join(response.bodyToFlux(DataBuffer.class), maxBodyBytes)
+                            .map(ResilienceFilter::toBytes)
+                            .defaultIfEmpty(new byte[0])
+                            .map(body -> new SharedResponse(response.statusCode(), headers, body));
+                });
+        return timeout != null ? call.timeout(timeout) : call;
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, SharedResponse upstream) {
+        response.setStatusCode(upstream.getStatusCode());
+        upstream.getHeaders().forEach((name, values) -> {
+            if (UNFORWARDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)
+                    && !response.getHeaders().containsKey(name)) {
+                response.getHeaders().put(name, values);
+            }
+        });
+        response.getHeaders().setContentLength(upstream.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(upstream.getBody())));
+    }
+
+    private Duration hedgeDelay(RouteState state) {
+        long minNanos = state.config.getHedgeMinDelay().toNanos();
+        long maxNanos = state.config.getHedgeMaxDelay().toNanos();
+        long quantileNanos = state.latency.quantileNanos();
+        if (quantileNanos < 0) {
+            return Duration.ofNanos(maxNanos);
+        }
+        return Duration.ofNanos(Math.max(minNanos, Math.min(maxNanos, quantileNanos)));
+    }
+
+    private Duration responseTimeout(Route route) {
+        Object value = route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR);
+        if (value instanceof Number number) {
+            return number.longValue() >= 0 ? Duration.ofMillis(number.longValue()) : null;
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            long millis = Long.parseLong(text.trim());
+            return millis >= 0 ? Duration.ofMillis(millis) : null;
+        }
+        return null;
+    }
+
+    private Mono<Void> rejectOpenCircuit(ServerWebExchange exchange, CircuitBreaker breaker) {
+        log.debug("서킷 브레이커 열림으로 요청 거부: {}", CallNotPermittedException.createCallNotPermittedException(breaker).getMessage());
+        long waitMillis = breaker.getCircuitBreakerConfig().getWaitIntervalFunctionInOpenState().apply(1);
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        exchange.getResponse().getHeaders()
+                .set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMillis))));
+        return exchange.getResponse().setComplete();
+    }
+
+    private RouteState createState(String routeId) {
+        GatewayResilienceProperties.Route config = properties.route(routeId);
+        return new RouteState(routeId, config, circuitBreakerRegistry.circuitBreaker(routeId),
+                new RetryBudget(config.getRetryBudgetPercent(), config.getMinRetriesPerSecond()),
+                new LatencyQuantileTracker(config.getHedgeQuantile()));
+    }
+
+    private Counter counter(String name, String description, String routeId) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 라우트별 서킷 브레이커, 재시도 예산, 지연 시간 추적 상태입니다.
+     */
+    private static class RouteState {
+
+        private final String routeId;
+        private final GatewayResilienceProperties.Route config;
+        private final CircuitBreaker circuitBreaker;
+        private final RetryBudget retryBudget;
+        private final LatencyQuantileTracker latency;
+
+        RouteState(String routeId, GatewayResilienceProperties.Route config, CircuitBreaker circuitBreaker,
+                   RetryBudget retryBudget, LatencyQuantileTracker latency) {
+            this.routeId = routeId;
+            this.config = config;
+            this.circuitBreaker = circuitBreaker;
+            this.retryBudget = retryBudget;
+            this.latency = latency;
+        }
+    }
+
+    /**
+     * 주 요청의 응답 쓰기를 헤지 요청과 경쟁시키는 응답 데코레이터입니다.
+     * 헤지 응답이 먼저 쓰기를 시작했으면 주 요청의 쓰기를 거부합니다.
+     */
+    private static class PrimaryResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final AtomicInteger winner;
+
+        PrimaryResponseDecorator(ServerHttpResponse delegate, AtomicInteger winner) {
+            super(delegate);
+            this.winner = winner;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return claim() ? super.writeWith(body) : Mono.error(new HedgeWonException());
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return claim() ? super.writeAndFlushWith(body) : Mono.error(new HedgeWonException());
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return claim() ? super.setComplete() : Mono.error(new HedgeWonException());
+        }
+
+        private boolean claim() {
+            return winner.compareAndSet(NO_WINNER, PRIMARY_WINNER) || winner.get() == PRIMARY_WINNER;
+        }
+    }
+
+    /**
+     * 헤지 응답이 먼저 쓰여 주 요청의 응답을 버렸음을 나타내는 예외입니다.
+     */
+    private static class HedgeWonException extends RuntimeException {
+
+        HedgeWonException() {
+            super("헤지 응답이 먼저 도착하여 주 요청 응답을 버림", null, false, false);
+        }
+    }
+
+    /**
+     * 하위 서비스의 5xx 응답을 서킷 브레이커 실패로 기록하기 위한 예외입니다.
+     */
+    private static class UpstreamServerError extends RuntimeException {
+
+        UpstreamServerError(HttpStatusCode status) {
+            super("하위 서비스 응답 오류: " + status.value(), null, false, false);
+        }
+    }
+}
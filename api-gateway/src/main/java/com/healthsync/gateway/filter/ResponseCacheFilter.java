@@ -0,0 +1,229 @@
+package com.healthsync.gateway.filter;
+
+import com.healthsync.gateway.cache.CachedResponse;
+import com.healthsync.gateway.cache.GatewayResponseCache;
+import com.healthsync.gateway.config.GatewayResponseCacheProperties;
+import com.healthsync.gateway.config.GatewayResponseCacheProperties.Rule;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 사용자별 GET 응답을 캐싱하고 ETag 기반 조건부 요청(If-None-Match)에 304로 응답하는 글로벌 필터입니다.
+ * 캐시 적중 시 하위 서비스를 호출하지 않으며, 같은 사용자의 변경 요청(POST/PUT/DELETE 등) 이후에는
+ * 해당 사용자의 캐시 항목을 모두 무효화합니다 (다른 Gateway 인스턴스 포함).
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+    private static final String REVALIDATE_CACHE_CONTROL = "private, no-cache";
+
+    private final GatewayResponseCache responseCache;
+    private final GatewayResponseCacheProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * ResponseCacheFilter 생성자
+     *
+     * @param responseCache 응답 캐시
+     * @param properties 응답 캐시 설정
+     */
+    public ResponseCacheFilter(GatewayResponseCache responseCache, GatewayResponseCacheProperties properties) {
+        this.responseCache = responseCache;
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String userId = exchange.getAttribute(JwtAuthenticationFilter.USER_ID_ATTR);
+        if (!properties.isEnabled() || userId == null) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        HttpMethod method = request.getMethod();
+        if (method != HttpMethod.GET) {
+            if (method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+                return chain.filter(exchange);
+            }
+            return chain.filter(exchange)
+                    .doFinally(signal -> responseCache.invalidateUser(userId));
+        }
+
+        Rule rule = resolveRule(request.getPath().value());
+        if (rule == null || StreamingResponseFilter.isStreamingRequest(request)) {
+            return chain.filter(exchange);
+        }
+
+        String cacheKey = responseCache.key(userId, request.getURI().getRawPath()
+                + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : ""));
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+
+        if (!request.getHeaders().getCacheControl().contains("no-cache")) {
+            CachedResponse cached = responseCache.get(cacheKey);
+            if (cached != null) {
+                return writeCached(exchange.getResponse(), cached, ifNoneMatch);
+            }
+        }
+
+        long expiresAtMillis = System.currentTimeMillis() + rule.getTtl().toMillis();
+        ServerHttpResponse cachingResponse =
+                new CachingResponseDecorator(exchange.getResponse(), cacheKey, expiresAtMillis, ifNoneMatch);
+        return chain.filter(exchange.mutate().response(cachingResponse).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 40;
+    }
+
+    /**
+     * 캐시된 응답을 하위 서비스 호출 없이 기록합니다.
+     *
+     * @param response 응답
+     * @param cached 캐시된 응답
+     * @param ifNoneMatch 요청의 If-None-Match 값
+     * @return 완료 Mono
+     */
+    private Mono<Void> writeCached(ServerHttpResponse response, CachedResponse cached, List<String> ifNoneMatch) {
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.getEtag());
+        headers.setCacheControl(REVALIDATE_CACHE_CONTROL);
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+
+        if (matches(ifNoneMatch, cached.getEtag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.getContentType() != null) {
+            headers.setContentType(cached.getContentType());
+        }
+        headers.setContentLength(cached.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    private Rule resolveRule(String path) {
+        for (Rule rule : properties.getRules()) {
+            for (String pattern : rule.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * If-None-Match 값 중 ETag와 일치하는 항목이 있는지 확인합니다 (약한 비교).
+     *
+     * @param ifNoneMatch 요청의 If-None-Match 값
+     * @param etag 현재 ETag
+     * @return 일치 여부
+     */
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            String value = candidate.trim();
+            if ("*".equals(value) || stripWeak(value).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    /**
+     * 하위 서비스의 200 응답 본문을 모아 ETag를 부여하고 캐시에 저장하는 응답 데코레이터입니다.
+     */
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final String cacheKey;
+        private final long expiresAtMillis;
+        private final List<String> ifNoneMatch;
+
+        CachingResponseDecorator(ServerHttpResponse delegate, String cacheKey, long expiresAtMillis,
+                                 List<String> ifNoneMatch) {
+            super(delegate);
+            this.cacheKey = cacheKey;
+            this.expiresAtMillis = expiresAtMillis;
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body)
+                    .map(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        return bytes;
+                    })
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(this::writeAndCache);
+        }
+
+        private Mono<Void> writeAndCache(byte[] bytes) {
+            HttpHeaders headers = getHeaders();
+            String etag = GatewayResponseCache.etag(bytes);
+            if (bytes.length <= properties.getMaxBodyBytes()) {
+                responseCache.put(cacheKey, new CachedResponse(bytes, headers.getContentType(), etag, expiresAtMillis));
+            }
+
+            headers.setETag(etag);
+            if (!headers.containsKey(HttpHeaders.CACHE_CONTROL)) {
+                headers.setCacheControl(REVALIDATE_CACHE_CONTROL);
+            }
+            headers.set(CACHE_STATUS_HEADER, "MISS");
+
+            if (matches(ifNoneMatch, etag)) {
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                return getDelegate().setComplete();
+            }
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+
+        private boolean isCacheable() {
+            HttpStatusCode status = getStatusCode();
+            if (status == null || status.value() != HttpStatus.OK.value()) {
+                return false;
+            }
+            HttpHeaders headers = getHeaders();
+            if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+                return false;
+            }
+            if (StreamingResponseFilter.isStreamingResponse(headers)) {
+                return false;
+            }
+            String cacheControl = headers.getCacheControl();
+            return cacheControl == null || !cacheControl.contains("no-store");
+        }
+    }
+}
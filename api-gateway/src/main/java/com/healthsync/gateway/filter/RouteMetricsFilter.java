@@ -0,0 +1,133 @@
+package com.healthsync.gateway.filter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라우트별 지연 시간과 처리 중 요청 수를 Micrometer로 기록하는 글로벌 필터입니다.
+ * 이벤트 루프 스레드에서 블로킹 I/O 없이 메트릭만 갱신합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class RouteMetricsFilter implements GlobalFilter, Ordered {
+
+    public static final String REQUEST_METRIC = "healthsync.gateway.requests";
+    public static final String ACTIVE_METRIC = "healthsync.gateway.requests.active";
+
+    private static final String UNKNOWN_ROUTE = "unmatched";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> activeRequests = new ConcurrentHashMap<>();
+
+    /**
+     * RouteMetricsFilter 생성자
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public RouteMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String routeId = resolveRouteId(exchange);
+        String method = exchange.getRequest().getMethod().name();
+        AtomicInteger active = activeRequests.computeIfAbsent(routeId, this::registerActiveGauge);
+
+        active.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    active.decrementAndGet();
+                    sample.stop(requestTimer(routeId, method, resolveStatus(exchange, signal), resolveOutcome(exchange, signal)));
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    /**
+     * 라우트/메서드/상태 조합에 해당하는 타이머를 반환합니다.
+     * Micrometer가 동일 태그 조합의 타이머를 캐싱하므로 매 요청 생성 비용은 조회 수준입니다.
+     *
+     * @param routeId 라우트 ID
+     * @param method HTTP 메서드
+     * @param status HTTP 상태 코드
+     * @param outcome 결과 분류
+     * @return Timer
+     */
+    private Timer requestTimer(String routeId, String method, String status, String outcome) {
+        return Timer.builder(REQUEST_METRIC)
+                .description("Gateway 라우트별 요청 처리 시간")
+                .tag("route", routeId)
+                .tag("method", method)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 라우트별 처리 중 요청 게이지를 등록합니다.
+     *
+     * @param routeId 라우트 ID
+     * @return 처리 중 요청 카운터
+     */
+    private AtomicInteger registerActiveGauge(String routeId) {
+        AtomicInteger counter = new AtomicInteger();
+        Gauge.builder(ACTIVE_METRIC, counter, AtomicInteger::get)
+                .description("Gateway 라우트별 처리 중 요청 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return counter;
+    }
+
+    private String resolveRouteId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : UNKNOWN_ROUTE;
+    }
+
+    private String resolveStatus(ServerWebExchange exchange, SignalType signal) {
+        if (signal == SignalType.CANCEL) {
+            return "CLIENT_CLOSED";
+        }
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        return statusCode != null ? String.valueOf(statusCode.value()) : "UNKNOWN";
+    }
+
+    private String resolveOutcome(ServerWebExchange exchange, SignalType signal) {
+        if (signal == SignalType.CANCEL) {
+            return "CANCELLED";
+        }
+        if (signal == SignalType.ON_ERROR) {
+            return "ERROR";
+        }
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        if (statusCode == null) {
+            return "UNKNOWN";
+        }
+        if (statusCode.is2xxSuccessful() || statusCode.is3xxRedirection()) {
+            return "SUCCESS";
+        }
+        return statusCode.is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+}
@@ -0,0 +1,156 @@
+package com.healthsync.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 스트리밍 응답(SSE 등)에 라우트별 유휴 제한 시간을 적용하고 중간 프록시의 버퍼링을 끄는 글로벌 필터입니다.
+ * 라우트 metadata의 {@code idle-timeout}(ms) 동안 다음 청크가 오지 않으면 스트림을 종료합니다.
+ * 클라이언트 연결이 끊기면 응답 쓰기 구독이 취소되고, Gateway가 하위 서비스 연결을 정리하여 취소가 전파됩니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class StreamingResponseFilter implements GlobalFilter, Ordered {
+
+    public static final String IDLE_TIMEOUT_ATTR = "idle-timeout";
+    public static final String STREAM_METRIC = "healthsync.gateway.streams";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * StreamingResponseFilter 생성자
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public StreamingResponseFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 클라이언트가 스트리밍 응답을 요청했는지 확인합니다.
+     * 응답 본문을 모으는 필터(응답 캐시, 요청 병합, 헤지)는 이 요청을 처리하지 않습니다.
+     *
+     * @param request 요청
+     * @return 스트리밍 요청 여부
+     */
+    public static boolean isStreamingRequest(ServerHttpRequest request) {
+        for (MediaType accept : request.getHeaders().getAccept()) {
+            if (MediaType.TEXT_EVENT_STREAM.equalsTypeAndSubtype(accept)
+                    || MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(accept)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 응답이 스트리밍 형식인지 확인합니다.
+     *
+     * @param headers 응답 헤더
+     * @return 스트리밍 응답 여부
+     */
+    public static boolean isStreamingResponse(HttpHeaders headers) {
+        MediaType contentType = headers.getContentType();
+        return contentType != null && (MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType)
+                || MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        Duration idleTimeout = idleTimeout(route);
+        ServerHttpResponse response = new StreamingResponseDecorator(exchange.getResponse(), route.getId(), idleTimeout);
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 15;
+    }
+
+    private Duration idleTimeout(Route route) {
+        Object value = route.getMetadata().get(IDLE_TIMEOUT_ATTR);
+        if (value instanceof Number number) {
+            return Duration.ofMillis(number.longValue());
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            return Duration.ofMillis(Long.parseLong(text.trim()));
+        }
+        return null;
+    }
+
+    private Counter streamCounter(String routeId, String outcome) {
+        return Counter.builder(STREAM_METRIC)
+                .description("Gateway를 통과한 스트리밍 응답 수")
+                .tag("route", routeId)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트리밍 응답 청크 사이에 유휴 제한 시간을 적용하는 응답 데코레이터입니다.
+     */
+    private class StreamingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final String routeId;
+        private final Duration idleTimeout;
+
+        StreamingResponseDecorator(ServerHttpResponse delegate, String routeId, Duration idleTimeout) {
+            super(delegate);
+            this.routeId = routeId;
+            this.idleTimeout = idleTimeout;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isStreamingResponse(getHeaders())) {
+                return super.writeWith(body);
+            }
+            return super.writeWith(stream(Flux.from(body)));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            if (!isStreamingResponse(getHeaders())) {
+                return super.writeAndFlushWith(body);
+            }
+            return super.writeAndFlushWith(stream(Flux.from(body)));
+        }
+
+        private <T> Flux<T> stream(Flux<T> body) {
+            HttpHeaders headers = getHeaders();
+            headers.setCacheControl("no-cache");
+            headers.set("X-Accel-Buffering", "no");
+
+            Flux<T> stream = idleTimeout != null ? body.timeout(idleTimeout) : body;
+            return stream
+                    .doOnComplete(() -> streamCounter(routeId, "COMPLETED").increment())
+                    .doOnError(e -> streamCounter(routeId,
+                            e instanceof TimeoutException ? "IDLE_TIMEOUT" : "ERROR").increment())
+                    .doOnCancel(() -> streamCounter(routeId, "CANCELLED").increment());
+        }
+    }
+}
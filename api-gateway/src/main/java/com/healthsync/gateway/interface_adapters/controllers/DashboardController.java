@@ -0,0 +1,78 @@
+package com.healthsync.gateway.interface_adapters.controllers;
+
+import com.healthsync.common.dto.ApiResponse;
+import com.healthsync.common.util.IdentityHeaderUtil;
+import com.healthsync.gateway.application_services.DashboardUseCase;
+import com.healthsync.gateway.dto.DashboardResponse;
+import com.healthsync.gateway.filter.JwtAuthenticationFilter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 홈 화면 대시보드 집계 API를 제공하는 컨트롤러입니다.
+ * 클라이언트는 /api/dashboard 라우트로 호출하며, 라우트가 이 경로로 전달(forward)하므로
+ * 인증, 요청 제한, 동시성 한도, 서킷 브레이커 등 모든 글로벌 필터를 거친 요청만 처리합니다.
+ * 라우트를 거치지 않고 직접 들어온 요청에는 인증 필터가 남긴 사용자 정보가 없으므로 401로 응답합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping(DashboardController.FORWARD_PATH)
+@RequiredArgsConstructor
+@Tag(name = "대시보드", description = "홈 화면 집계 API")
+public class DashboardController {
+
+    /**
+     * /api/dashboard 라우트가 전달하는 내부 경로
+     */
+    public static final String FORWARD_PATH = "/internal/dashboard";
+
+    private final DashboardUseCase dashboardUseCase;
+
+    /**
+     * 홈 화면 대시보드를 조회합니다.
+     *
+     * @param exchange 인증 필터를 거친 ServerWebExchange
+     * @return 대시보드 데이터
+     */
+    @GetMapping
+    @Operation(summary = "대시보드 조회", description = "활성 미션, AI 진단, 검진 이력, 독려 메시지를 한 번에 조회합니다")
+    public Mono<ResponseEntity<ApiResponse<DashboardResponse>>> getDashboard(ServerWebExchange exchange) {
+        String userId = exchange.getAttribute(JwtAuthenticationFilter.USER_ID_ATTR);
+        String identityHeaderValue = exchange.getRequest().getHeaders().getFirst(IdentityHeaderUtil.IDENTITY_HEADER);
+        if (userId == null || identityHeaderValue == null) {
+            return Mono.just(unauthorized());
+        }
+
+        log.info("대시보드 조회 요청: userId={}", userId);
+        return dashboardUseCase.getDashboard(userId, identityHeaderValue)
+                .map(response -> {
+                    log.info("대시보드 조회 완료: userId={}, failedParts={}", userId, response.getFailedParts());
+                    String message = response.getFailedParts().isEmpty()
+                            ? "대시보드 조회가 완료되었습니다."
+                            : "일부 항목을 제외하고 대시보드 조회가 완료되었습니다.";
+                    return ResponseEntity.ok(ApiResponse.success(message, response));
+                });
+    }
+
+    private ResponseEntity<ApiResponse<DashboardResponse>> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                .body(ApiResponse.<DashboardResponse>builder()
+                        .status(HttpStatus.UNAUTHORIZED.value())
+                        .message("인증이 필요합니다.")
+                        .build());
+    }
+}
@@ -0,0 +1,41 @@
+package com.healthsync.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * {@link ServiceInstanceRegistry}에서 서비스 인스턴스 목록을 가져오는 공급자입니다.
+ * 선택 시점마다 레지스트리를 조회하므로 파일 재적재 결과가 다음 요청부터 바로 반영됩니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class ConfiguredServiceInstanceListSupplier implements ServiceInstanceListSupplier {
+
+    private final String serviceId;
+    private final ServiceInstanceRegistry registry;
+
+    /**
+     * ConfiguredServiceInstanceListSupplier 생성자
+     *
+     * @param serviceId 서비스 ID
+     * @param registry 서비스 인스턴스 레지스트리
+     */
+    public ConfiguredServiceInstanceListSupplier(String serviceId, ServiceInstanceRegistry registry) {
+        this.serviceId = serviceId;
+        this.registry = registry;
+    }
+
+    @Override
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return Flux.defer(() -> Flux.just(registry.getInstances(serviceId)));
+    }
+}
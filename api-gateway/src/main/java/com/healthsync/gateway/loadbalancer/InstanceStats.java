@@ -0,0 +1,158 @@
+package com.healthsync.gateway.loadbalancer;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서비스 인스턴스 하나의 처리 중 요청 수와 peak-EWMA 지연 시간을 보관합니다.
+ * 새 표본이 현재 값보다 크면 즉시 반영하고, 작으면 경과 시간에 따라 천천히 감쇠시켜
+ * 느려진 인스턴스를 빠르게 회피하고 회복된 인스턴스는 점진적으로 다시 사용합니다.
+ * 처리 중 요청은 요청별 {@link Lease}로 관리하여, 완료 콜백 없이 취소된 요청도 한 번만 반납되고
+ * 반납되지 않은 오래된 요청은 {@link #expireStale(long)}으로 정리됩니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class InstanceStats {
+
+    /**
+     * 지연 시간 표본이 없는 인스턴스에 처리 중 요청이 있을 때 부여하는 비용 (ms)
+     */
+    private static final double UNOBSERVED_PENALTY_MILLIS = 1_000;
+
+    private final long decayNanos;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final Set<Lease> leases = ConcurrentHashMap.newKeySet();
+
+    private double ewmaMillis;
+    private long lastUpdateNanos;
+
+    /**
+     * InstanceStats 생성자
+     *
+     * @param decayNanos EWMA 감쇠 시간 (ns)
+     */
+    public InstanceStats(long decayNanos) {
+        this.decayNanos = decayNanos;
+        this.lastUpdateNanos = System.nanoTime();
+    }
+
+    /**
+     * 요청 시작을 기록합니다.
+     *
+     * @return 요청 완료 또는 취소 시 반납할 임대
+     */
+    public Lease onStart() {
+        Lease lease = new Lease(System.nanoTime());
+        leases.add(lease);
+        outstanding.incrementAndGet();
+        return lease;
+    }
+
+    /**
+     * 시작 후 최대 보관 시간이 지나도록 반납되지 않은 요청을 처리 중 요청 수에서 제외합니다.
+     *
+     * @param maxAgeNanos 최대 보관 시간 (ns)
+     * @return 정리한 요청 수
+     */
+    public int expireStale(long maxAgeNanos) {
+        long now = System.nanoTime();
+        int expired = 0;
+        for (Lease lease : leases) {
+            if (now - lease.startNanos > maxAgeNanos && lease.release(-1)) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 처리 중 요청 수를 반환합니다.
+     *
+     * @return 처리 중 요청 수
+     */
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * 현재 시각 기준으로 감쇠된 EWMA 지연 시간을 반환합니다.
+     *
+     * @return EWMA 지연 시간 (ms)
+     */
+    public synchronized double getEwmaMillis() {
+        return ewmaMillis * decayWeight(System.nanoTime() - lastUpdateNanos);
+    }
+
+    /**
+     * peak-EWMA 비용을 계산합니다.
+     *
+     * @return 비용 (작을수록 우선)
+     */
+    public double peakEwmaCost() {
+        int pending = outstanding.get();
+        double latency = getEwmaMillis();
+        if (latency == 0 && pending > 0) {
+            return UNOBSERVED_PENALTY_MILLIS + pending;
+        }
+        return latency * (pending + 1);
+    }
+
+    private synchronized void observe(double sampleMillis) {
+        long now = System.nanoTime();
+        if (sampleMillis > ewmaMillis) {
+            ewmaMillis = sampleMillis;
+        } else {
+            double weight = decayWeight(now - lastUpdateNanos);
+            ewmaMillis = ewmaMillis * weight + sampleMillis * (1 - weight);
+        }
+        lastUpdateNanos = now;
+    }
+
+    private double decayWeight(long elapsedNanos) {
+        return Math.exp(-Math.max(elapsedNanos, 0) / (double) decayNanos);
+    }
+
+    /**
+     * 요청 하나가 차지한 처리 중 요청 슬롯입니다.
+     * 완료, 취소, 만료 중 먼저 일어난 경우에만 반납됩니다.
+     */
+    public class Lease {
+
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * 요청 시작 시각을 반환합니다.
+         *
+         * @return 시작 시각 (ns)
+         */
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        /**
+         * 요청 완료를 기록하고 처리 중 요청 수를 반납합니다.
+         *
+         * @param latencyNanos 응답 시간 (ns, 측정하지 못했으면 음수)
+         * @return 이번 호출로 반납했으면 true, 이미 반납되었으면 false
+         */
+        public boolean release(long latencyNanos) {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            leases.remove(this);
+            outstanding.decrementAndGet();
+            if (latencyNanos >= 0) {
+                observe(latencyNanos / 1_000_000.0);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.healthsync.gateway.loadbalancer;
+
+import com.healthsync.gateway.filter.StreamingResponseFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스별 처리 중 요청 수와 지연 시간을 수집하는 부하 분산 생명주기 리스너입니다.
+ * Gateway 라우트와 부하 분산 WebClient 호출 모두에서 요청 시작/완료 시점에 호출됩니다.
+ * 취소된 요청은 완료 콜백이 호출되지 않으므로, 요청 속성에 보관한 임대를 {@link #release(Map)}로 반납하고
+ * 그래도 남은 임대는 최대 보관 시간이 지나면 주기적으로 정리합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class InstanceStatsRegistry implements LoadBalancerLifecycle<Object, Object, ServiceInstance>, SmartLifecycle {
+
+    public static final String OUTSTANDING_METRIC = "healthsync.gateway.lb.outstanding";
+    public static final String LATENCY_METRIC = "healthsync.gateway.lb.latency.ewma";
+    public static final String EXPIRED_METRIC = "healthsync.gateway.lb.outstanding.expired";
+
+    private static final String LEASE_ATTR = InstanceStatsRegistry.class.getName() + ".lease";
+
+    private final long decayNanos;
+    private final Duration outstandingMaxAge;
+    private final MeterRegistry meterRegistry;
+    private final Counter expired;
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    private volatile Disposable sweeper;
+
+    /**
+     * InstanceStatsRegistry 생성자
+     *
+     * @param decayTime EWMA 감쇠 시간
+     * @param outstandingMaxAge 반납되지 않은 처리 중 요청의 최대 보관 시간
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public InstanceStatsRegistry(Duration decayTime, Duration outstandingMaxAge, MeterRegistry meterRegistry) {
+        this.decayNanos = decayTime.toNanos();
+        this.outstandingMaxAge = outstandingMaxAge;
+        this.meterRegistry = meterRegistry;
+        this.expired = Counter.builder(EXPIRED_METRIC)
+                .description("완료 콜백 없이 최대 보관 시간이 지나 정리된 처리 중 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        Duration interval = outstandingMaxAge.dividedBy(2);
+        sweeper = Flux.interval(interval, interval)
+                .subscribe(tick -> expireStale());
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = sweeper;
+        if (current != null) {
+            current.dispose();
+            sweeper = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return sweeper != null;
+    }
+
+    /**
+     * 요청 속성에 보관된 임대를 반납합니다. 이미 완료 콜백으로 반납되었으면 아무 일도 하지 않습니다.
+     * 요청이 취소되어 완료 콜백이 호출되지 않는 경로에서 호출합니다.
+     *
+     * @param attributes 요청 속성
+     */
+    public void release(Map<String, Object> attributes) {
+        if (attributes.get(LEASE_ATTR) instanceof InstanceStats.Lease lease) {
+            lease.release(-1);
+        }
+    }
+
+    /**
+     * 인스턴스 통계를 반환합니다.
+     *
+     * @param instance 서비스 인스턴스
+     * @return 인스턴스 통계
+     */
+    public InstanceStats get(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), key -> register(instance));
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        Map<String, Object> attributes = attributes(request);
+        if (attributes == null) {
+            return;
+        }
+        InstanceStats.Lease lease = get(lbResponse.getServer()).onStart();
+        try {
+            attributes.put(LEASE_ATTR, lease);
+        } catch (UnsupportedOperationException e) {
+            // 불변 속성 맵이면 완료 시점에 임대를 찾을 수 없으므로 바로 반납하고 집계하지 않습니다.
+            lease.release(-1);
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+
+        Map<String, Object> attributes = attributes(completionContext.getLoadBalancerRequest());
+        if (attributes == null || !(attributes.get(LEASE_ATTR) instanceof InstanceStats.Lease lease)) {
+            return;
+        }
+        long latencyNanos = System.nanoTime() - lease.getStartNanos();
+        if (completionContext.status() == CompletionContext.Status.DISCARD || isStreaming(completionContext)) {
+            latencyNanos = -1;
+        }
+        lease.release(latencyNanos);
+    }
+
+    private void expireStale() {
+        long maxAgeNanos = outstandingMaxAge.toNanos();
+        int count = 0;
+        for (InstanceStats instanceStats : stats.values()) {
+            count += instanceStats.expireStale(maxAgeNanos);
+        }
+        if (count > 0) {
+            expired.increment(count);
+            log.warn("완료되지 않은 처리 중 요청 정리: count={}, maxAge={}", count, outstandingMaxAge);
+        }
+    }
+
+    /**
+     * 스트리밍 응답은 전체 시간이 지연을 대표하지 않으므로 EWMA 표본에서 제외합니다.
+     */
+    private boolean isStreaming(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        return completionContext.getClientResponse() instanceof ResponseData responseData
+                && responseData.getHeaders() != null
+                && StreamingResponseFilter.isStreamingResponse(responseData.getHeaders());
+    }
+
+    private Map<String, Object> attributes(Request<Object> request) {
+        if (request != null && request.getContext() instanceof RequestDataContext context
+                && context.getClientRequest() != null) {
+            return context.getClientRequest().getAttributes();
+        }
+        return null;
+    }
+
+    private InstanceStats register(ServiceInstance instance) {
+        InstanceStats instanceStats = new InstanceStats(decayNanos);
+        String address = instance.getHost() + ":" + instance.getPort();
+        Gauge.builder(OUTSTANDING_METRIC, instanceStats, InstanceStats::getOutstanding)
+                .description("인스턴스별 처리 중 요청 수")
+                .tag("service", instance.getServiceId())
+                .tag("instance", address)
+                .register(meterRegistry);
+        Gauge.builder(LATENCY_METRIC, instanceStats, InstanceStats::getEwmaMillis)
+                .description("인스턴스별 peak-EWMA 지연 시간 (ms)")
+                .tag("service", instance.getServiceId())
+                .tag("instance", address)
+                .register(meterRegistry);
+        return instanceStats;
+    }
+
+    private String key(ServiceInstance instance) {
+        return instance.getServiceId() + "/" + instance.getHost() + ":" + instance.getPort();
+    }
+}
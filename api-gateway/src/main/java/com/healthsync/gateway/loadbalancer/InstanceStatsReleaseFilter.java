@@ -0,0 +1,41 @@
+package com.healthsync.gateway.loadbalancer;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 라우트 처리가 끝나면 부하 분산 임대를 반납하는 글로벌 필터입니다.
+ * 부하 분산 필터는 성공/오류 시에만 완료 콜백을 호출하므로, 클라이언트 연결 종료 등으로 취소된 요청의
+ * 처리 중 요청 수는 이 필터의 {@code doFinally}에서 반납합니다. 이미 반납된 임대에는 영향이 없습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class InstanceStatsReleaseFilter implements GlobalFilter, Ordered {
+
+    private final InstanceStatsRegistry statsRegistry;
+
+    /**
+     * InstanceStatsReleaseFilter 생성자
+     *
+     * @param statsRegistry 인스턴스 통계 레지스트리
+     */
+    public InstanceStatsReleaseFilter(InstanceStatsRegistry statsRegistry) {
+        this.statsRegistry = statsRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return chain.filter(exchange)
+                .doFinally(signal -> statsRegistry.release(exchange.getAttributes()));
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    }
+}
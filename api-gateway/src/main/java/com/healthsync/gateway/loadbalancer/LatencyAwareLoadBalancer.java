@@ -0,0 +1,91 @@
+package com.healthsync.gateway.loadbalancer;
+
+import com.healthsync.gateway.config.GatewayLoadBalancerProperties.Strategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 처리 중 요청 수 또는 peak-EWMA 지연 시간을 기준으로 인스턴스를 고르는 부하 분산기입니다.
+ * 인스턴스가 셋 이상이면 무작위 두 개 중 비용이 낮은 쪽을 선택(power of two choices)하여
+ * 여러 Gateway 인스턴스가 같은 대상으로 몰리는 현상을 피합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final InstanceStatsRegistry statsRegistry;
+    private final Strategy strategy;
+
+    /**
+     * LatencyAwareLoadBalancer 생성자
+     *
+     * @param supplierProvider 인스턴스 목록 공급자
+     * @param serviceId 서비스 ID
+     * @param statsRegistry 인스턴스 통계 레지스트리
+     * @param strategy 선택 전략
+     */
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider, String serviceId,
+                                    InstanceStatsRegistry statsRegistry, Strategy strategy) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.statsRegistry = statsRegistry;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::select);
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("사용 가능한 인스턴스가 없습니다: serviceId={}", serviceId);
+            return new EmptyResponse();
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        if (instances.size() == 2) {
+            return new DefaultResponse(cheaper(instances.get(0), instances.get(1)));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        return new DefaultResponse(cheaper(instances.get(first), instances.get(second)));
+    }
+
+    private ServiceInstance cheaper(ServiceInstance a, ServiceInstance b) {
+        double costA = cost(a);
+        double costB = cost(b);
+        if (costA == costB) {
+            return ThreadLocalRandom.current().nextBoolean() ? a : b;
+        }
+        return costA < costB ? a : b;
+    }
+
+    private double cost(ServiceInstance instance) {
+        InstanceStats stats = statsRegistry.get(instance);
+        return strategy == Strategy.LEAST_OUTSTANDING ? stats.getOutstanding() : stats.peakEwmaCost();
+    }
+}
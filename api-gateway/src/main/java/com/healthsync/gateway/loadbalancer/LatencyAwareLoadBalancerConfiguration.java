@@ -0,0 +1,53 @@
+package com.healthsync.gateway.loadbalancer;
+
+import com.healthsync.gateway.config.GatewayLoadBalancerProperties;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 부하 분산 자식 컨텍스트에 적용되는 기본 설정입니다.
+ * 컴포넌트 스캔 대상이 되지 않도록 {@code @Configuration}을 붙이지 않고
+ * {@code @LoadBalancerClients(defaultConfiguration = ...)}로만 등록합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    /**
+     * 정적 설정/파일 기반 인스턴스 목록 공급자를 생성합니다.
+     *
+     * @param environment 자식 컨텍스트 환경
+     * @param registry 서비스 인스턴스 레지스트리
+     * @return ServiceInstanceListSupplier
+     */
+    @Bean
+    public ServiceInstanceListSupplier serviceInstanceListSupplier(Environment environment,
+                                                                   ServiceInstanceRegistry registry) {
+        return new ConfiguredServiceInstanceListSupplier(
+                environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME), registry);
+    }
+
+    /**
+     * 지연 시간 기반 부하 분산기를 생성합니다.
+     *
+     * @param environment 자식 컨텍스트 환경
+     * @param loadBalancerClientFactory 부하 분산 클라이언트 팩토리
+     * @param statsRegistry 인스턴스 통계 레지스트리
+     * @param properties 부하 분산 설정
+     * @return ReactorLoadBalancer
+     */
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(
+            Environment environment, LoadBalancerClientFactory loadBalancerClientFactory,
+            InstanceStatsRegistry statsRegistry, GatewayLoadBalancerProperties properties) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, statsRegistry, properties.getStrategy());
+    }
+}
@@ -0,0 +1,151 @@
+package com.healthsync.gateway.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 서비스별 인스턴스 목록을 보관하는 레지스트리입니다.
+ * 정적 설정을 기본으로 사용하고, 인스턴스 파일이 지정되면 백그라운드에서 변경 확인 주기마다 수정 시각을 비교해 다시 읽습니다.
+ * 조회는 volatile 필드에 게시된 불변 스냅샷만 읽으므로 부하 분산 선택 경로(이벤트 루프)에서 파일 I/O나 잠금이 없습니다.
+ * 파일을 읽지 못하면 마지막으로 성공한 목록을 유지합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class ServiceInstanceRegistry implements SmartLifecycle {
+
+    private final Map<String, List<ServiceInstance>> staticInstances;
+    private final Path instancesFile;
+    private final Duration reloadInterval;
+
+    private volatile Map<String, List<ServiceInstance>> snapshot;
+    private volatile Disposable reloader;
+    private FileTime lastModified;
+
+    /**
+     * ServiceInstanceRegistry 생성자
+     *
+     * @param staticUrls 서비스별 정적 인스턴스 URL 목록
+     * @param instancesFile 인스턴스 목록 파일 경로 (없으면 null)
+     * @param reloadInterval 파일 변경 확인 주기
+     */
+    public ServiceInstanceRegistry(Map<String, List<String>> staticUrls, String instancesFile, Duration reloadInterval) {
+        Map<String, List<ServiceInstance>> instances = new HashMap<>();
+        staticUrls.forEach((serviceId, urls) -> instances.put(serviceId, toInstances(serviceId, urls)));
+        this.staticInstances = Collections.unmodifiableMap(instances);
+        this.snapshot = staticInstances;
+        this.instancesFile = instancesFile == null || instancesFile.isBlank() ? null : Path.of(instancesFile);
+        this.reloadInterval = reloadInterval;
+        reloadIfModified();
+    }
+
+    @Override
+    public void start() {
+        if (instancesFile == null) {
+            return;
+        }
+        reloader = Flux.interval(reloadInterval, reloadInterval)
+                .concatMap(tick -> Mono.fromRunnable(this::reloadIfModified)
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = reloader;
+        if (current != null) {
+            current.dispose();
+            reloader = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return reloader != null;
+    }
+
+    /**
+     * 서비스 인스턴스 목록을 반환합니다.
+     *
+     * @param serviceId 서비스 ID
+     * @return 인스턴스 목록
+     */
+    public List<ServiceInstance> getInstances(String serviceId) {
+        return snapshot.getOrDefault(serviceId, Collections.emptyList());
+    }
+
+    /**
+     * 인스턴스 파일이 바뀌었으면 다시 읽어 정적 설정과 합친 스냅샷을 게시합니다.
+     * 생성자와 재적재 작업에서만 호출되므로 동시에 실행되지 않습니다.
+     */
+    private void reloadIfModified() {
+        if (instancesFile == null) {
+            return;
+        }
+
+        try {
+            FileTime modified = Files.getLastModifiedTime(instancesFile);
+            if (modified.equals(lastModified)) {
+                return;
+            }
+
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(instancesFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+
+            Map<String, List<ServiceInstance>> loaded = new HashMap<>();
+            for (String serviceId : properties.stringPropertyNames()) {
+                List<String> urls = new ArrayList<>();
+                for (String url : properties.getProperty(serviceId).split(",")) {
+                    if (!url.isBlank()) {
+                        urls.add(url.trim());
+                    }
+                }
+                loaded.put(serviceId, toInstances(serviceId, urls));
+            }
+
+            Map<String, List<ServiceInstance>> merged = new HashMap<>(staticInstances);
+            merged.putAll(loaded);
+            snapshot = Collections.unmodifiableMap(merged);
+            lastModified = modified;
+            log.info("서비스 인스턴스 목록 재적재 완료: file={}, services={}", instancesFile, loaded.keySet());
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("서비스 인스턴스 목록 파일 적재 실패, 기존 목록 유지: file={}, error={}", instancesFile, e.getMessage());
+        }
+    }
+
+    private static List<ServiceInstance> toInstances(String serviceId, List<String> urls) {
+        List<ServiceInstance> instances = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            URI uri = URI.create(url.trim());
+            boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+            int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+            instances.add(new DefaultServiceInstance(
+                    serviceId + "-" + uri.getHost() + "-" + port, serviceId, uri.getHost(), port, secure));
+        }
+        return List.copyOf(instances);
+    }
+}
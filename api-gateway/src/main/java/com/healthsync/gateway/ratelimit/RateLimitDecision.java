@@ -0,0 +1,38 @@
+package com.healthsync.gateway.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 버킷 검사 결과입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class RateLimitDecision {
+
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    private final boolean allowed;
+    private final long retryAfterMillis;
+
+    /**
+     * 허용 결과를 반환합니다.
+     *
+     * @return 허용 결과
+     */
+    public static RateLimitDecision allowed() {
+        return ALLOWED;
+    }
+
+    /**
+     * 재시도 헤더에 사용할 대기 시간(초)을 반환합니다.
+     *
+     * @return 대기 시간(초, 최소 1)
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
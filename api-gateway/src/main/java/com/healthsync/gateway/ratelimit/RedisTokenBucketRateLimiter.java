@@ -0,0 +1,77 @@
+package com.healthsync.gateway.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis Lua 스크립트로 여러 토큰 버킷을 한 번의 왕복으로 원자적으로 검사하는 요청 제한기입니다.
+ * 버킷 상태 계산은 Redis 서버 시각을 기준으로 하므로 Gateway 인스턴스 간 시계 차이의 영향을 받지 않습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class RedisTokenBucketRateLimiter {
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List<Long>> TOKEN_BUCKET_SCRIPT =
+            (RedisScript) RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    /**
+     * RedisTokenBucketRateLimiter 생성자
+     *
+     * @param redisTemplate Reactive Redis 템플릿
+     */
+    public RedisTokenBucketRateLimiter(ReactiveStringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 주어진 버킷 전체에서 토큰을 소비합니다.
+     * 하나의 버킷이라도 부족하면 어떤 버킷도 차감하지 않고 거부합니다.
+     *
+     * @param buckets 검사할 버킷 목록
+     * @param requestedTokens 소비할 토큰 수
+     * @return 검사 결과
+     */
+    public Mono<RateLimitDecision> tryConsume(List<Bucket> buckets, long requestedTokens) {
+        if (buckets.isEmpty()) {
+            return Mono.just(RateLimitDecision.allowed());
+        }
+
+        List<String> keys = new ArrayList<>(buckets.size());
+        List<String> args = new ArrayList<>(buckets.size() * 2 + 1);
+        args.add(String.valueOf(requestedTokens));
+        for (Bucket bucket : buckets) {
+            keys.add(bucket.getKey());
+            args.add(String.valueOf(bucket.getReplenishRate()));
+            args.add(String.valueOf(bucket.getBurstCapacity()));
+        }
+
+        return redisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys, args)
+                .next()
+                .map(result -> result.get(0) == 1L
+                        ? RateLimitDecision.allowed()
+                        : new RateLimitDecision(false, result.get(1)));
+    }
+
+    /**
+     * 토큰 버킷 정의입니다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Bucket {
+
+        private final String key;
+        private final double replenishRate;
+        private final long burstCapacity;
+    }
+}
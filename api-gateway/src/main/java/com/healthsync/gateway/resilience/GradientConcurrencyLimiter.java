@@ -0,0 +1,130 @@
+package com.healthsync.gateway.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측된 하위 서비스 응답 시간으로 동시성 한도를 스스로 조정하는 gradient 방식 제한기입니다.
+ * 단기 응답 시간이 장기 평균보다 커지면(대기열이 생기면) 한도를 줄이고, 같거나 작으면 sqrt(한도)만큼 늘립니다.
+ * 한도는 우선순위별 비율로 나뉘어 LOW 요청이 먼저 차단되고 HIGH 요청은 한도 전체를 사용할 수 있습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class GradientConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double longWindowFactor;
+    private final double lowShare;
+    private final double normalShare;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    /**
+     * GradientConcurrencyLimiter 생성자
+     *
+     * @param initialLimit 초기 한도
+     * @param minLimit 최소 한도
+     * @param maxLimit 최대 한도
+     * @param smoothing 새 한도 반영 비율
+     * @param rttTolerance 허용 응답 시간 증가 배율
+     * @param longWindow 장기 평균 표본 수
+     * @param lowShare LOW 우선순위 한도 비율
+     * @param normalShare NORMAL 우선순위 한도 비율
+     */
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing,
+                                      double rttTolerance, int longWindow, double lowShare, double normalShare) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.longWindowFactor = 2.0 / (longWindow + 1);
+        this.lowShare = lowShare;
+        this.normalShare = normalShare;
+    }
+
+    /**
+     * 우선순위에 허용된 한도 안에서 처리 슬롯을 획득합니다.
+     *
+     * @param priority 요청 우선순위
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = (int) Math.max(1, limit * share(priority));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 슬롯을 반환하고 응답 시간을 한도 계산에 반영합니다.
+     *
+     * @param rttNanos 응답 시간 (ns, 한도 계산에서 제외할 경우 음수)
+     */
+    public void release(long rttNanos) {
+        int inflightAtCompletion = inflight.getAndDecrement();
+        if (rttNanos > 0) {
+            update(rttNanos, inflightAtCompletion);
+        }
+    }
+
+    /**
+     * 현재 동시성 한도를 반환합니다.
+     *
+     * @return 동시성 한도
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 처리 중 요청 수를 반환합니다.
+     *
+     * @return 처리 중 요청 수
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inflightAtCompletion) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            return;
+        }
+
+        longRttNanos = longRttNanos * (1 - longWindowFactor) + rttNanos * longWindowFactor;
+        // 부하가 사라진 뒤 장기 평균이 높게 남아 한도가 과도하게 커지지 않도록 빠르게 낮춥니다.
+        if (longRttNanos / rttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        // 한도의 절반도 사용하지 않는 상태에서는 응답 시간이 한도를 대표하지 않으므로 갱신하지 않습니다.
+        if (inflightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        double next = limit * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    private double share(RequestPriority priority) {
+        return switch (priority) {
+            case LOW -> lowShare;
+            case NORMAL -> normalShare;
+            case HIGH -> 1.0;
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.healthsync.gateway.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 표본을 고정 크기 링 버퍼에 보관하고 분위수를 계산합니다.
+ * 분위수는 일정 주기마다 한 번만 다시 계산하여 요청 경로의 비용을 일정하게 유지합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class LatencyQuantileTracker {
+
+    private static final int CAPACITY = 256;
+    private static final int MIN_SAMPLES = 20;
+    private static final long RECOMPUTE_INTERVAL_NANOS = Duration.ofMillis(500).toNanos();
+
+    private final double quantile;
+    private final long[] samples = new long[CAPACITY];
+
+    private int count;
+    private int next;
+    private long cachedNanos = -1;
+    private long computedAtNanos;
+
+    /**
+     * LatencyQuantileTracker 생성자
+     *
+     * @param quantile 계산할 분위수 (0~1)
+     */
+    public LatencyQuantileTracker(double quantile) {
+        this.quantile = quantile;
+    }
+
+    /**
+     * 응답 시간 표본을 기록합니다.
+     *
+     * @param latencyNanos 응답 시간 (ns)
+     */
+    public synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % CAPACITY;
+        if (count < CAPACITY) {
+            count++;
+        }
+    }
+
+    /**
+     * 분위수 응답 시간을 반환합니다.
+     *
+     * @return 분위수 응답 시간 (ns, 표본이 부족하면 -1)
+     */
+    public synchronized long quantileNanos() {
+        long now = System.nanoTime();
+        if (count < MIN_SAMPLES) {
+            return -1;
+        }
+        if (cachedNanos < 0 || now - computedAtNanos >= RECOMPUTE_INTERVAL_NANOS) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            cachedNanos = sorted[Math.max(0, Math.min(count - 1, (int) Math.ceil(quantile * count) - 1))];
+            computedAtNanos = now;
+        }
+        return cachedNanos;
+    }
+}
@@ -0,0 +1,26 @@
+package com.healthsync.gateway.resilience;
+
+/**
+ * 동시성 한도 초과 시 요청을 차단하는 우선순위입니다.
+ * 낮은 우선순위일수록 한도의 더 작은 비율까지만 사용할 수 있어 먼저 차단됩니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public enum RequestPriority {
+
+    /**
+     * 배치 트리거, 이력 조회 등 지연되어도 되는 요청
+     */
+    LOW,
+
+    /**
+     * 일반 요청
+     */
+    NORMAL,
+
+    /**
+     * 로그인, 미션 완료 등 사용자 상호작용에 직접 영향을 주는 요청
+     */
+    HIGH
+}
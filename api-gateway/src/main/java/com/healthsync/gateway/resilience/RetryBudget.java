@@ -0,0 +1,65 @@
+package com.healthsync.gateway.resilience;
+
+/**
+ * 전체 요청 대비 일정 비율로만 재시도(헤지 포함)를 허용하는 재시도 예산입니다.
+ * 요청마다 비율만큼 토큰을 적립하고 재시도마다 1개를 소비하며,
+ * 트래픽이 적을 때를 위해 초당 최소 재시도 수만큼의 예비 토큰을 따로 충전합니다.
+ * 하위 서비스 장애 시 재시도가 부하를 몇 배로 늘리는 재시도 폭주를 막습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class RetryBudget {
+
+    private final double depositPerRequest;
+    private final double maxBalance;
+    private final double reservePerNano;
+    private final double maxReserve;
+
+    private double balance;
+    private double reserve;
+    private long lastRefillNanos;
+
+    /**
+     * RetryBudget 생성자
+     *
+     * @param percent 요청 대비 재시도 허용 비율 (%)
+     * @param minRetriesPerSecond 초당 최소 재시도 수
+     */
+    public RetryBudget(double percent, double minRetriesPerSecond) {
+        this.depositPerRequest = percent / 100.0;
+        this.maxBalance = Math.max(1.0, depositPerRequest * 100);
+        this.reservePerNano = minRetriesPerSecond / 1_000_000_000.0;
+        this.maxReserve = minRetriesPerSecond > 0 ? Math.max(1.0, minRetriesPerSecond) : 0;
+        this.reserve = maxReserve;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 요청 한 건에 대한 예산을 적립합니다.
+     */
+    public synchronized void deposit() {
+        balance = Math.min(maxBalance, balance + depositPerRequest);
+    }
+
+    /**
+     * 재시도 한 번에 필요한 예산을 소비합니다.
+     *
+     * @return 재시도 가능 여부
+     */
+    public synchronized boolean tryWithdraw() {
+        long now = System.nanoTime();
+        reserve = Math.min(maxReserve, reserve + (now - lastRefillNanos) * reservePerNano);
+        lastRefillNanos = now;
+
+        if (balance >= 1.0) {
+            balance -= 1.0;
+            return true;
+        }
+        if (reserve >= 1.0) {
+            reserve -= 1.0;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+-- 다중 토큰 버킷을 원자적으로 검사/차감합니다.
+-- 모든 버킷에 토큰이 충분할 때만 차감하며, 하나라도 부족하면 어떤 버킷도 차감하지 않습니다.
+--
+-- KEYS[i]       : 버킷 키 (hash: tokens, ts)
+-- ARGV[1]       : 요청당 소비 토큰 수
+-- ARGV[2i]      : KEYS[i]의 초당 충전 토큰 수
+-- ARGV[2i + 1]  : KEYS[i]의 최대 토큰 수 (버스트)
+--
+-- 반환값: { 허용 여부(1/0), 재시도까지 대기 시간(ms) }
+
+local requested = tonumber(ARGV[1])
+local clock = redis.call('TIME')
+local now = tonumber(clock[1]) * 1000 + math.floor(tonumber(clock[2]) / 1000)
+
+local tokens = {}
+local retry_after = 0
+
+for i = 1, #KEYS do
+  local rate = tonumber(ARGV[2 * i])
+  local capacity = tonumber(ARGV[2 * i + 1])
+  local state = redis.call('HMGET', KEYS[i], 'tokens', 'ts')
+  local current = tonumber(state[1])
+  local last = tonumber(state[2])
+
+  if current == nil or last == nil then
+    current = capacity
+    last = now
+  end
+
+  current = math.min(capacity, current + math.max(0, now - last) * rate / 1000)
+  tokens[i] = current
+
+  if current < requested then
+    local wait = math.ceil((requested - current) * 1000 / rate)
+    if wait > retry_after then
+      retry_after = wait
+    end
+  end
+end
+
+local allowed = 0
+if retry_after == 0 then
+  allowed = 1
+end
+
+for i = 1, #KEYS do
+  local rate = tonumber(ARGV[2 * i])
+  local capacity = tonumber(ARGV[2 * i + 1])
+  local remaining = tokens[i]
+  if allowed == 1 then
+    remaining = remaining - requested
+  end
+  redis.call('HSET', KEYS[i], 'tokens', tostring(remaining), 'ts', tostring(now))
+  redis.call('PEXPIRE', KEYS[i], math.ceil(capacity * 1000 / rate) * 2)
+end
+
+return { allowed, retry_after }
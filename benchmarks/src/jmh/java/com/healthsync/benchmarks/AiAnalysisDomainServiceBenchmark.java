@@ -0,0 +1,77 @@
+package com.healthsync.benchmarks;
+
+import com.healthsync.intelligence.domain.services.AiAnalysisDomainService;
+import com.healthsync.intelligence.dto.HealthData;
+import com.healthsync.intelligence.dto.UserProfile;
+import com.healthsync.intelligence.infrastructure.ports.ClaudeApiPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AiAnalysisDomainService 프롬프트 구성과 응답 구조화 비용 벤치마크입니다.
+ * Claude API는 고정 응답을 돌려주는 스텁으로 대체하므로 네트워크 시간은 포함되지 않습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AiAnalysisDomainServiceBenchmark {
+
+    private AiAnalysisDomainService aiAnalysisDomainService;
+    private UserProfile userProfile;
+    private HealthData healthData;
+
+    @Setup
+    public void setUp() {
+        aiAnalysisDomainService = new AiAnalysisDomainService(new StubClaudeApiPort());
+        userProfile = UserProfile.builder()
+                .userId("12345")
+                .name("홍길동")
+                .age(35)
+                .gender("남성")
+                .occupation("IT개발")
+                .build();
+        healthData = HealthData.builder()
+                .bmi(24.2)
+                .bloodPressure("128/84")
+                .cholesterol("195")
+                .bloodSugar("98")
+                .checkupDate("2024-05-01")
+                .build();
+    }
+
+    @Benchmark
+    public Object healthDiagnosis() {
+        return aiAnalysisDomainService.generateHealthDiagnosis(userProfile, healthData);
+    }
+
+    @Benchmark
+    public Object missionRecommendations() {
+        return aiAnalysisDomainService.generateMissionRecommendations(userProfile, healthData);
+    }
+
+    /**
+     * 프롬프트 길이만 반영한 고정 응답을 돌려주는 Claude API 스텁입니다.
+     */
+    static class StubClaudeApiPort implements ClaudeApiPort {
+
+        @Override
+        public String requestAnalysis(String prompt) {
+            return prompt.length() > 0 ? "건강 점수: 75점" : "";
+        }
+
+        @Override
+        public String requestChatResponse(String prompt) {
+            return prompt.length() > 0 ? "규칙적인 운동을 권장합니다." : "";
+        }
+    }
+}
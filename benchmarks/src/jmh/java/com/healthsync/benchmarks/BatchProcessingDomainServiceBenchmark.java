@@ -0,0 +1,67 @@
+package com.healthsync.benchmarks;
+
+import com.healthsync.motivator.domain.services.BatchProcessingDomainService;
+import com.healthsync.motivator.domain.services.MessageGenerationDomainService;
+import com.healthsync.motivator.domain.services.UserAnalysisDomainService;
+import com.healthsync.motivator.dto.UserMissionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BatchProcessingDomainService 긴급도 정렬 벤치마크입니다.
+ * 배치 대상 사용자 수(1만/10만/100만)별 정렬 시간과 할당량을 측정합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class BatchProcessingDomainServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int userCount;
+
+    private BatchProcessingDomainService batchProcessingDomainService;
+    private List<UserMissionStatus> users;
+
+    @Setup
+    public void setUp() {
+        batchProcessingDomainService = new BatchProcessingDomainService(
+                new MessageGenerationDomainService(), new UserAnalysisDomainService());
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            int totalMissions = 1 + random.nextInt(5);
+            users.add(UserMissionStatus.builder()
+                    .userId("user-" + i)
+                    .totalMissions(totalMissions)
+                    .completedMissions(random.nextInt(totalMissions + 1))
+                    .lastActiveTime(now.minusMinutes(random.nextInt(60 * 24 * 14)))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<UserMissionStatus> prioritizeUsersByUrgency() {
+        return batchProcessingDomainService.prioritizeUsersByUrgency(users);
+    }
+}
@@ -0,0 +1,49 @@
+package com.healthsync.benchmarks;
+
+import com.healthsync.intelligence.domain.services.ChatDomainService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChatDomainService 채팅 입력 검증 벤치마크입니다.
+ * 검증은 모든 채팅 요청에서 실행되며 메시지 길이에 비례하는 비용(소문자 변환, 금칙어 검색)이 있습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatDomainServiceBenchmark {
+
+    @Param({"20", "200", "1000"})
+    private int messageLength;
+
+    private ChatDomainService chatDomainService;
+    private String message;
+
+    @Setup
+    public void setUp() {
+        chatDomainService = new ChatDomainService(new AiAnalysisDomainServiceBenchmark.StubClaudeApiPort());
+        String sentence = "요즘 야근이 많아서 운동할 시간이 부족한데 어떻게 하면 좋을까요? ";
+        StringBuilder builder = new StringBuilder(messageLength);
+        while (builder.length() < messageLength) {
+            builder.append(sentence);
+        }
+        message = builder.substring(0, messageLength);
+    }
+
+    @Benchmark
+    public String validateChatInput() {
+        chatDomainService.validateChatInput(message);
+        return message;
+    }
+}
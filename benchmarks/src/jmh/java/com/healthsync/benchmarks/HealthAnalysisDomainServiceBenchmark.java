@@ -0,0 +1,52 @@
+package com.healthsync.benchmarks;
+
+import com.healthsync.health.domain.services.HealthAnalysisDomainService;
+import com.healthsync.health.dto.CheckupRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HealthAnalysisDomainService 건강 점수 계산 벤치마크입니다.
+ * 혈압 문자열 파싱이 포함되므로 정상/주의/위험 구간별로 측정합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HealthAnalysisDomainServiceBenchmark {
+
+    @Param({"118/76", "132/86", "145/95"})
+    private String bloodPressure;
+
+    private HealthAnalysisDomainService healthAnalysisDomainService;
+    private CheckupRecord checkupRecord;
+
+    @Setup
+    public void setUp() {
+        healthAnalysisDomainService = new HealthAnalysisDomainService();
+        checkupRecord = CheckupRecord.builder()
+                .year(2024)
+                .month(5)
+                .height(175)
+                .weight(74)
+                .waist(84)
+                .bmi(24.2)
+                .bloodPressure(bloodPressure)
+                .build();
+    }
+
+    @Benchmark
+    public int calculateHealthScore() {
+        return healthAnalysisDomainService.calculateHealthScore(checkupRecord);
+    }
+}
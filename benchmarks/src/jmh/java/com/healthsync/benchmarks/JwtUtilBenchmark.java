@@ -0,0 +1,72 @@
+package com.healthsync.benchmarks;
+
+import com.healthsync.common.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 검증 처리량 벤치마크입니다.
+ * 요청마다 파서를 새로 만들고 세 번 파싱하던 기존 방식(perRequestParser)과
+ * 재사용 파서(parseOnceUncached), 검증 캐시(parseOnceCached)를 비교합니다.
+ * 실행: {@code gradle :benchmarks:jmh -PjmhIncludes=JwtUtil} (gc 프로파일러로 검증당 할당량도 함께 측정)
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "healthsync-default-secret-key-for-development-only";
+
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedJwtUtil = new JwtUtil(SECRET, 3600000, 604800000, 10000);
+        uncachedJwtUtil = new JwtUtil(SECRET, 3600000, 604800000, 0);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = cachedJwtUtil.generateAccessToken("12345");
+    }
+
+    /**
+     * 기존 방식: validateToken, getUserId, getExpirationDate가 각각 파서를 만들고 토큰을 검증합니다.
+     */
+    @Benchmark
+    public Object perRequestParser() {
+        Object result = null;
+        for (int i = 0; i < 3; i++) {
+            result = Jwts.parserBuilder()
+                    .setSigningKey(secretKey)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object parseOnceUncached() {
+        return uncachedJwtUtil.parseOnce(token);
+    }
+
+    @Benchmark
+    public Object parseOnceCached() {
+        return cachedJwtUtil.parseOnce(token);
+    }
+}
@@ -0,0 +1,124 @@
+package com.healthsync.benchmarks;
+
+import com.healthsync.common.cache.codec.BinaryRedisSerializer;
+import com.healthsync.common.cache.codec.RedisCodecRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화기 비교 벤치마크입니다.
+ * 기존 GenericJackson2JsonRedisSerializer와 BinaryRedisSerializer(Smile, LZ4 압축 유무)의
+ * 직렬화/역직렬화 시간과 할당량을 건강검진 이력 응답과 비슷한 구조의 값으로 측정합니다.
+ * 실행: {@code gradle :benchmarks:jmh -PjmhIncludes=RedisSerializer}
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisSerializerBenchmark {
+
+    @Param({"json", "binary", "binary-lz4"})
+    public String serializer;
+
+    @Param({"5", "50"})
+    public int records;
+
+    private RedisSerializer<Object> redisSerializer;
+    private HistoryPayload payload;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        RedisCodecRegistry registry = new RedisCodecRegistry().register(900, HistoryPayload.class);
+        redisSerializer = switch (serializer) {
+            case "json" -> json;
+            case "binary" -> new BinaryRedisSerializer(registry, json, false, Integer.MAX_VALUE);
+            default -> new BinaryRedisSerializer(registry, json, true, 1024);
+        };
+        payload = HistoryPayload.sample(records);
+        encoded = redisSerializer.serialize(payload);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return redisSerializer.serialize(payload);
+    }
+
+    @Benchmark
+    public void deserialize(Blackhole blackhole) {
+        blackhole.consume(redisSerializer.deserialize(encoded));
+    }
+
+    /**
+     * 건강검진 이력 응답과 비슷한 구조의 측정용 값입니다.
+     */
+    public static class HistoryPayload {
+
+        public String userId;
+        public String normalRangeReference;
+        public List<Record> checkupRecords;
+        public Map<String, List<Double>> chartData;
+
+        static HistoryPayload sample(int count) {
+            HistoryPayload payload = new HistoryPayload();
+            payload.userId = "12345";
+            payload.normalRangeReference = "국민건강보험공단 건강검진 정상 범위 기준";
+            payload.checkupRecords = new ArrayList<>();
+            payload.chartData = new LinkedHashMap<>();
+            List<Double> weights = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Record record = new Record();
+                record.checkupYear = 2000 + i;
+                record.hospitalName = "서울대학교병원";
+                record.height = 172.5;
+                record.weight = 70.0 + i * 0.1;
+                record.waistCircumference = 82.0;
+                record.systolicBp = 120;
+                record.diastolicBp = 80;
+                record.fastingGlucose = 95;
+                record.totalCholesterol = 190;
+                record.overallStatus = i % 3 == 0 ? "정상" : "주의";
+                payload.checkupRecords.add(record);
+                weights.add(record.weight);
+            }
+            payload.chartData.put("weight", weights);
+            return payload;
+        }
+    }
+
+    /**
+     * 건강검진 기록 한 건
+     */
+    public static class Record {
+
+        public int checkupYear;
+        public String hospitalName;
+        public double height;
+        public double weight;
+        public double waistCircumference;
+        public int systolicBp;
+        public int diastolicBp;
+        public int fastingGlucose;
+        public int totalCholesterol;
+        public String overallStatus;
+    }
+}
@@ -0,0 +1,75 @@
+package com.healthsync.common.cache;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스 중 한 곳만 캐시 값을 다시 계산하도록 하는 Redis 임대(lease)입니다.
+ * {@code SET NX PX}로 획득하고, 자신이 획득한 임대만 해제합니다. 계산이 임대 시간보다 오래 걸리면 임대는 자동으로 만료됩니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class CacheLease {
+
+    public static final String KEY_PREFIX = "lease:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    @Getter
+    private final Duration leaseTtl;
+
+    /**
+     * CacheLease 생성자
+     *
+     * @param redisTemplate Redis 템플릿
+     * @param leaseTtl 임대 유지 시간 (계산 최대 시간보다 길게 설정)
+     */
+    public CacheLease(StringRedisTemplate redisTemplate, Duration leaseTtl) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = leaseTtl;
+    }
+
+    /**
+     * 캐시 키의 임대를 획득합니다.
+     * Redis에 접근할 수 없으면 인스턴스 간 조율 없이 계산하도록 획득한 것으로 처리합니다.
+     *
+     * @param cacheKey 캐시 키
+     * @return 임대 토큰 (다른 인스턴스가 보유 중이면 null)
+     */
+    public String tryAcquire(String cacheKey) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + cacheKey, token, leaseTtl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("캐시 임대 획득 실패, 로컬에서 계산합니다: key={}, error={}", cacheKey, e.getMessage());
+            return token;
+        }
+    }
+
+    /**
+     * 자신이 보유한 임대를 해제합니다.
+     *
+     * @param cacheKey 캐시 키
+     * @param token 임대 토큰
+     */
+    public void release(String cacheKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + cacheKey), token);
+        } catch (Exception e) {
+            log.warn("캐시 임대 해제 실패: key={}, error={}", cacheKey, e.getMessage());
+        }
+    }
+}
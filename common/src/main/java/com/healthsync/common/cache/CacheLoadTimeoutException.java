@@ -0,0 +1,32 @@
+package com.healthsync.common.cache;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 같은 키를 계산 중인 다른 요청(또는 인스턴스)의 결과를 최대 대기 시간 안에 받지 못했을 때 발생하는 예외입니다.
+ * 클라이언트가 이미 포기했을 요청을 계속 붙잡지 않고 빠르게 실패시키기 위해 사용합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+public class CacheLoadTimeoutException extends RuntimeException {
+
+    private final String cache;
+    private final String key;
+
+    /**
+     * CacheLoadTimeoutException 생성자
+     *
+     * @param cache 캐시 네임스페이스 이름
+     * @param key 캐시 키
+     * @param maxWait 최대 대기 시간
+     */
+    public CacheLoadTimeoutException(String cache, String key, Duration maxWait) {
+        super("캐시 값 계산 대기 시간 초과: cache=" + cache + ", key=" + key + ", maxWait=" + maxWait);
+        this.cache = cache;
+        this.key = key;
+    }
+}
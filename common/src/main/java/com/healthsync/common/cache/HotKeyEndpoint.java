@@ -0,0 +1,51 @@
+package com.healthsync.common.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 네임스페이스별 상위 조회 키를 보여주는 actuator 엔드포인트입니다 ({@code /actuator/hotkeys}).
+ * 키에 사용자 ID 등 식별 정보가 포함되므로 기본 노출 대상이 아니며, 노출하더라도 서비스 보안 설정에서 운영자(ADMIN 역할)만 호출할 수 있습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Endpoint(id = "hotkeys")
+public class HotKeyEndpoint {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    /**
+     * HotKeyEndpoint 생성자
+     *
+     * @param hotKeyTracker 핫 키 집계기
+     */
+    public HotKeyEndpoint(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    /**
+     * 모든 네임스페이스의 상위 키를 조회합니다.
+     *
+     * @return 네임스페이스별 상위 키 (조회 수 내림차순)
+     */
+    @ReadOperation
+    public Map<String, List<HotKeyEntry>> hotKeys() {
+        return hotKeyTracker.snapshot();
+    }
+
+    /**
+     * 한 네임스페이스의 상위 키를 조회합니다.
+     *
+     * @param namespace 네임스페이스 이름
+     * @return 상위 키 (조회 수 내림차순)
+     */
+    @ReadOperation
+    public List<HotKeyEntry> hotKeys(@Selector String namespace) {
+        return hotKeyTracker.snapshot(namespace);
+    }
+}
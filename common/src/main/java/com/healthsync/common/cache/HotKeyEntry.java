@@ -0,0 +1,30 @@
+package com.healthsync.common.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 네임스페이스의 상위 조회 키 하나의 집계 결과입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class HotKeyEntry {
+
+    /**
+     * Redis 키
+     */
+    private final String key;
+
+    /**
+     * 표본 비율로 보정한 감쇠 적용 추정 조회 수
+     */
+    private final long estimatedCount;
+
+    /**
+     * 임계값을 넘어 프로세스 내 캐시로 승격되었는지 여부
+     */
+    private final boolean hot;
+}
@@ -0,0 +1,191 @@
+package com.healthsync.common.cache;
+
+import com.healthsync.common.config.TwoTierCacheProperties;
+import com.healthsync.common.util.CountMinSketch;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 조회를 표본 추출하여 네임스페이스별로 가장 많이 조회되는 키를 찾는 집계기입니다.
+ * 키별 횟수는 Count-Min Sketch로 근사하고, 상위 K개 후보는 최소 힙으로 유지합니다.
+ * 감쇠 주기마다 모든 횟수를 절반으로 줄이므로 조회가 멈춘 키는 곧 핫 키에서 빠집니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class HotKeyTracker {
+
+    private final double sampleRate;
+    private final long threshold;
+    private final long decayIntervalNanos;
+    @Getter
+    private final int topK;
+    private final int sketchWidth;
+    private final int sketchDepth;
+    private final Map<String, NamespaceStats> namespaces = new ConcurrentHashMap<>();
+
+    /**
+     * HotKeyTracker 생성자
+     *
+     * @param properties 핫 키 설정
+     */
+    public HotKeyTracker(TwoTierCacheProperties.HotKey properties) {
+        if (properties.getSampleRate() <= 0 || properties.getSampleRate() > 1) {
+            throw new IllegalArgumentException("표본 비율은 0보다 크고 1 이하여야 합니다.");
+        }
+        this.sampleRate = properties.getSampleRate();
+        this.threshold = properties.getThreshold();
+        this.decayIntervalNanos = properties.getDecayInterval().toNanos();
+        this.topK = properties.getTopK();
+        this.sketchWidth = properties.getSketchWidth();
+        this.sketchDepth = properties.getSketchDepth();
+    }
+
+    /**
+     * Redis 조회 한 건을 기록하고 키가 핫 키인지 반환합니다.
+     * 표본으로 뽑히지 않은 조회는 집계하지 않고 현재 판정만 확인합니다.
+     *
+     * @param namespace 네임스페이스 이름
+     * @param key Redis 키
+     * @return 핫 키 여부
+     */
+    public boolean recordAccess(String namespace, String key) {
+        NamespaceStats stats = namespaces.computeIfAbsent(namespace, name -> new NamespaceStats());
+        stats.decayIfDue();
+        if (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            long estimate = (long) (stats.sketch.add(key) / sampleRate);
+            stats.offer(namespace, key, estimate);
+        }
+        return stats.hotKeys.contains(key);
+    }
+
+    /**
+     * 키가 현재 핫 키인지 확인합니다.
+     *
+     * @param namespace 네임스페이스 이름
+     * @param key Redis 키
+     * @return 핫 키 여부
+     */
+    public boolean isHot(String namespace, String key) {
+        NamespaceStats stats = namespaces.get(namespace);
+        return stats != null && stats.hotKeys.contains(key);
+    }
+
+    /**
+     * 모든 네임스페이스의 상위 키를 조회 수 내림차순으로 반환합니다.
+     *
+     * @return 네임스페이스별 상위 키
+     */
+    public Map<String, List<HotKeyEntry>> snapshot() {
+        Map<String, List<HotKeyEntry>> result = new TreeMap<>();
+        namespaces.forEach((namespace, stats) -> result.put(namespace, stats.snapshot()));
+        return result;
+    }
+
+    /**
+     * 네임스페이스의 상위 키를 조회 수 내림차순으로 반환합니다.
+     *
+     * @param namespace 네임스페이스 이름
+     * @return 상위 키 (집계 이력이 없으면 빈 목록)
+     */
+    public List<HotKeyEntry> snapshot(String namespace) {
+        NamespaceStats stats = namespaces.get(namespace);
+        return stats != null ? stats.snapshot() : List.of();
+    }
+
+    /**
+     * 한 네임스페이스의 횟수 근사치, 상위 K개 후보와 핫 키 집합입니다.
+     * 후보 힙은 표본으로 뽑힌 조회에서만 갱신되므로 객체 잠금으로 보호합니다.
+     */
+    private class NamespaceStats {
+
+        private final CountMinSketch sketch = new CountMinSketch(sketchWidth, sketchDepth);
+        private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingLong(c -> c.count));
+        private final Map<String, Candidate> candidates = new HashMap<>();
+        private final Set<String> hotKeys = ConcurrentHashMap.newKeySet();
+        private final AtomicLong nextDecayNanos = new AtomicLong(System.nanoTime() + decayIntervalNanos);
+
+        synchronized void offer(String namespace, String key, long estimate) {
+            Candidate candidate = candidates.get(key);
+            if (candidate != null) {
+                heap.remove(candidate);
+                candidate.count = estimate;
+                heap.add(candidate);
+            } else if (heap.size() < topK) {
+                candidate = new Candidate(key, estimate);
+                candidates.put(key, candidate);
+                heap.add(candidate);
+            } else if (heap.peek().count < estimate) {
+                Candidate evicted = heap.poll();
+                candidates.remove(evicted.key);
+                hotKeys.remove(evicted.key);
+                candidate = new Candidate(key, estimate);
+                candidates.put(key, candidate);
+                heap.add(candidate);
+            } else {
+                return;
+            }
+
+            if (estimate >= threshold && hotKeys.add(key)) {
+                log.info("핫 키 감지, 로컬 캐시로 승격합니다: namespace={}, key={}, estimatedCount={}",
+                        namespace, key, estimate);
+            }
+        }
+
+        void decayIfDue() {
+            long due = nextDecayNanos.get();
+            long now = System.nanoTime();
+            if (now - due < 0 || !nextDecayNanos.compareAndSet(due, now + decayIntervalNanos)) {
+                return;
+            }
+            sketch.halve();
+            synchronized (this) {
+                List<Candidate> all = new ArrayList<>(heap);
+                heap.clear();
+                for (Candidate candidate : all) {
+                    candidate.count >>>= 1;
+                    heap.add(candidate);
+                    if (candidate.count < threshold) {
+                        hotKeys.remove(candidate.key);
+                    }
+                }
+            }
+        }
+
+        synchronized List<HotKeyEntry> snapshot() {
+            List<HotKeyEntry> entries = new ArrayList<>(heap.size());
+            for (Candidate candidate : heap) {
+                entries.add(new HotKeyEntry(candidate.key, candidate.count, hotKeys.contains(candidate.key)));
+            }
+            entries.sort(Comparator.comparingLong(HotKeyEntry::getEstimatedCount).reversed());
+            return entries;
+        }
+    }
+
+    /**
+     * 상위 K개 힙의 항목입니다.
+     */
+    private static class Candidate {
+
+        private final String key;
+        private long count;
+
+        Candidate(String key, long count) {
+            this.key = key;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.healthsync.common.cache;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis 서버 지원 클라이언트 캐싱(RESP3 CLIENT TRACKING, BCAST 모드)을 관리합니다.
+ * 전용 연결에서 지정한 접두사의 추적을 켜면, 어느 인스턴스가 키를 변경하든 서버가 invalidate 푸시 메시지를 보내고
+ * 등록된 리스너가 로컬 캐시 항목을 삭제합니다. 추적 대상 키는 애플리케이션 pub/sub 무효화가 필요 없습니다.
+ * <p>
+ * 연결이 끊긴 동안에는 무효화 메시지를 받을 수 없으므로 끊김과 재연결 시 로컬 항목을 모두 비우고,
+ * 재연결 후 추적을 다시 켜기 전까지는 {@link #covers(String)}가 false를 반환하여 pub/sub 무효화로 돌아갑니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class RedisClientTracking implements SmartLifecycle {
+
+    private static final String INVALIDATE = "invalidate";
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final List<String> prefixes;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private final PushListener pushListener = this::onPushMessage;
+    private final RedisConnectionStateListener stateListener = new StateListener();
+
+    private volatile RedisClient client;
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile boolean active;
+
+    /**
+     * RedisClientTracking 생성자
+     *
+     * @param connectionFactory Lettuce 연결 팩토리 (같은 Redis 클라이언트를 공유)
+     * @param prefixes 추적할 키 접두사
+     */
+    public RedisClientTracking(LettuceConnectionFactory connectionFactory, List<String> prefixes) {
+        this.connectionFactory = connectionFactory;
+        this.prefixes = List.copyOf(prefixes);
+    }
+
+    /**
+     * 무효화 리스너를 등록합니다. 키가 null이면 모든 추적 대상 항목을 비워야 합니다.
+     *
+     * @param listener 무효화된 Redis 키를 받는 함수
+     */
+    public void addInvalidationListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 서버가 현재 이 키(또는 접두사*)의 변경을 알려주는지 확인합니다.
+     *
+     * @param keyOrPattern 키 또는 접두사*
+     * @return 서버 무효화 대상 여부
+     */
+    public boolean covers(String keyOrPattern) {
+        if (!active) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (keyOrPattern.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void start() {
+        AbstractRedisClient nativeClient = connectionFactory.getNativeClient();
+        if (!(nativeClient instanceof RedisClient redisClient)) {
+            log.warn("Redis 클라이언트 추적은 단일 노드 연결에서만 지원합니다. pub/sub 무효화를 사용합니다: client={}",
+                    nativeClient != null ? nativeClient.getClass().getSimpleName() : null);
+            return;
+        }
+
+        StatefulRedisConnection<String, String> tracking = redisClient.connect(StringCodec.UTF8);
+        tracking.addListener(pushListener);
+        try {
+            tracking.sync().clientTracking(trackingArgs());
+        } catch (RuntimeException e) {
+            log.warn("Redis 클라이언트 추적을 켤 수 없습니다 (RESP3/Redis 6 필요). pub/sub 무효화를 사용합니다: {}",
+                    e.getMessage());
+            tracking.close();
+            return;
+        }
+
+        redisClient.addListener(stateListener);
+        this.client = redisClient;
+        this.connection = tracking;
+        this.active = true;
+        log.info("Redis 클라이언트 추적 시작: prefixes={}", prefixes);
+    }
+
+    @Override
+    public void stop() {
+        active = false;
+        RedisClient current = client;
+        if (current != null) {
+            current.removeListener(stateListener);
+            client = null;
+        }
+        StatefulRedisConnection<String, String> tracking = connection;
+        if (tracking != null) {
+            tracking.close();
+            connection = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return connection != null;
+    }
+
+    private TrackingArgs trackingArgs() {
+        return TrackingArgs.Builder.enabled().bcast().prefixes(prefixes.toArray(String[]::new));
+    }
+
+    /**
+     * invalidate 푸시 메시지의 키 목록을 리스너에 전달합니다. 키 목록이 null이면(FLUSHALL 등) 전체를 비웁니다.
+     */
+    private void onPushMessage(PushMessage message) {
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(RedisClientTracking::decode);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof List<?> keyList) {
+            for (Object key : keyList) {
+                notifyListeners(String.valueOf(key));
+            }
+        } else {
+            notifyListeners(null);
+        }
+    }
+
+    private void notifyListeners(String key) {
+        for (Consumer<String> listener : listeners) {
+            try {
+                listener.accept(key);
+            } catch (RuntimeException e) {
+                log.warn("클라이언트 추적 무효화 처리 실패: key={}, error={}", key, e.getMessage());
+            }
+        }
+    }
+
+    private static Object decode(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    /**
+     * 추적 연결의 끊김과 재연결을 처리합니다. 새 연결에는 추적 상태가 없으므로 다시 켭니다.
+     */
+    private class StateListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+            if (handler != connection) {
+                return;
+            }
+            active = false;
+            notifyListeners(null);
+            log.warn("Redis 클라이언트 추적 연결 끊김, 로컬 항목을 비우고 pub/sub 무효화를 사용합니다.");
+        }
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress remoteAddress) {
+            StatefulRedisConnection<String, String> tracking = connection;
+            if (handler != tracking) {
+                return;
+            }
+            tracking.async().clientTracking(trackingArgs()).whenComplete((reply, error) -> {
+                if (error != null) {
+                    log.warn("Redis 클라이언트 추적 재설정 실패: {}", error.getMessage());
+                    return;
+                }
+                notifyListeners(null);
+                active = true;
+                log.info("Redis 클라이언트 추적 재설정: prefixes={}", prefixes);
+            });
+        }
+    }
+}
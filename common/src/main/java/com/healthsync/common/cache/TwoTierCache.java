@@ -0,0 +1,552 @@
+package com.healthsync.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.healthsync.common.jfr.CacheLookupEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 한 네임스페이스의 2단계 캐시입니다.
+ * L1은 크기/시간 제한이 있는 프로세스 내 캐시로 적중 시 네트워크 호출이 없고, L2는 모든 인스턴스가 공유하는 Redis입니다.
+ * 값을 저장하거나 삭제하면 다른 인스턴스의 L1 항목도 pub/sub로 무효화됩니다.
+ * L1은 객체를 그대로 공유하므로 캐시된 값은 변경하지 않아야 합니다.
+ * <p>
+ * {@link #getOrLoad}는 계산 비용이 큰 값의 캐시 쇄도(stampede)를 막습니다.
+ * <ul>
+ *     <li>인스턴스 내: 같은 키의 동시 계산을 하나로 합치고 나머지 요청은 그 결과를 기다립니다.</li>
+ *     <li>인스턴스 간: Redis 임대를 획득한 인스턴스만 계산하고, 나머지는 Redis에 값이 저장될 때까지 기다립니다.</li>
+ *     <li>조기 갱신: 만료가 가까울수록 높은 확률로 만료 전에 한 요청이 미리 다시 계산합니다(XFetch).
+ *     그동안 다른 요청은 기존 값을 그대로 받습니다.</li>
+ * </ul>
+ * 기존 값이 없어 다른 요청의 계산을 기다리는 경우 최대 대기 시간(보통 HTTP 응답 제한 시간)을 넘기면
+ * {@link CacheLoadTimeoutException}으로 빠르게 실패합니다.
+ * <p>
+ * 핫 키 감지를 켜면 Redis 조회를 표본 추출하여 가장 많이 조회되는 키를 집계합니다.
+ * L1을 끈 네임스페이스에서도 핫 키 값은 짧은 시간 동안 프로세스 내에 보관하여 한 Redis 샤드에 조회가 몰리지 않게 합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class TwoTierCache {
+
+    public static final String METRIC = "cache.gets";
+    public static final String LOAD_METRIC = "healthsync.cache.loads";
+
+    private static final int DELETE_BATCH_SIZE = 500;
+    private static final double LOAD_TIME_WEIGHT = 0.2;
+
+    @Getter
+    private final String name;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<String, L1Entry> l1;
+    private final long l1TtlNanos;
+    private final Consumer<String> invalidationPublisher;
+    private final CacheLease lease;
+    private final Duration leasePollInterval;
+    private final Duration maxWait;
+    private final double earlyRefreshBeta;
+    private final MeterRegistry meterRegistry;
+    private final HotKeyTracker hotKeyTracker;
+    private final Cache<String, L1Entry> promoted;
+    private final long promotedTtlNanos;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter promotedHits;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 최근 계산 시간의 지수 이동 평균 (밀리초, 조기 갱신 확률 계산에 사용)
+     */
+    private volatile double averageLoadMillis;
+
+    /**
+     * TwoTierCache 생성자
+     *
+     * @param name 네임스페이스 이름
+     * @param redisTemplate Redis 템플릿
+     * @param l1MaxSize L1 최대 항목 수 (0이면 L1 미사용)
+     * @param l1Ttl L1 항목 유지 시간
+     * @param invalidationPublisher 다른 인스턴스로 L1 무효화를 전파하는 함수 (키 또는 접두사*)
+     * @param lease 인스턴스 간 계산 임대
+     * @param leasePollInterval 다른 인스턴스의 계산 결과 확인 주기
+     * @param maxWait 다른 요청/인스턴스의 계산 결과를 기다리는 최대 시간
+     * @param earlyRefreshBeta 조기 갱신 강도 (0이면 조기 갱신하지 않음, 클수록 일찍 갱신)
+     * @param hotKeyTracker 핫 키 집계기 (null이면 감지하지 않음)
+     * @param hotKeyLocalTtl 핫 키 값을 프로세스 내에 보관하는 시간 (L1을 끈 경우에만 사용)
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public TwoTierCache(String name, RedisTemplate<String, Object> redisTemplate, long l1MaxSize, Duration l1Ttl,
+                        Consumer<String> invalidationPublisher, CacheLease lease, Duration leasePollInterval,
+                        Duration maxWait, double earlyRefreshBeta, HotKeyTracker hotKeyTracker, Duration hotKeyLocalTtl,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.redisTemplate = redisTemplate;
+        this.l1TtlNanos = l1Ttl.toNanos();
+        this.invalidationPublisher = invalidationPublisher;
+        this.lease = lease;
+        this.leasePollInterval = leasePollInterval;
+        this.maxWait = maxWait;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.meterRegistry = meterRegistry;
+        this.l1 = l1MaxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(l1MaxSize)
+                        .expireAfter(new EntryExpiry())
+                        .recordStats()
+                        .build()
+                : null;
+        if (l1 != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, l1, name, "tier", "l1");
+        }
+        this.hotKeyTracker = hotKeyTracker;
+        this.promotedTtlNanos = hotKeyLocalTtl.toNanos();
+        this.promoted = l1 == null && hotKeyTracker != null
+                ? Caffeine.newBuilder()
+                        .maximumSize(hotKeyTracker.getTopK())
+                        .expireAfter(new EntryExpiry())
+                        .build()
+                : null;
+        this.l2Hits = tierCounter("l2", "hit");
+        this.l2Misses = tierCounter("l2", "miss");
+        this.promotedHits = tierCounter("hot", "hit");
+    }
+
+    /**
+     * 값을 조회합니다. L1에 없으면 Redis에서 읽고 L1에 채웁니다.
+     *
+     * @param key Redis 키
+     * @param type 값 타입
+     * @param <T> 값 타입
+     * @return 캐시된 값 (없거나 타입이 다르면 null)
+     */
+    public <T> T get(String key, Class<T> type) {
+        L1Entry entry = lookup(key);
+        return entry != null && type.isInstance(entry.getValue()) ? type.cast(entry.getValue()) : null;
+    }
+
+    /**
+     * 값을 조회하고, 없거나 조기 갱신 대상이면 한 번만 계산하여 저장합니다.
+     * 계산 함수의 예외는 그대로 전달되며, 같은 계산을 기다리던 요청에도 같은 예외가 전달됩니다.
+     * Redis 오류는 캐시 미스로 처리하고 계산을 계속합니다.
+     * 기다리던 계산이 최대 대기 시간 안에 끝나지 않으면 {@link CacheLoadTimeoutException}이 발생합니다.
+     *
+     * @param key Redis 키
+     * @param type 값 타입
+     * @param ttl Redis 유지 시간
+     * @param loader 값 계산 함수 (null을 반환하면 저장하지 않음)
+     * @param <T> 값 타입
+     * @return 캐시된 값 또는 새로 계산한 값
+     */
+    public <T> T getOrLoad(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        L1Entry cached = lookupQuietly(key);
+        T current = cached != null && type.isInstance(cached.getValue()) ? type.cast(cached.getValue()) : null;
+        if (current != null && !shouldRefreshEarly(cached.getExpiresAtMillis())) {
+            return current;
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            if (current != null) {
+                return current;
+            }
+            loadCounter("coalesced").increment();
+            return type.cast(await(key, existing));
+        }
+
+        try {
+            T value = loadWithLease(key, type, ttl, loader, current);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 값을 Redis와 L1에 저장하고 다른 인스턴스의 L1 항목을 무효화합니다.
+     *
+     * @param key Redis 키
+     * @param value 값
+     * @param ttl Redis 유지 시간 (L1은 이 시간과 L1 유지 시간 중 짧은 쪽을 사용)
+     */
+    public void put(String key, Object value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+        if (l1 != null) {
+            l1.put(key, new L1Entry(value, System.currentTimeMillis() + ttl.toMillis(),
+                    Math.min(l1TtlNanos, ttl.toNanos())));
+        } else if (promoted != null) {
+            promoted.invalidate(key);
+        }
+        invalidationPublisher.accept(key);
+    }
+
+    /**
+     * 키를 Redis와 모든 인스턴스의 L1에서 삭제합니다.
+     *
+     * @param key Redis 키
+     */
+    public void evict(String key) {
+        redisTemplate.delete(key);
+        evictLocal(key);
+        invalidationPublisher.accept(key);
+    }
+
+    /**
+     * 접두사로 시작하는 모든 키를 Redis와 모든 인스턴스의 L1에서 삭제합니다.
+     * Redis는 KEYS 대신 SCAN으로 나누어 조회합니다.
+     *
+     * @param prefix 키 접두사
+     */
+    public void evictByPrefix(String prefix) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(DELETE_BATCH_SIZE).build();
+        List<String> batch = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= DELETE_BATCH_SIZE) {
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            redisTemplate.delete(batch);
+        }
+        evictLocal(prefix + "*");
+        invalidationPublisher.accept(prefix + "*");
+    }
+
+    /**
+     * 이 인스턴스의 L1 항목만 삭제합니다. 키가 *로 끝나면 접두사로 처리합니다.
+     *
+     * @param keyOrPattern 키 또는 접두사*
+     */
+    void evictLocal(String keyOrPattern) {
+        Cache<String, L1Entry> local = l1 != null ? l1 : promoted;
+        if (local == null) {
+            return;
+        }
+        if (keyOrPattern.endsWith("*")) {
+            String prefix = keyOrPattern.substring(0, keyOrPattern.length() - 1);
+            local.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        } else {
+            local.invalidate(keyOrPattern);
+        }
+    }
+
+    /**
+     * 값을 조회하고 조회 결과를 JFR 이벤트로 기록합니다.
+     *
+     * @param key Redis 키
+     * @return 캐시 항목 (없으면 null)
+     */
+    private L1Entry lookup(String key) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        L1Entry entry = null;
+        try {
+            entry = lookupTiers(key, event);
+            return entry;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setCache(name);
+                event.setKey(key);
+                event.setHit(entry != null);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * L1(또는 승격된 핫 키), L2 순서로 값을 조회합니다. L2 조회 시 남은 유지 시간을 함께 읽어 L1 항목에 기록합니다.
+     *
+     * @param key Redis 키
+     * @param event 조회를 끝낸 단계를 기록할 이벤트
+     * @return 캐시 항목 (없으면 null)
+     */
+    private L1Entry lookupTiers(String key, CacheLookupEvent event) {
+        if (l1 != null) {
+            L1Entry entry = l1.getIfPresent(key);
+            if (entry != null) {
+                event.setTier("l1");
+                return entry;
+            }
+        } else if (promoted != null) {
+            L1Entry entry = promoted.getIfPresent(key);
+            if (entry != null) {
+                promotedHits.increment();
+                event.setTier("hot");
+                return entry;
+            }
+        }
+
+        event.setTier("l2");
+        boolean hot = hotKeyTracker != null && hotKeyTracker.recordAccess(name, key);
+        L1Entry entry = lookupRemote(key);
+        if (entry == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        fillL1(key, entry);
+        if (hot && promoted != null) {
+            promoted.put(key, new L1Entry(entry.getValue(), entry.getExpiresAtMillis(),
+                    remainingTtlNanos(entry, promotedTtlNanos)));
+        }
+        return entry;
+    }
+
+    /**
+     * Redis에서 읽은 항목을 남은 유지 시간을 넘지 않도록 L1에 채웁니다.
+     */
+    private void fillL1(String key, L1Entry entry) {
+        if (l1 == null) {
+            return;
+        }
+        l1.put(key, new L1Entry(entry.getValue(), entry.getExpiresAtMillis(), remainingTtlNanos(entry, l1TtlNanos)));
+    }
+
+    /**
+     * 로컬 유지 시간을 Redis의 남은 유지 시간 이내로 제한합니다.
+     */
+    private static long remainingTtlNanos(L1Entry entry, long localTtlNanos) {
+        if (entry.getExpiresAtMillis() <= 0) {
+            return localTtlNanos;
+        }
+        long remainingMillis = entry.getExpiresAtMillis() - System.currentTimeMillis();
+        return Math.min(localTtlNanos, TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0)));
+    }
+
+    private L1Entry lookupQuietly(String key) {
+        try {
+            return lookup(key);
+        } catch (DataAccessException e) {
+            log.warn("캐시 조회 실패, 미스로 처리합니다: cache={}, key={}, error={}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Redis에서 값과 남은 유지 시간을 파이프라인으로 한 번에 읽습니다.
+     *
+     * @param key Redis 키
+     * @return 캐시 항목 (없으면 null)
+     */
+    private L1Entry lookupRemote(String key) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                operations.opsForValue().get((K) key);
+                operations.getExpire((K) key, TimeUnit.MILLISECONDS);
+                return null;
+            }
+        });
+        Object value = results.isEmpty() ? null : results.get(0);
+        if (value == null) {
+            return null;
+        }
+        Object ttlMillis = results.size() > 1 ? results.get(1) : null;
+        long expiresAtMillis = ttlMillis instanceof Long ttl && ttl > 0 ? System.currentTimeMillis() + ttl : 0;
+        return new L1Entry(value, expiresAtMillis, l1TtlNanos);
+    }
+
+    /**
+     * 임대를 획득하면 값을 계산하여 저장하고, 다른 인스턴스가 계산 중이면 그 결과를 기다립니다.
+     *
+     * @param current 현재 캐시 값 (조기 갱신 중이면 not null)
+     */
+    private <T> T loadWithLease(String key, Class<T> type, Duration ttl, Supplier<T> loader, T current) {
+        String token = lease.tryAcquire(key);
+        if (token == null) {
+            if (current != null) {
+                return current;
+            }
+            T computedElsewhere = awaitOtherInstance(key, type);
+            if (computedElsewhere != null) {
+                loadCounter("lease_wait").increment();
+                return computedElsewhere;
+            }
+            if (maxWait.compareTo(lease.getLeaseTtl()) < 0) {
+                // 임대가 아직 유효하므로 다른 인스턴스가 계산 중입니다. 직접 계산하지 않고 빠르게 실패합니다.
+                loadCounter("wait_timeout").increment();
+                throw new CacheLoadTimeoutException(name, key, maxWait);
+            }
+            log.warn("다른 인스턴스의 캐시 계산을 기다리다 시간 초과, 직접 계산합니다: cache={}, key={}", name, key);
+        }
+
+        try {
+            long start = System.nanoTime();
+            T value = loader.get();
+            recordLoadTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            loadCounter(current != null ? "early_refresh" : "loaded").increment();
+            if (value != null) {
+                putQuietly(key, value, ttl);
+            }
+            return value;
+        } finally {
+            if (token != null) {
+                lease.release(key, token);
+            }
+        }
+    }
+
+    /**
+     * 임대 유지 시간과 최대 대기 시간 중 짧은 시간 동안 다른 인스턴스가 Redis에 저장한 값을 주기적으로 확인합니다.
+     *
+     * @return 저장된 값 (시간 초과 시 null)
+     */
+    private <T> T awaitOtherInstance(String key, Class<T> type) {
+        long deadline = System.nanoTime() + Math.min(lease.getLeaseTtl().toNanos(), maxWait.toNanos());
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(leasePollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            try {
+                L1Entry entry = lookupRemote(key);
+                if (entry != null && type.isInstance(entry.getValue())) {
+                    fillL1(key, entry);
+                    return type.cast(entry.getValue());
+                }
+            } catch (DataAccessException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * XFetch 조기 갱신 여부를 결정합니다: {@code -계산시간 × beta × ln(rand) >= 남은 시간}
+     *
+     * @param expiresAtMillis Redis 만료 시각 (모르면 0)
+     * @return 조기 갱신 여부
+     */
+    private boolean shouldRefreshEarly(long expiresAtMillis) {
+        if (expiresAtMillis <= 0 || earlyRefreshBeta <= 0 || averageLoadMillis <= 0) {
+            return false;
+        }
+        long remainingMillis = expiresAtMillis - System.currentTimeMillis();
+        double gap = -averageLoadMillis * earlyRefreshBeta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return gap >= remainingMillis;
+    }
+
+    private void recordLoadTime(long millis) {
+        double previous = averageLoadMillis;
+        averageLoadMillis = previous <= 0 ? millis : previous + LOAD_TIME_WEIGHT * (millis - previous);
+    }
+
+    private void putQuietly(String key, Object value, Duration ttl) {
+        try {
+            put(key, value, ttl);
+        } catch (DataAccessException e) {
+            log.warn("캐시 저장 실패: cache={}, key={}, error={}", name, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 인스턴스에서 진행 중인 계산을 최대 대기 시간까지 기다립니다.
+     */
+    private Object await(String key, CompletableFuture<Object> future) {
+        try {
+            return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            loadCounter("wait_timeout").increment();
+            throw new CacheLoadTimeoutException(name, key, maxWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CacheLoadTimeoutException(name, key, maxWait);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Counter tierCounter(String tier, String result) {
+        return Counter.builder(METRIC)
+                .description("2단계 캐시 조회 결과")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter loadCounter(String outcome) {
+        return Counter.builder(LOAD_METRIC)
+                .description("캐시 값 계산 결과 (loaded, early_refresh, coalesced, lease_wait, wait_timeout)")
+                .tag("cache", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Redis 만료 시각과 L1 유지 시간을 함께 보관하는 L1 항목입니다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class L1Entry {
+
+        private final Object value;
+        private final long expiresAtMillis;
+        private final long ttlNanos;
+    }
+
+    /**
+     * 항목별 유지 시간을 적용하는 L1 만료 정책입니다.
+     */
+    private static class EntryExpiry implements Expiry<String, L1Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, L1Entry value, long currentTime) {
+            return value.getTtlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, L1Entry value, long currentTime, long currentDuration) {
+            return value.getTtlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, L1Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
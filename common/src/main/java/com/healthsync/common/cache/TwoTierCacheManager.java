@@ -0,0 +1,135 @@
+package com.healthsync.common.cache;
+
+import com.healthsync.common.config.TwoTierCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 네임스페이스별 2단계 캐시를 생성하고 인스턴스 간 L1 무효화 메시지를 주고받는 관리자입니다.
+ * 무효화 메시지는 {@code 인스턴스ID \n 네임스페이스 \n 키} 형식이며, 자신이 보낸 메시지는 무시합니다.
+ * Redis 클라이언트 추적이 켜져 있으면 추적 대상 키는 pub/sub 대신 서버 푸시 메시지로 무효화합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class TwoTierCacheManager implements MessageListener {
+
+    private static final char SEPARATOR = '\n';
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TwoTierCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final CacheLease lease;
+    /**
+     * 핫 키 집계기 (감지를 끄면 null)
+     */
+    @Getter
+    private final HotKeyTracker hotKeyTracker;
+    private final RedisClientTracking clientTracking;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * TwoTierCacheManager 생성자
+     *
+     * @param redisTemplate 값 저장용 Redis 템플릿
+     * @param stringRedisTemplate 무효화 메시지 발행용 Redis 템플릿
+     * @param properties 2단계 캐시 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @param clientTracking Redis 클라이언트 추적 (null이면 모든 키를 pub/sub로 무효화)
+     */
+    public TwoTierCacheManager(RedisTemplate<String, Object> redisTemplate, StringRedisTemplate stringRedisTemplate,
+                               TwoTierCacheProperties properties, MeterRegistry meterRegistry,
+                               RedisClientTracking clientTracking) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.lease = new CacheLease(stringRedisTemplate, properties.getLeaseTtl());
+        this.hotKeyTracker = properties.getHotKey().isEnabled() ? new HotKeyTracker(properties.getHotKey()) : null;
+        this.clientTracking = clientTracking;
+        if (clientTracking != null) {
+            clientTracking.addInvalidationListener(this::evictTracked);
+        }
+    }
+
+    /**
+     * 네임스페이스의 캐시를 반환합니다. 처음 요청 시 생성합니다.
+     *
+     * @param namespace 네임스페이스 이름 (메트릭 태그와 개별 설정 키로 사용)
+     * @return 2단계 캐시
+     */
+    public TwoTierCache getCache(String namespace) {
+        return caches.computeIfAbsent(namespace, this::createCache);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : body.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", body);
+            return;
+        }
+        if (instanceId.equals(body.substring(0, first))) {
+            return;
+        }
+
+        TwoTierCache cache = caches.get(body.substring(first + 1, second));
+        if (cache != null) {
+            cache.evictLocal(body.substring(second + 1));
+        }
+    }
+
+    /**
+     * 서버가 알려준 키를 모든 네임스페이스의 로컬 항목에서 삭제합니다. 캐시 키는 네임스페이스 간에 겹치지 않습니다.
+     *
+     * @param key Redis 키 (null이면 전체)
+     */
+    private void evictTracked(String key) {
+        String keyOrPattern = key != null ? key : "*";
+        caches.values().forEach(cache -> cache.evictLocal(keyOrPattern));
+    }
+
+    private TwoTierCache createCache(String namespace) {
+        TwoTierCacheProperties.Namespace config = properties.namespace(namespace);
+        long l1MaxSize = Boolean.TRUE.equals(config.getL1Enabled()) ? config.getL1MaxSize() : 0;
+        return new TwoTierCache(namespace, redisTemplate, l1MaxSize, config.getL1Ttl(),
+                keyOrPattern -> publishInvalidation(namespace, keyOrPattern), lease,
+                properties.getLeasePollInterval(), properties.getLeaseMaxWait(), properties.getEarlyRefreshBeta(),
+                hotKeyTracker,
+                properties.getHotKey().getLocalTtl(), meterRegistry);
+    }
+
+    /**
+     * 다른 인스턴스의 L1 항목 무효화를 발행합니다.
+     * 발행에 실패하면 다른 인스턴스의 L1은 유지 시간이 지나야 갱신됩니다.
+     *
+     * @param namespace 네임스페이스 이름
+     * @param keyOrPattern 키 또는 접두사*
+     */
+    private void publishInvalidation(String namespace, String keyOrPattern) {
+        if (clientTracking != null && clientTracking.covers(keyOrPattern)) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(properties.getInvalidationChannel(),
+                    instanceId + SEPARATOR + namespace + SEPARATOR + keyOrPattern);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패: namespace={}, key={}, error={}", namespace, keyOrPattern, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.healthsync.common.cache.codec;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 타입별 코덱으로 값을 직렬화하는 Redis 직렬화기입니다.
+ * <pre>
+ * [형식 버전 1B][타입 ID 2B][압축 방식 1B][(압축 시) 원본 길이 4B][본문]
+ * </pre>
+ * <ul>
+ *     <li>등록된 타입은 코덱(기본 Smile)으로, 등록되지 않은 타입은 기존 JSON 직렬화기로 본문을 만듭니다.</li>
+ *     <li>본문이 임계값보다 크면 LZ4로 압축하고, 압축 효과가 없으면 원본을 저장합니다.</li>
+ *     <li>형식 버전 바이트가 없는 값(이전 JSON 형식)도 읽을 수 있으므로 배포 중에도 기존 캐시를 그대로 사용합니다.</li>
+ * </ul>
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class BinaryRedisSerializer implements RedisSerializer<Object> {
+
+    public static final byte FORMAT_VERSION = 0x01;
+
+    private static final byte COMPRESSION_NONE = 0;
+    private static final byte COMPRESSION_LZ4 = 1;
+    private static final int HEADER_LENGTH = 4;
+    private static final int LENGTH_FIELD = 4;
+
+    private final RedisCodecRegistry registry;
+    private final GenericJackson2JsonRedisSerializer fallback;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    /**
+     * BinaryRedisSerializer 생성자
+     *
+     * @param registry 코덱 레지스트리
+     * @param fallback 등록되지 않은 타입과 이전 형식 값에 사용할 JSON 직렬화기
+     * @param compressionEnabled LZ4 압축 사용 여부
+     * @param compressionThreshold 압축을 시도할 최소 본문 크기 (바이트)
+     */
+    public BinaryRedisSerializer(RedisCodecRegistry registry, GenericJackson2JsonRedisSerializer fallback,
+                                 boolean compressionEnabled, int compressionThreshold) {
+        this.registry = registry;
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+        LZ4Factory factory = compressionEnabled ? LZ4Factory.fastestInstance() : null;
+        this.compressor = factory != null ? factory.fastCompressor() : null;
+        this.decompressor = factory != null ? factory.fastDecompressor() : LZ4Factory.fastestInstance().fastDecompressor();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        RedisCodecRegistry.Registration<Object> registration =
+                (RedisCodecRegistry.Registration<Object>) registry.forType(value.getClass());
+        int typeId;
+        byte[] body;
+        if (registration != null) {
+            typeId = registration.getTypeId();
+            try {
+                body = registration.getCodec().encode(value);
+            } catch (IOException e) {
+                throw new SerializationException("Redis 값 인코딩 실패: " + value.getClass().getName(), e);
+            }
+        } else {
+            typeId = RedisCodecRegistry.FALLBACK_TYPE_ID;
+            body = fallback.serialize(value);
+        }
+        return frame(typeId, body);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != FORMAT_VERSION || bytes.length < HEADER_LENGTH) {
+            return fallback.deserialize(bytes);
+        }
+
+        int typeId = ((bytes[1] & 0xFF) << 8) | (bytes[2] & 0xFF);
+        byte compression = bytes[3];
+        byte[] body = bytes;
+        int offset = HEADER_LENGTH;
+        int length = bytes.length - HEADER_LENGTH;
+        if (compression == COMPRESSION_LZ4) {
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_LENGTH, LENGTH_FIELD).getInt();
+            body = new byte[originalLength];
+            decompressor.decompress(bytes, HEADER_LENGTH + LENGTH_FIELD, body, 0, originalLength);
+            offset = 0;
+            length = originalLength;
+        } else if (compression != COMPRESSION_NONE) {
+            throw new SerializationException("지원하지 않는 압축 방식: " + compression);
+        }
+
+        if (typeId == RedisCodecRegistry.FALLBACK_TYPE_ID) {
+            byte[] json = offset == 0 && length == body.length ? body : slice(body, offset, length);
+            return fallback.deserialize(json);
+        }
+        RedisCodecRegistry.Registration<?> registration = registry.forId(typeId);
+        if (registration == null) {
+            throw new SerializationException("등록되지 않은 Redis 값 타입 ID: " + typeId);
+        }
+        try {
+            return registration.getCodec().decode(body, offset, length);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값 디코딩 실패: " + registration.getType().getName(), e);
+        }
+    }
+
+    /**
+     * 헤더를 붙이고 필요하면 본문을 압축합니다.
+     *
+     * @param typeId 타입 ID
+     * @param body 본문
+     * @return 저장할 바이트
+     */
+    private byte[] frame(int typeId, byte[] body) {
+        if (compressor != null && body.length >= compressionThreshold) {
+            byte[] framed = new byte[HEADER_LENGTH + LENGTH_FIELD + compressor.maxCompressedLength(body.length)];
+            int compressedLength = compressor.compress(body, 0, body.length, framed, HEADER_LENGTH + LENGTH_FIELD);
+            if (compressedLength < body.length - LENGTH_FIELD) {
+                writeHeader(framed, typeId, COMPRESSION_LZ4);
+                ByteBuffer.wrap(framed, HEADER_LENGTH, LENGTH_FIELD).putInt(body.length);
+                return slice(framed, 0, HEADER_LENGTH + LENGTH_FIELD + compressedLength);
+            }
+        }
+
+        byte[] framed = new byte[HEADER_LENGTH + body.length];
+        writeHeader(framed, typeId, COMPRESSION_NONE);
+        System.arraycopy(body, 0, framed, HEADER_LENGTH, body.length);
+        return framed;
+    }
+
+    private static void writeHeader(byte[] target, int typeId, byte compression) {
+        target[0] = FORMAT_VERSION;
+        target[1] = (byte) (typeId >>> 8);
+        target[2] = (byte) typeId;
+        target[3] = compression;
+    }
+
+    private static byte[] slice(byte[] source, int offset, int length) {
+        byte[] result = new byte[length];
+        System.arraycopy(source, offset, result, 0, length);
+        return result;
+    }
+}
@@ -0,0 +1,19 @@
+package com.healthsync.common.cache.codec;
+
+/**
+ * 서비스가 자신의 캐시 값 타입을 Redis 코덱 레지스트리에 등록하는 확장 지점입니다.
+ * 각 서비스는 이 타입의 빈을 선언하여 바이너리 직렬화 대상 타입을 추가합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface RedisCodecRegistrar {
+
+    /**
+     * 타입을 등록합니다.
+     *
+     * @param registry 코덱 레지스트리
+     */
+    void register(RedisCodecRegistry registry);
+}
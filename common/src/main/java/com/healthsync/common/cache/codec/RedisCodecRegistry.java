@@ -0,0 +1,98 @@
+package com.healthsync.common.cache.codec;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 타입별 Redis 코덱과 타입 ID를 관리하는 레지스트리입니다.
+ * 타입 ID는 저장된 값의 헤더에 기록되므로 한 번 배포한 ID는 다른 타입에 다시 사용하지 않아야 합니다.
+ * 서비스별 ID 대역: goal 100~199, health 200~299, intelligence 300~399, motivator 400~499, user 500~599.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class RedisCodecRegistry {
+
+    /**
+     * 등록되지 않은 타입에 사용하는 예약 ID (기존 JSON 형식)
+     */
+    public static final int FALLBACK_TYPE_ID = 0;
+
+    private static final int MAX_TYPE_ID = 0xFFFF;
+
+    private final Map<Class<?>, Registration<?>> byType = new HashMap<>();
+    private final Map<Integer, Registration<?>> byId = new HashMap<>();
+
+    /**
+     * 타입을 Smile 코덱으로 등록합니다.
+     *
+     * @param typeId 타입 ID (1~65535)
+     * @param type 값 타입
+     * @param <T> 값 타입
+     * @return 레지스트리
+     */
+    public <T> RedisCodecRegistry register(int typeId, Class<T> type) {
+        return register(typeId, type, new SmileValueCodec<>(type));
+    }
+
+    /**
+     * 타입을 지정한 코덱으로 등록합니다.
+     *
+     * @param typeId 타입 ID (1~65535)
+     * @param type 값 타입
+     * @param codec 코덱
+     * @param <T> 값 타입
+     * @return 레지스트리
+     */
+    public synchronized <T> RedisCodecRegistry register(int typeId, Class<T> type, RedisValueCodec<T> codec) {
+        if (typeId <= FALLBACK_TYPE_ID || typeId > MAX_TYPE_ID) {
+            throw new IllegalArgumentException("타입 ID는 1~65535 범위여야 합니다: " + typeId);
+        }
+        Registration<?> existing = byId.get(typeId);
+        if (existing != null && existing.getType() != type) {
+            throw new IllegalStateException("타입 ID " + typeId + "가 이미 " + existing.getType().getName() + "에 등록되어 있습니다.");
+        }
+        Registration<T> registration = new Registration<>(typeId, type, codec);
+        byType.put(type, registration);
+        byId.put(typeId, registration);
+        return this;
+    }
+
+    /**
+     * 타입의 등록 정보를 반환합니다.
+     *
+     * @param type 값 타입
+     * @return 등록 정보 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Registration<T> forType(Class<T> type) {
+        return (Registration<T>) byType.get(type);
+    }
+
+    /**
+     * 타입 ID의 등록 정보를 반환합니다.
+     *
+     * @param typeId 타입 ID
+     * @return 등록 정보 (없으면 null)
+     */
+    public Registration<?> forId(int typeId) {
+        return byId.get(typeId);
+    }
+
+    /**
+     * 타입 ID, 타입, 코덱 등록 정보
+     *
+     * @param <T> 값 타입
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Registration<T> {
+
+        private final int typeId;
+        private final Class<T> type;
+        private final RedisValueCodec<T> codec;
+    }
+}
@@ -0,0 +1,33 @@
+package com.healthsync.common.cache.codec;
+
+import java.io.IOException;
+
+/**
+ * 한 타입의 값을 Redis 저장용 바이트로 변환하는 코덱입니다.
+ *
+ * @param <T> 값 타입
+ * @author healthsync-team
+ * @version 1.0
+ */
+public interface RedisValueCodec<T> {
+
+    /**
+     * 값을 바이트로 인코딩합니다.
+     *
+     * @param value 값
+     * @return 인코딩된 바이트
+     * @throws IOException 인코딩 실패 시
+     */
+    byte[] encode(T value) throws IOException;
+
+    /**
+     * 바이트 배열의 일부를 값으로 디코딩합니다.
+     *
+     * @param bytes 바이트 배열
+     * @param offset 시작 위치
+     * @param length 길이
+     * @return 디코딩된 값
+     * @throws IOException 디코딩 실패 시
+     */
+    T decode(byte[] bytes, int offset, int length) throws IOException;
+}
@@ -0,0 +1,51 @@
+package com.healthsync.common.cache.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+import java.io.IOException;
+
+/**
+ * Jackson Smile(바이너리 JSON)로 값을 인코딩하는 코덱입니다.
+ * 타입을 코덱 등록 시 고정하므로 클래스 이름을 값마다 저장하지 않고, 반복되는 필드 이름과 짧은 문자열은 참조로 압축합니다.
+ * 알 수 없는 필드는 무시하므로 필드를 추가해도 기존 값을 읽을 수 있습니다.
+ *
+ * @param <T> 값 타입
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class SmileValueCodec<T> implements RedisValueCodec<T> {
+
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build())
+            .findAndRegisterModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    /**
+     * SmileValueCodec 생성자
+     *
+     * @param type 값 타입
+     */
+    public SmileValueCodec(Class<T> type) {
+        this.reader = SMILE_MAPPER.readerFor(type);
+        this.writer = SMILE_MAPPER.writerFor(type);
+    }
+
+    @Override
+    public byte[] encode(T value) throws IOException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Override
+    public T decode(byte[] bytes, int offset, int length) throws IOException {
+        return reader.readValue(bytes, offset, length);
+    }
+}
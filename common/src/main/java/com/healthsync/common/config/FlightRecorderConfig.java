@@ -0,0 +1,56 @@
+package com.healthsync.common.config;
+
+import com.healthsync.common.jfr.FlightRecordingEndpoint;
+import com.healthsync.common.jfr.JpaFlushEventListener;
+import com.healthsync.common.jfr.UseCaseEventAspect;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JFR(JDK Flight Recorder) 이벤트와 온디맨드 레코딩 엔드포인트 설정을 관리하는 클래스입니다.
+ * 캐시 조회와 LLM 호출 이벤트는 각 구현에서 직접 기록합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "healthsync.jfr", name = "enabled", matchIfMissing = true)
+public class FlightRecorderConfig {
+
+    /**
+     * 유스케이스 실행 이벤트를 기록하는 애스펙트를 생성합니다.
+     *
+     * @param service 서비스 이름
+     * @return UseCaseEventAspect
+     */
+    @Bean
+    public UseCaseEventAspect useCaseEventAspect(@Value("${spring.application.name:unknown}") String service) {
+        return new UseCaseEventAspect(service);
+    }
+
+    /**
+     * 모든 Hibernate 세션에 JPA flush 이벤트 리스너를 등록합니다.
+     *
+     * @return HibernatePropertiesCustomizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jpaFlushEventCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JpaFlushEventListener.class.getName());
+    }
+
+    /**
+     * JFR 레코딩 actuator 엔드포인트를 생성합니다.
+     *
+     * @param properties JFR 설정
+     * @return FlightRecordingEndpoint
+     */
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(FlightRecorderProperties properties) {
+        return new FlightRecordingEndpoint(properties);
+    }
+}
@@ -0,0 +1,47 @@
+package com.healthsync.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JFR(JDK Flight Recorder) 이벤트와 온디맨드 레코딩 설정 정보를 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "healthsync.jfr")
+public class FlightRecorderProperties {
+
+    /**
+     * 유스케이스/JPA flush 이벤트 기록과 /actuator/jfr 엔드포인트 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 레코딩 시간을 지정하지 않은 경우의 기본값
+     */
+    private Duration defaultDuration = Duration.ofSeconds(30);
+
+    /**
+     * 레코딩 최대 시간 (요청한 시간이 더 길면 이 값으로 제한)
+     */
+    private Duration maxDuration = Duration.ofMinutes(5);
+
+    /**
+     * 기본 JFR 설정 이름 (default: 약 1% 부하, profile: 약 2% 부하와 상세 샘플링)
+     */
+    private String settings = "default";
+
+    /**
+     * 레코딩에서 제외할 이벤트 (환경 변수, 시스템 속성, JVM 인자는 비밀 값을 담을 수 있음)
+     */
+    private List<String> excludedEvents = new ArrayList<>(List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation"));
+}
@@ -0,0 +1,84 @@
+package com.healthsync.common.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.healthsync.common.logging.LogSamplingTurboFilter;
+import com.healthsync.common.logging.RingBufferAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Iterator;
+
+/**
+ * 로그 표본 추출 필터와 비동기 로깅 메트릭 설정을 관리하는 클래스입니다.
+ * 비동기 어펜더 자체는 logback-spring.xml에서 구성합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnClass(LoggerContext.class)
+public class HotPathLoggingConfig {
+
+    /**
+     * 로거별 표본 추출/기록 수 제한 필터를 Logback에 등록합니다.
+     * 같은 서비스의 컨텍스트가 같은 JVM에서 다시 만들어지면 이전 필터를 교체합니다.
+     *
+     * @param properties 로깅 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @param service 서비스 이름
+     * @return LogSamplingTurboFilter
+     */
+    @Bean
+    public LogSamplingTurboFilter logSamplingTurboFilter(HotPathLoggingProperties properties,
+                                                         MeterRegistry meterRegistry,
+                                                         @Value("${spring.application.name:unknown}") String service) {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        LogSamplingTurboFilter filter = new LogSamplingTurboFilter(service, properties.getSampling(), meterRegistry);
+        filter.setContext(loggerContext);
+        filter.start();
+        loggerContext.getTurboFilterList().removeIf(existing -> filter.getName().equals(existing.getName()));
+        loggerContext.addTurboFilter(filter);
+        return filter;
+    }
+
+    /**
+     * 비동기 어펜더가 버린 로그 수와 대기 중인 로그 수를 메트릭으로 등록합니다.
+     *
+     * @return MeterBinder
+     */
+    @Bean
+    public MeterBinder asyncLogAppenderMetrics() {
+        return registry -> {
+            LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+            Iterator<Appender<ILoggingEvent>> appenders =
+                    loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof RingBufferAsyncAppender appender) {
+                    bind(registry, appender);
+                }
+            }
+        };
+    }
+
+    private static void bind(MeterRegistry registry, RingBufferAsyncAppender appender) {
+        FunctionCounter.builder(LogSamplingTurboFilter.DROPPED_METRIC, appender, RingBufferAsyncAppender::getDroppedCount)
+                .description("기록하지 않은 로그 수 (sampled, rate_limited, queue_full)")
+                .tag("source", appender.getName())
+                .tag("reason", "queue_full")
+                .register(registry);
+        Gauge.builder("healthsync.logging.queue.size", appender, RingBufferAsyncAppender::getQueueSize)
+                .description("비동기 어펜더에서 기록을 기다리는 로그 수")
+                .tag("appender", appender.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.healthsync.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 비동기 로깅과 로그 표본 추출 설정 정보를 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "healthsync.logging")
+public class HotPathLoggingProperties {
+
+    /**
+     * 비동기 콘솔 어펜더 설정 (logback-spring.xml에서 읽음)
+     */
+    private Async async = new Async();
+
+    /**
+     * 로거 이름 접두사별 표본 추출/기록 수 제한 규칙 (키에 '.'이 있으므로 "[com.healthsync...]" 형식으로 지정)
+     */
+    private Map<String, Sampling> sampling = new LinkedHashMap<>();
+
+    /**
+     * 비동기 콘솔 어펜더 설정
+     */
+    @Data
+    public static class Async {
+
+        /**
+         * 링 버퍼 용량 (가득 차면 INFO 이하 로그는 버리고 healthsync.logging.dropped로 집계)
+         */
+        private int capacity = 8192;
+    }
+
+    /**
+     * 표본 추출/기록 수 제한 규칙 (DEBUG, INFO 로그에만 적용)
+     */
+    @Data
+    public static class Sampling {
+
+        /**
+         * 기록할 비율 (0~1, 1이면 모두 기록)
+         */
+        private double sampleRate = 1.0;
+
+        /**
+         * 초당 최대 기록 수 (0이면 제한 없음)
+         */
+        private long maxPerSecond = 0;
+    }
+}
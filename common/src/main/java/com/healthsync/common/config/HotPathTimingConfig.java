@@ -0,0 +1,34 @@
+package com.healthsync.common.config;
+
+import com.healthsync.common.metrics.HotPathTimingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 유스케이스/포트 호출 시간 계측 설정을 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "healthsync.timing", name = "enabled", matchIfMissing = true)
+public class HotPathTimingConfig {
+
+    /**
+     * 유스케이스/포트 호출 시간 계측 애스펙트를 생성합니다.
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @param properties 계측 설정
+     * @param service 서비스 이름
+     * @return HotPathTimingAspect
+     */
+    @Bean
+    public HotPathTimingAspect hotPathTimingAspect(MeterRegistry meterRegistry,
+                                                   HotPathTimingProperties properties,
+                                                   @Value("${spring.application.name:unknown}") String service) {
+        return new HotPathTimingAspect(meterRegistry, properties, service);
+    }
+}
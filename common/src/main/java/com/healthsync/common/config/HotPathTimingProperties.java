@@ -0,0 +1,75 @@
+package com.healthsync.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유스케이스/포트 호출 시간 계측 설정 정보를 관리하는 클래스입니다.
+ * 히스토그램 버킷은 기본값이 모든 유스케이스와 포트에 적용되고, {@code ports.<포트 이름>}으로 포트별 값을 덮어씁니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "healthsync.timing")
+public class HotPathTimingProperties {
+
+    /**
+     * 계측 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 기본 히스토그램 버킷 경계 (SLO)
+     */
+    private List<Duration> slo = new ArrayList<>(List.of(
+            Duration.ofMillis(5), Duration.ofMillis(25), Duration.ofMillis(100),
+            Duration.ofMillis(250), Duration.ofSeconds(1), Duration.ofSeconds(5)));
+
+    /**
+     * 백분위 계산용 히스토그램 전체 버킷 발행 여부 (Prometheus histogram_quantile용, 시계열 수가 크게 늘어남)
+     */
+    private boolean percentileHistogram = false;
+
+    /**
+     * 포트별 개별 설정 (키: 포트 인터페이스 이름, 예: CachePort, ClaudeApiPort, GoalRepository)
+     */
+    private Map<String, Port> ports = new HashMap<>();
+
+    /**
+     * 포트 설정을 반환합니다. 지정하지 않은 값은 기본값을 사용합니다.
+     *
+     * @param name 포트 이름 (대소문자 구분 없음)
+     * @return 포트 설정
+     */
+    public Port port(String name) {
+        Port configured = ports.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(name))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseGet(Port::new);
+        Port resolved = new Port();
+        resolved.setSlo(configured.getSlo() != null && !configured.getSlo().isEmpty() ? configured.getSlo() : slo);
+        resolved.setPercentileHistogram(configured.getPercentileHistogram() != null
+                ? configured.getPercentileHistogram() : percentileHistogram);
+        return resolved;
+    }
+
+    /**
+     * 포트별 계측 설정
+     */
+    @Data
+    public static class Port {
+
+        private List<Duration> slo;
+        private Boolean percentileHistogram;
+    }
+}
@@ -0,0 +1,115 @@
+package com.healthsync.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서비스 간/외부 API 호출용 HTTP 클라이언트 설정 정보를 관리하는 클래스입니다.
+ * 기본값은 모든 대상에 적용되고, {@code clients.<대상 이름>}으로 대상별 값을 덮어씁니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "healthsync.http-client")
+public class HttpClientProperties {
+
+    /**
+     * 대상별 최대 연결 수
+     */
+    private int maxConnections = 50;
+
+    /**
+     * 연결 풀이 가득 찼을 때 연결을 기다리는 최대 시간
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 연결을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 실패)
+     */
+    private int pendingAcquireMaxCount = 200;
+
+    /**
+     * 사용하지 않는 연결을 닫기까지의 시간 (상대 서버의 keep-alive 시간보다 짧게)
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * 연결의 최대 수명 (부하 분산 대상 변경을 반영하기 위해 주기적으로 재연결)
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    /**
+     * TCP 연결 제한 시간
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 요청 전송 후 응답을 기다리는 최대 시간
+     */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * HTTP keep-alive 및 TCP keep-alive 사용 여부
+     */
+    private boolean keepAlive = true;
+
+    /**
+     * HTTP/2 사용 여부 (TLS ALPN으로 협상하므로 HTTPS 대상에만 지정)
+     */
+    private boolean http2 = false;
+
+    /**
+     * 대상별 개별 설정 (키: 대상 이름)
+     */
+    private Map<String, Client> clients = new HashMap<>();
+
+    /**
+     * 대상 설정을 반환합니다. 지정하지 않은 값은 기본값을 사용합니다.
+     *
+     * @param name 대상 이름
+     * @return 대상 설정
+     */
+    public Client client(String name) {
+        Client configured = clients.getOrDefault(name, new Client());
+        Client resolved = new Client();
+        resolved.setMaxConnections(configured.getMaxConnections() != null
+                ? configured.getMaxConnections() : maxConnections);
+        resolved.setPendingAcquireTimeout(configured.getPendingAcquireTimeout() != null
+                ? configured.getPendingAcquireTimeout() : pendingAcquireTimeout);
+        resolved.setPendingAcquireMaxCount(configured.getPendingAcquireMaxCount() != null
+                ? configured.getPendingAcquireMaxCount() : pendingAcquireMaxCount);
+        resolved.setMaxIdleTime(configured.getMaxIdleTime() != null ? configured.getMaxIdleTime() : maxIdleTime);
+        resolved.setMaxLifeTime(configured.getMaxLifeTime() != null ? configured.getMaxLifeTime() : maxLifeTime);
+        resolved.setConnectTimeout(configured.getConnectTimeout() != null
+                ? configured.getConnectTimeout() : connectTimeout);
+        resolved.setResponseTimeout(configured.getResponseTimeout() != null
+                ? configured.getResponseTimeout() : responseTimeout);
+        resolved.setKeepAlive(configured.getKeepAlive() != null ? configured.getKeepAlive() : keepAlive);
+        resolved.setHttp2(configured.getHttp2() != null ? configured.getHttp2() : http2);
+        return resolved;
+    }
+
+    /**
+     * 대상별 HTTP 클라이언트 설정
+     */
+    @Data
+    public static class Client {
+
+        private Integer maxConnections;
+        private Duration pendingAcquireTimeout;
+        private Integer pendingAcquireMaxCount;
+        private Duration maxIdleTime;
+        private Duration maxLifeTime;
+        private Duration connectTimeout;
+        private Duration responseTimeout;
+        private Boolean keepAlive;
+        private Boolean http2;
+    }
+}
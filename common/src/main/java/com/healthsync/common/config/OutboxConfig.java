@@ -0,0 +1,90 @@
+package com.healthsync.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthsync.common.outbox.EventBroker;
+import com.healthsync.common.outbox.InMemoryEventBroker;
+import com.healthsync.common.outbox.OutboxEventEntity;
+import com.healthsync.common.outbox.OutboxEventRepository;
+import com.healthsync.common.outbox.OutboxRelay;
+import com.healthsync.common.outbox.OutboxWriter;
+import com.healthsync.common.outbox.RedisStreamEventBroker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 트랜잭션 아웃박스 설정을 관리하는 클래스입니다.
+ * 아웃박스 엔티티와 리포지토리가 있는 패키지를 JPA 스캔 대상에 추가하므로 서비스에서 따로 지정할 필요가 없습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "healthsync.outbox", name = "enabled", havingValue = "true")
+@AutoConfigurationPackage(basePackageClasses = OutboxEventEntity.class)
+public class OutboxConfig {
+
+    /**
+     * Redis Stream 이벤트 브로커를 생성합니다.
+     *
+     * @param redisTemplate Redis 템플릿
+     * @param properties 아웃박스 설정
+     * @return EventBroker
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "healthsync.outbox", name = "broker", havingValue = "redis-streams",
+            matchIfMissing = true)
+    public EventBroker redisStreamEventBroker(StringRedisTemplate redisTemplate, OutboxProperties properties) {
+        return new RedisStreamEventBroker(redisTemplate, properties.getStreamPrefix(), properties.getStreamMaxLength());
+    }
+
+    /**
+     * 메모리 이벤트 브로커를 생성합니다 (테스트, 로컬 환경용).
+     *
+     * @return EventBroker
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "healthsync.outbox", name = "broker", havingValue = "in-memory")
+    public EventBroker inMemoryEventBroker() {
+        return new InMemoryEventBroker();
+    }
+
+    /**
+     * 아웃박스 릴레이를 생성합니다.
+     *
+     * @param repository 아웃박스 리포지토리
+     * @param broker 이벤트 브로커
+     * @param transactionManager 트랜잭션 관리자
+     * @param properties 아웃박스 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @param service 서비스 이름
+     * @return OutboxRelay
+     */
+    @Bean
+    public OutboxRelay outboxRelay(OutboxEventRepository repository, EventBroker broker,
+                                   PlatformTransactionManager transactionManager, OutboxProperties properties,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${spring.application.name:unknown}") String service) {
+        return new OutboxRelay(repository, broker, new TransactionTemplate(transactionManager), properties, service,
+                meterRegistry);
+    }
+
+    /**
+     * 아웃박스 저장기를 생성합니다.
+     *
+     * @param repository 아웃박스 리포지토리
+     * @param objectMapper ObjectMapper
+     * @param relay 아웃박스 릴레이
+     * @return OutboxWriter
+     */
+    @Bean
+    public OutboxWriter outboxWriter(OutboxEventRepository repository, ObjectMapper objectMapper, OutboxRelay relay) {
+        return new OutboxWriter(repository, objectMapper, relay);
+    }
+}
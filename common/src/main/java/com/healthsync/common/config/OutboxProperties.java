@@ -0,0 +1,72 @@
+package com.healthsync.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 트랜잭션 아웃박스와 릴레이 설정 정보를 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "healthsync.outbox")
+public class OutboxProperties {
+
+    /**
+     * 아웃박스 사용 여부 (도메인 이벤트를 발행하는 서비스에서만 켬)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 이벤트 브로커 (redis-streams, in-memory)
+     */
+    private Broker broker = Broker.REDIS_STREAMS;
+
+    /**
+     * 전송 전 이벤트 조회 주기 (커밋 직후에는 주기를 기다리지 않고 바로 전송)
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * 한 번에 전송할 최대 이벤트 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 전송 실패 후 다시 시도할 때까지의 대기 시간
+     */
+    private Duration retryBackoff = Duration.ofSeconds(5);
+
+    /**
+     * 전송 완료 이벤트 보관 기간
+     */
+    private Duration retention = Duration.ofDays(1);
+
+    /**
+     * 보관 기간이 지난 이벤트 삭제 주기
+     */
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+    /**
+     * Redis Stream 키 접두사 (스트림 키: 접두사 + 토픽)
+     */
+    private String streamPrefix = "healthsync:events:";
+
+    /**
+     * Redis Stream 최대 길이 (근사 삭제, 0이면 제한 없음)
+     */
+    private long streamMaxLength = 100_000;
+
+    /**
+     * 이벤트 브로커 종류
+     */
+    public enum Broker {
+        REDIS_STREAMS,
+        IN_MEMORY
+    }
+}
@@ -0,0 +1,30 @@
+package com.healthsync.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 서버 지원 클라이언트 캐싱(RESP3 CLIENT TRACKING) 설정 정보를 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "healthsync.redis.client-tracking")
+public class RedisClientTrackingProperties {
+
+    /**
+     * 클라이언트 추적 사용 여부 (Redis 6 이상, Lettuce 단일 노드 연결 필요)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 서버가 변경을 알려줄 키 접두사 (읽기 위주 캐시만 지정, 서로 겹치지 않아야 함)
+     */
+    private List<String> prefixes = new ArrayList<>(List.of("health_history:", "mission_recommendations:"));
+}
@@ -1,10 +1,18 @@
 package com.healthsync.common.config;
 
+import com.healthsync.common.cache.RedisClientTracking;
+import com.healthsync.common.cache.codec.BinaryRedisSerializer;
+import com.healthsync.common.cache.codec.RedisCodecRegistrar;
+import com.healthsync.common.cache.codec.RedisCodecRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -18,13 +26,18 @@ public class RedisConfig {
     
     /**
      * RedisTemplate 빈을 생성합니다.
-     * JSON 직렬화를 통해 객체 저장을 지원합니다.
+     * 기본값은 타입별 바이너리 코덱 직렬화이며, 각 서비스가 {@link RedisCodecRegistrar}로 등록한 타입만
+     * 바이너리로 저장하고 나머지는 JSON으로 저장합니다.
      * 
      * @param connectionFactory Redis 연결 팩토리
+     * @param properties Redis 직렬화 설정
+     * @param registrars 서비스별 코덱 등록
      * @return RedisTemplate<String, Object>
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       RedisSerializerProperties properties,
+                                                       ObjectProvider<RedisCodecRegistrar> registrars) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
@@ -32,10 +45,42 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
         
-        // Value는 JSON 직렬화
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // Value는 타입별 바이너리 코덱 또는 JSON 직렬화
+        RedisSerializer<Object> valueSerializer = valueSerializer(properties, registrars);
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
         
         return template;
     }
+    
+    /**
+     * Redis 서버 지원 클라이언트 캐싱(RESP3 CLIENT TRACKING)을 생성합니다.
+     * 지정한 접두사의 키가 변경되면 서버가 푸시 메시지를 보내고, 2단계 캐시가 로컬 항목을 삭제합니다.
+     * 
+     * @param connectionFactory Redis 연결 팩토리 (Lettuce)
+     * @param properties 클라이언트 추적 설정
+     * @return RedisClientTracking
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "healthsync.redis.client-tracking", name = "enabled", havingValue = "true")
+    public RedisClientTracking redisClientTracking(RedisConnectionFactory connectionFactory,
+                                                   RedisClientTrackingProperties properties) {
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuceConnectionFactory)) {
+            throw new IllegalStateException("Redis 클라이언트 추적은 Lettuce 연결에서만 사용할 수 있습니다.");
+        }
+        return new RedisClientTracking(lettuceConnectionFactory, properties.getPrefixes());
+    }
+    
+    private RedisSerializer<Object> valueSerializer(RedisSerializerProperties properties,
+                                                    ObjectProvider<RedisCodecRegistrar> registrars) {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        if (properties.getFormat() == RedisSerializerProperties.Format.JSON) {
+            return json;
+        }
+        
+        RedisCodecRegistry registry = new RedisCodecRegistry();
+        registrars.orderedStream().forEach(registrar -> registrar.register(registry));
+        return new BinaryRedisSerializer(registry, json,
+                properties.isCompressionEnabled(), properties.getCompressionThreshold());
+    }
 }
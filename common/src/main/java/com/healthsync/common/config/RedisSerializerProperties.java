@@ -0,0 +1,40 @@
+package com.healthsync.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redis 값 직렬화 설정 정보를 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "healthsync.redis.serializer")
+public class RedisSerializerProperties {
+
+    /**
+     * 값 직렬화 형식 (binary: 타입별 코덱, json: 기존 Jackson JSON)
+     */
+    private Format format = Format.BINARY;
+
+    /**
+     * 임계값 이상 본문의 LZ4 압축 사용 여부
+     */
+    private boolean compressionEnabled = true;
+
+    /**
+     * 압축을 시도할 최소 본문 크기 (바이트)
+     */
+    private int compressionThreshold = 1024;
+
+    /**
+     * 값 직렬화 형식
+     */
+    public enum Format {
+        BINARY,
+        JSON
+    }
+}
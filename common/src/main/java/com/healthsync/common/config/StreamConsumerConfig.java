@@ -0,0 +1,53 @@
+package com.healthsync.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthsync.common.stream.StreamConsumerContainer;
+import com.healthsync.common.stream.StreamEventHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Redis Stream 이벤트 소비자 설정을 관리하는 클래스입니다.
+ * 서비스에 {@link StreamEventHandler} 빈이 있을 때만 소비자 스레드를 시작합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "healthsync.stream-consumer", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class StreamConsumerConfig {
+
+    /**
+     * 스트림 소비자 컨테이너를 생성합니다.
+     *
+     * @param redisTemplate Redis 템플릿
+     * @param objectMapper ObjectMapper
+     * @param handlers 이벤트 핸들러 목록
+     * @param properties 소비자 설정
+     * @param outboxProperties 아웃박스 설정 (스트림 키 접두사)
+     * @param meterRegistry 메트릭 레지스트리
+     * @param service 서비스 이름
+     * @return StreamConsumerContainer
+     */
+    @Bean
+    public StreamConsumerContainer streamConsumerContainer(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                                           ObjectProvider<StreamEventHandler<?>> handlers,
+                                                           StreamConsumerProperties properties,
+                                                           OutboxProperties outboxProperties,
+                                                           MeterRegistry meterRegistry,
+                                                           @Value("${spring.application.name:unknown}") String service) {
+        List<StreamEventHandler<?>> registered = handlers.orderedStream().toList();
+        String group = StringUtils.hasText(properties.getGroup()) ? properties.getGroup() : service;
+        return new StreamConsumerContainer(redisTemplate, objectMapper, registered, properties,
+                outboxProperties.getStreamPrefix(), group, meterRegistry);
+    }
+}
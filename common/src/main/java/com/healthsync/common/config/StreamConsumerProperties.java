@@ -0,0 +1,110 @@
+package com.healthsync.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis Stream 이벤트 소비자 설정 정보를 관리하는 클래스입니다.
+ * 스트림 키 접두사는 아웃박스와 같은 healthsync.outbox.stream-prefix를 사용합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "healthsync.stream-consumer")
+public class StreamConsumerProperties {
+
+    /**
+     * 소비자 사용 여부 (등록된 핸들러가 없으면 아무것도 하지 않음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 소비자 그룹 이름 (없으면 서비스 이름, 같은 그룹의 인스턴스끼리 이벤트를 나누어 처리)
+     */
+    private String group;
+
+    /**
+     * 토픽별 기본 소비자 스레드 수
+     */
+    private int concurrency = 1;
+
+    /**
+     * XREADGROUP 한 번에 읽을 최대 이벤트 수
+     */
+    private int batchSize = 50;
+
+    /**
+     * 이벤트가 없을 때 기다리는 시간 (Redis 명령 제한 시간보다 짧아야 함)
+     */
+    private Duration blockTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 확인(ACK)되지 않은 채 이 시간이 지난 이벤트를 다른 소비자가 가져와 다시 처리
+     */
+    private Duration claimIdle = Duration.ofMinutes(1);
+
+    /**
+     * 미확인 이벤트 회수 주기
+     */
+    private Duration reclaimInterval = Duration.ofSeconds(30);
+
+    /**
+     * 최대 전달 횟수 (넘으면 <스트림>:dead-letter로 옮기고 확인 처리)
+     */
+    private int maxDeliveries = 5;
+
+    /**
+     * 소비자 그룹을 처음 만들 때 읽기 시작할 위치
+     */
+    private InitialOffset initialOffset = InitialOffset.LATEST;
+
+    /**
+     * 토픽별 개별 설정 (키: 토픽 이름)
+     */
+    private Map<String, Topic> topics = new HashMap<>();
+
+    /**
+     * 토픽 설정을 반환합니다. 지정하지 않은 값은 기본값을 사용합니다.
+     *
+     * @param name 토픽 이름
+     * @return 토픽 설정
+     */
+    public Topic topic(String name) {
+        Topic configured = topics.getOrDefault(name, new Topic());
+        Topic resolved = new Topic();
+        resolved.setConcurrency(configured.getConcurrency() != null ? configured.getConcurrency() : concurrency);
+        resolved.setBatchSize(configured.getBatchSize() != null ? configured.getBatchSize() : batchSize);
+        return resolved;
+    }
+
+    /**
+     * 토픽별 소비자 설정
+     */
+    @Data
+    public static class Topic {
+
+        private Integer concurrency;
+        private Integer batchSize;
+    }
+
+    /**
+     * 소비자 그룹 시작 위치
+     */
+    public enum InitialOffset {
+        /**
+         * 그룹 생성 이후 추가된 이벤트부터
+         */
+        LATEST,
+        /**
+         * 스트림에 남아 있는 가장 오래된 이벤트부터
+         */
+        EARLIEST
+    }
+}
@@ -0,0 +1,75 @@
+package com.healthsync.common.config;
+
+import com.healthsync.common.cache.HotKeyEndpoint;
+import com.healthsync.common.cache.RedisClientTracking;
+import com.healthsync.common.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 2단계 캐시(L1 로컬 + L2 Redis) 설정을 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+public class TwoTierCacheConfig {
+
+    /**
+     * 네임스페이스별 2단계 캐시 관리자를 생성합니다.
+     *
+     * @param redisTemplate 값 저장용 Redis 템플릿
+     * @param stringRedisTemplate 무효화 메시지 발행용 Redis 템플릿
+     * @param properties 2단계 캐시 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @param clientTracking Redis 클라이언트 추적 (켜진 경우에만 존재)
+     * @return TwoTierCacheManager
+     */
+    @Bean
+    public TwoTierCacheManager twoTierCacheManager(RedisTemplate<String, Object> redisTemplate,
+                                                   StringRedisTemplate stringRedisTemplate,
+                                                   TwoTierCacheProperties properties,
+                                                   MeterRegistry meterRegistry,
+                                                   ObjectProvider<RedisClientTracking> clientTracking) {
+        return new TwoTierCacheManager(redisTemplate, stringRedisTemplate, properties, meterRegistry,
+                clientTracking.getIfAvailable());
+    }
+
+    /**
+     * 핫 키 조회 actuator 엔드포인트를 생성합니다. 핫 키 감지를 끄면 등록하지 않습니다.
+     *
+     * @param cacheManager 2단계 캐시 관리자
+     * @return HotKeyEndpoint
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "healthsync.cache.hot-key", name = "enabled", matchIfMissing = true)
+    public HotKeyEndpoint hotKeyEndpoint(TwoTierCacheManager cacheManager) {
+        return new HotKeyEndpoint(cacheManager.getHotKeyTracker());
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 L1 무효화 메시지를 수신하는 리스너 컨테이너를 생성합니다.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param cacheManager 2단계 캐시 관리자
+     * @param properties 2단계 캐시 설정
+     * @return RedisMessageListenerContainer
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoTierCacheManager cacheManager,
+                                                                            TwoTierCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+}
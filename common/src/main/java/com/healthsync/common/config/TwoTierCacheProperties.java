@@ -0,0 +1,147 @@
+package com.healthsync.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시(L1 로컬 + L2 Redis) 설정 정보를 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "healthsync.cache")
+public class TwoTierCacheProperties {
+
+    /**
+     * L1 로컬 캐시 사용 여부 (false면 모든 조회가 Redis로 전달)
+     */
+    private boolean l1Enabled = true;
+
+    /**
+     * 네임스페이스별 L1 최대 항목 수 기본값
+     */
+    private long l1MaxSize = 10_000;
+
+    /**
+     * L1 항목 유지 시간 기본값 (Redis TTL보다 길게 유지하지 않음)
+     */
+    private Duration l1Ttl = Duration.ofMinutes(1);
+
+    /**
+     * L1 무효화 메시지를 전파하는 Redis pub/sub 채널
+     */
+    private String invalidationChannel = "cache:invalidate";
+
+    /**
+     * 인스턴스 간 계산 임대 유지 시간 (가장 느린 계산보다 길게, LLM 호출 포함)
+     */
+    private Duration leaseTtl = Duration.ofSeconds(45);
+
+    /**
+     * 임대를 얻지 못한 요청이 다른 인스턴스의 계산 결과를 확인하는 주기
+     */
+    private Duration leasePollInterval = Duration.ofMillis(100);
+
+    /**
+     * 다른 요청/인스턴스의 계산 결과를 기다리는 최대 시간 (HTTP 응답 제한 시간 이하로, 초과하면 빠르게 실패)
+     */
+    private Duration leaseMaxWait = Duration.ofSeconds(10);
+
+    /**
+     * 확률적 조기 갱신 강도 (0이면 조기 갱신하지 않음, 1이 기본, 클수록 일찍 갱신)
+     */
+    private double earlyRefreshBeta = 1.0;
+
+    /**
+     * 핫 키 감지 및 로컬 승격 설정
+     */
+    private HotKey hotKey = new HotKey();
+
+    /**
+     * 네임스페이스별 개별 설정 (키: 네임스페이스 이름)
+     */
+    private Map<String, Namespace> namespaces = new HashMap<>();
+
+    /**
+     * 네임스페이스 설정을 반환합니다. 지정하지 않은 값은 기본값을 사용합니다.
+     *
+     * @param name 네임스페이스 이름
+     * @return 네임스페이스 설정
+     */
+    public Namespace namespace(String name) {
+        Namespace configured = namespaces.get(name);
+        Namespace resolved = new Namespace();
+        resolved.setL1Enabled(configured != null && configured.getL1Enabled() != null
+                ? configured.getL1Enabled() : l1Enabled);
+        resolved.setL1MaxSize(configured != null && configured.getL1MaxSize() != null
+                ? configured.getL1MaxSize() : l1MaxSize);
+        resolved.setL1Ttl(configured != null && configured.getL1Ttl() != null
+                ? configured.getL1Ttl() : l1Ttl);
+        return resolved;
+    }
+
+    /**
+     * 네임스페이스별 L1 설정
+     */
+    @Data
+    public static class Namespace {
+
+        private Boolean l1Enabled;
+        private Long l1MaxSize;
+        private Duration l1Ttl;
+    }
+
+    /**
+     * 핫 키 감지 및 로컬 승격 설정
+     */
+    @Data
+    public static class HotKey {
+
+        /**
+         * 핫 키 감지 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * Redis 조회 중 집계할 비율 (0~1, 집계된 횟수는 이 비율로 나누어 추정)
+         */
+        private double sampleRate = 0.1;
+
+        /**
+         * 핫 키로 판정하는 감쇠 주기당 추정 조회 수
+         */
+        private long threshold = 1_000;
+
+        /**
+         * 집계 감쇠 주기 (주기마다 모든 카운터를 절반으로 줄임)
+         */
+        private Duration decayInterval = Duration.ofSeconds(10);
+
+        /**
+         * 네임스페이스별로 보고하는 상위 키 수
+         */
+        private int topK = 20;
+
+        /**
+         * Count-Min Sketch 행당 카운터 수
+         */
+        private int sketchWidth = 4_096;
+
+        /**
+         * Count-Min Sketch 행 수
+         */
+        private int sketchDepth = 4;
+
+        /**
+         * 핫 키 값을 프로세스 내에 보관하는 시간 (무효화 메시지로도 삭제)
+         */
+        private Duration localTtl = Duration.ofSeconds(2);
+    }
+}
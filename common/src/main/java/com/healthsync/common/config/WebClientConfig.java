@@ -0,0 +1,31 @@
+package com.healthsync.common.config;
+
+import com.healthsync.common.http.WebClientFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * 서비스 간/외부 API 호출용 WebClient 설정을 관리하는 클래스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * 대상별 WebClient 팩토리를 생성합니다.
+     * Spring Boot가 구성한 WebClient 빌더를 기반으로 하여 {@code http.client.requests} 메트릭이 기록됩니다.
+     *
+     * @param builder Spring Boot WebClient 빌더 (없으면 기본 빌더)
+     * @param properties HTTP 클라이언트 설정
+     * @return WebClientFactory
+     */
+    @Bean
+    public WebClientFactory webClientFactory(ObjectProvider<WebClient.Builder> builder,
+                                             HttpClientProperties properties) {
+        return new WebClientFactory(builder.getIfAvailable(WebClient::builder), properties);
+    }
+}
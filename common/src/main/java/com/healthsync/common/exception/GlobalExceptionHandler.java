@@ -1,8 +1,10 @@
 // common/src/main/java/com/healthsync/common/exception/GlobalExceptionHandler.java
 package com.healthsync.common.exception;
 
+import com.healthsync.common.cache.CacheLoadTimeoutException;
 import com.healthsync.common.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -53,6 +55,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * 캐시 계산 대기 시간 초과 처리 (잠시 후 다시 시도하면 계산된 값을 받을 수 있음)
+     *
+     * @param ex CacheLoadTimeoutException
+     * @return ErrorResponse
+     */
+    @ExceptionHandler(CacheLoadTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleCacheLoadTimeoutException(CacheLoadTimeoutException ex) {
+        log.warn("Cache load wait timed out: {}", ex.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("CACHE_LOAD_TIMEOUT")
+                .message("요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해 주세요.")
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     /**
      * 일반적인 예외 처리
      *
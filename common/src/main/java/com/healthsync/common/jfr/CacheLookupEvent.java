@@ -0,0 +1,37 @@
+package com.healthsync.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 2단계 캐시 조회를 기록하는 JFR 이벤트입니다. 적중한 단계(l1, hot, l2)와 적중 여부를 함께 기록합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Name("healthsync.CacheLookup")
+@Label("Cache Lookup")
+@Description("2단계 캐시 조회 (L1, 핫 키, Redis)")
+@Category({"HealthSync", "Cache"})
+@StackTrace(false)
+@Setter
+public class CacheLookupEvent extends Event {
+
+    @Label("Cache")
+    private String cache;
+
+    @Label("Key")
+    private String key;
+
+    @Label("Tier")
+    @Description("조회를 끝낸 단계 (l1, hot, l2)")
+    private String tier;
+
+    @Label("Hit")
+    private boolean hit;
+}
@@ -0,0 +1,174 @@
+package com.healthsync.common.jfr;
+
+import com.healthsync.common.config.FlightRecorderProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 정해진 시간 동안 JFR 레코딩을 실행하고 .jfr 파일을 내려주는 actuator 엔드포인트입니다 ({@code /actuator/jfr}).
+ * 외부 에이전트 없이 운영 중인 인스턴스의 지연 구간(예: 오전 9시 배치)을 프로파일링할 때 사용합니다.
+ * <p>
+ * 레코딩은 부작용이 있는 작업이므로 POST({@code {"duration":"30s","settings":"profile"}})로만 시작하며,
+ * 기본 노출 대상이 아니고 노출하더라도 서비스 보안 설정에서 운영자(ADMIN 역할)만 호출할 수 있습니다.
+ * 요청은 레코딩이 끝날 때까지 기다리며, 동시에 하나의 레코딩만 실행합니다 (실행 중이면 429).
+ * 레코딩 시간은 설정된 최대 시간을 넘지 않으며, 환경 변수와 시스템 속성처럼 비밀 값을 담을 수 있는 이벤트는 제외합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+@WebEndpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    private static final String RECORDING_NAME = "healthsync-on-demand";
+
+    private final FlightRecorderProperties properties;
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * FlightRecordingEndpoint 생성자
+     *
+     * @param properties JFR 설정
+     */
+    public FlightRecordingEndpoint(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * JFR 레코딩을 실행하고 결과 파일을 반환합니다.
+     *
+     * @param duration 레코딩 시간 (예: 30s, 없으면 기본값, 최대 시간으로 제한)
+     * @param settings JFR 설정 이름 (default: 낮은 부하, profile: 상세, 없으면 기본값)
+     * @return .jfr 파일 (레코딩 실행 중이면 429, 설정 이름이 잘못되면 400)
+     */
+    @WriteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> record(@Nullable Duration duration, @Nullable String settings) {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings != null ? settings : properties.getSettings());
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        if (!lock.tryLock()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        try {
+            return new WebEndpointResponse<>(new TemporaryFileSystemResource(record(configuration, length(duration))));
+        } catch (IOException e) {
+            log.error("JFR 레코딩 실패: error={}", e.getMessage(), e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Path record(Configuration configuration, Duration length) throws IOException {
+        Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+        try (Recording recording = new Recording(configuration)) {
+            recording.setName(RECORDING_NAME);
+            properties.getExcludedEvents().forEach(recording::disable);
+            log.info("JFR 레코딩 시작: settings={}, duration={}", configuration.getName(), length);
+            recording.start();
+            try {
+                Thread.sleep(length.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            recording.stop();
+            recording.dump(file);
+            log.info("JFR 레코딩 완료: size={}", Files.size(file));
+            return file;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private Duration length(Duration requested) {
+        Duration length = requested != null && !requested.isNegative() && !requested.isZero() ? requested : properties.getDefaultDuration();
+        return length.compareTo(properties.getMaxDuration()) > 0 ? properties.getMaxDuration() : length;
+    }
+
+    /**
+     * 응답을 모두 보낸 뒤 삭제되는 임시 파일 리소스입니다.
+     * 파일 직접 전송으로 스트림 닫기를 건너뛰지 않도록 일반 파일로 취급하지 않습니다.
+     */
+    private static final class TemporaryFileSystemResource extends FileSystemResource {
+
+        private TemporaryFileSystemResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deleteFile();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            ReadableByteChannel channel = super.readableChannel();
+            return new ReadableByteChannel() {
+                @Override
+                public int read(ByteBuffer dst) throws IOException {
+                    return channel.read(dst);
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return channel.isOpen();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        channel.close();
+                    } finally {
+                        deleteFile();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+
+        private void deleteFile() {
+            try {
+                Files.deleteIfExists(getFile().toPath());
+            } catch (IOException e) {
+                log.warn("JFR 임시 파일 삭제 실패: file={}, error={}", getFile(), e.getMessage());
+            }
+        }
+    }
+}
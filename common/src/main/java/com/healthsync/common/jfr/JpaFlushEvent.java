@@ -0,0 +1,33 @@
+package com.healthsync.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Hibernate 세션 flush를 기록하는 JFR 이벤트입니다.
+ * flush를 일으킨 코드를 찾을 수 있도록 스택 트레이스를 함께 기록합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Name("healthsync.JpaFlush")
+@Label("JPA Flush")
+@Description("Hibernate 세션 flush")
+@Category({"HealthSync", "JPA"})
+@StackTrace(true)
+@Setter
+public class JpaFlushEvent extends Event {
+
+    @Label("Entities")
+    @Description("flush 대상 엔티티 수")
+    private int entityCount;
+
+    @Label("Collections")
+    @Description("flush 대상 컬렉션 수")
+    private int collectionCount;
+}
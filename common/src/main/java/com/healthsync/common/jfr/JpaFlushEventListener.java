@@ -0,0 +1,35 @@
+package com.healthsync.common.jfr;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션마다 생성되어 flush를 {@link JpaFlushEvent}로 기록하는 리스너입니다.
+ * {@code hibernate.session.events.auto} 설정으로 등록되며, 세션은 한 스레드에서만 쓰이므로 상태를 그대로 보관합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class JpaFlushEventListener implements SessionEventListener {
+
+    private JpaFlushEvent event;
+
+    @Override
+    public void flushStart() {
+        event = new JpaFlushEvent();
+        event.begin();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setEntityCount(numberOfEntities);
+            event.setCollectionCount(numberOfCollections);
+            event.commit();
+        }
+        event = null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.healthsync.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * LLM(Claude API) 호출을 기록하는 JFR 이벤트입니다. 이벤트 지속 시간이 호출 지연 시간입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Name("healthsync.LlmCall")
+@Label("LLM Call")
+@Description("Claude API 호출")
+@Category({"HealthSync", "LLM"})
+@StackTrace(false)
+public class LlmCallEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Model")
+    private String model;
+
+    @Label("Prompt Length")
+    @Description("프롬프트 문자 수")
+    private int promptLength;
+
+    @Label("Response Length")
+    @Description("응답 문자 수")
+    private int responseLength;
+
+    @Label("Success")
+    private boolean success;
+
+    /**
+     * LLM 호출 이벤트를 시작합니다.
+     *
+     * @param operation 호출 종류 (포트 메서드 이름)
+     * @param model 모델 이름
+     * @param prompt 프롬프트
+     * @return 시작된 이벤트
+     */
+    public static LlmCallEvent start(String operation, String model, String prompt) {
+        LlmCallEvent event = new LlmCallEvent();
+        event.begin();
+        event.operation = operation;
+        event.model = model;
+        event.promptLength = prompt != null ? prompt.length() : 0;
+        return event;
+    }
+
+    /**
+     * 호출 결과를 기록하고 이벤트를 마칩니다.
+     *
+     * @param response 응답 (실패 시 null)
+     */
+    public void finish(String response) {
+        end();
+        if (shouldCommit()) {
+            responseLength = response != null ? response.length() : 0;
+            success = response != null;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.healthsync.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 유스케이스 메서드 실행을 기록하는 JFR 이벤트입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Name("healthsync.UseCase")
+@Label("Use Case Invocation")
+@Description("유스케이스 public 메서드 실행")
+@Category({"HealthSync", "Use Case"})
+@StackTrace(false)
+@Setter
+public class UseCaseEvent extends Event {
+
+    @Label("Service")
+    private String service;
+
+    @Label("Use Case")
+    private String useCase;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Success")
+    private boolean success;
+}
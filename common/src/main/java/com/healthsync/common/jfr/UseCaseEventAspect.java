@@ -0,0 +1,66 @@
+package com.healthsync.common.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 유스케이스({@code *UseCase})의 public 메서드 실행을 {@link UseCaseEvent}로 기록하는 애스펙트입니다.
+ * 기록 중인 JFR 레코딩이 없으면 이벤트를 만들기만 하고 버리므로 비용이 거의 없습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Aspect
+public class UseCaseEventAspect implements Ordered {
+
+    private final String service;
+
+    /**
+     * UseCaseEventAspect 생성자
+     *
+     * @param service 서비스 이름
+     */
+    public UseCaseEventAspect(String service) {
+        this.service = service;
+    }
+
+    /**
+     * 유스케이스 메서드 실행을 JFR 이벤트로 기록합니다.
+     *
+     * @param joinPoint 실행 지점
+     * @return 메서드 결과
+     * @throws Throwable 메서드가 던진 예외
+     */
+    @Around("execution(public * com.healthsync..*UseCase.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        UseCaseEvent event = new UseCaseEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setService(service);
+                event.setUseCase(ClassUtils.getUserClass(AopUtils.getTargetClass(joinPoint.getTarget())).getSimpleName());
+                event.setMethod(joinPoint.getSignature().getName());
+                event.setSuccess(success);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 시간 계측 애스펙트 바로 안쪽에서 실행하여 두 기록이 같은 구간을 측정하게 합니다.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
@@ -0,0 +1,136 @@
+package com.healthsync.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.healthsync.common.config.HotPathLoggingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Marker;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거별 표본 추출과 초당 기록 수 제한을 적용하는 Logback 터보 필터입니다.
+ * 메시지를 만들기 전에 판단하므로 건너뛴 로그는 문자열 포맷 비용도 들지 않으며, 건너뛴 개수는 메트릭으로 집계합니다.
+ * 규칙은 로거 이름 접두사로 지정하고 가장 긴 접두사가 적용됩니다. WARN 이상 로그는 항상 기록합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    public static final String NAME_PREFIX = "healthsync-log-sampling-";
+    public static final String DROPPED_METRIC = "healthsync.logging.dropped";
+
+    private final List<Rule> rules;
+    private final Map<String, Optional<Rule>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * LogSamplingTurboFilter 생성자
+     *
+     * @param service 서비스 이름 (필터 이름에 사용)
+     * @param sampling 로거 접두사별 규칙
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public LogSamplingTurboFilter(String service, Map<String, HotPathLoggingProperties.Sampling> sampling,
+                                  MeterRegistry meterRegistry) {
+        this.rules = sampling.entrySet().stream()
+                .map(entry -> new Rule(entry.getKey(), entry.getValue(), meterRegistry))
+                .sorted(Comparator.comparingInt((Rule rule) -> rule.prefix.length()).reversed())
+                .toList();
+        setName(NAME_PREFIX + service);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() 확인, 레벨 때문에 어차피 기록되지 않는 로그, WARN 이상은 판단하지 않습니다
+        if (rules.isEmpty() || format == null || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Optional<Rule> rule = resolved.computeIfAbsent(logger.getName(), this::resolve);
+        return rule.isEmpty() || rule.get().admit() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Optional<Rule> resolve(String loggerName) {
+        return rules.stream()
+                .filter(rule -> loggerName.startsWith(rule.prefix))
+                .findFirst();
+    }
+
+    /**
+     * 한 로거 접두사의 표본 추출/기록 수 제한 규칙입니다.
+     */
+    private static class Rule {
+
+        private final String prefix;
+        private final double sampleRate;
+        private final long maxPerSecond;
+        private final Counter sampled;
+        private final Counter rateLimited;
+
+        /**
+         * 현재 초(상위 32비트)와 그 초에 기록한 수(하위 32비트)
+         */
+        private final AtomicLong window = new AtomicLong();
+
+        private Rule(String prefix, HotPathLoggingProperties.Sampling config, MeterRegistry meterRegistry) {
+            this.prefix = prefix;
+            this.sampleRate = config.getSampleRate();
+            this.maxPerSecond = config.getMaxPerSecond();
+            this.sampled = droppedCounter(meterRegistry, prefix, "sampled");
+            this.rateLimited = droppedCounter(meterRegistry, prefix, "rate_limited");
+        }
+
+        /**
+         * 로그를 기록할지 결정합니다.
+         *
+         * @return 기록하면 true
+         */
+        private boolean admit() {
+            if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                sampled.increment();
+                return false;
+            }
+            if (maxPerSecond > 0 && !tryAcquire()) {
+                rateLimited.increment();
+                return false;
+            }
+            return true;
+        }
+
+        private boolean tryAcquire() {
+            long second = (System.nanoTime() / 1_000_000_000L) & 0xFFFFFFFFL;
+            while (true) {
+                long current = window.get();
+                long next;
+                if (current >>> 32 != second) {
+                    next = (second << 32) | 1;
+                } else if ((current & 0xFFFFFFFFL) < maxPerSecond) {
+                    next = current + 1;
+                } else {
+                    return false;
+                }
+                if (window.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        private static Counter droppedCounter(MeterRegistry meterRegistry, String source, String reason) {
+            return Counter.builder(DROPPED_METRIC)
+                    .description("기록하지 않은 로그 수 (sampled, rate_limited, queue_full)")
+                    .tag("source", source)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
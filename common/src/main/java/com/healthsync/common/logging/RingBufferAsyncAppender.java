@@ -0,0 +1,198 @@
+package com.healthsync.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import com.healthsync.common.util.MpscRingBuffer;
+import lombok.Setter;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그 이벤트를 락 없는 링 버퍼에 넣고 별도 스레드에서 하위 어펜더로 기록하는 비동기 어펜더입니다.
+ * Logback 기본 AsyncAppender와 달리 요청 스레드가 큐 락을 잡거나 기다리지 않습니다.
+ * <p>
+ * 버퍼가 가득 차면 INFO 이하 이벤트는 버리고 개수를 집계하며, WARN 이상 이벤트는 잃지 않도록 호출 스레드에서 바로 기록합니다.
+ * 기록 스레드는 버퍼가 비면 잠들고, 잠든 동안 이벤트를 넣은 생산자가 깨우므로 유휴 시 주기적으로 깨어나지 않습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+    private MpscRingBuffer<ILoggingEvent> buffer;
+    private Thread writer;
+
+    /**
+     * 기록 스레드가 잠들었거나 잠들려는 중인지 여부 (생산자는 이 값이 true일 때만 깨움)
+     */
+    private volatile boolean writerSleeping;
+
+    /**
+     * 링 버퍼 용량 (2의 거듭제곱으로 올림)
+     */
+    @Setter
+    private int capacity = DEFAULT_CAPACITY;
+
+    /**
+     * 호출 위치(클래스, 줄 번호) 포함 여부 (요청 스레드에서 스택을 읽으므로 비용이 큼)
+     */
+    @Setter
+    private boolean includeCallerData = false;
+
+    /**
+     * 종료 시 남은 이벤트를 기록하며 기다리는 최대 시간 (밀리초)
+     */
+    @Setter
+    private int maxFlushTime = 1000;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("연결된 어펜더가 없습니다: " + getName());
+            return;
+        }
+        buffer = new MpscRingBuffer<>(capacity);
+        writer = new Thread(this::drainLoop, "log-writer-" + getName());
+        writer.setDaemon(true);
+        super.start();
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        LockSupport.unpark(writer);
+        try {
+            writer.join(maxFlushTime);
+            if (writer.isAlive()) {
+                addWarn("종료 대기 시간 안에 남은 로그를 모두 기록하지 못했습니다: remaining=" + buffer.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (buffer.offer(event)) {
+            if (writerSleeping) {
+                LockSupport.unpark(writer);
+            }
+            return;
+        }
+        if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+            appenders.appendLoopOnAppenders(event);
+            return;
+        }
+        dropped.increment();
+    }
+
+    /**
+     * 버퍼가 가득 차서 버린 이벤트 수를 반환합니다.
+     *
+     * @return 버린 이벤트 수
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 기록을 기다리는 이벤트 수를 반환합니다.
+     *
+     * @return 대기 중인 이벤트 수
+     */
+    public int getQueueSize() {
+        return buffer != null ? buffer.size() : 0;
+    }
+
+    private void drainLoop() {
+        while (isStarted()) {
+            if (drain()) {
+                continue;
+            }
+            // 잠들기 전에 표시를 먼저 하고 한 번 더 확인하여, 그 사이 넣은 생산자의 깨움을 놓치지 않습니다.
+            writerSleeping = true;
+            if (!drain() && isStarted()) {
+                LockSupport.park(this);
+            }
+            writerSleeping = false;
+        }
+        drain();
+    }
+
+    /**
+     * 버퍼에 있는 이벤트를 모두 기록합니다.
+     *
+     * @return 기록한 이벤트가 있으면 true
+     */
+    private boolean drain() {
+        boolean drained = false;
+        ILoggingEvent event;
+        while ((event = buffer.poll()) != null) {
+            drained = true;
+            try {
+                appenders.appendLoopOnAppenders(event);
+            } catch (RuntimeException e) {
+                addError("로그 기록 실패", e);
+            }
+        }
+        return drained;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,175 @@
+package com.healthsync.common.metrics;
+
+import com.healthsync.common.config.HotPathTimingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유스케이스와 포트 어댑터 호출 시간을 자동으로 기록하는 애스펙트입니다.
+ * 유스케이스({@code *UseCase})의 public 메서드와 포트({@code *Port} 구현체, 도메인 리포지토리 구현체,
+ * {@code *Adapter})의 public 메서드를 Micrometer 타이머로 기록하므로, 유스케이스 시간 중 캐시, LLM,
+ * 서비스 간 호출, 데이터베이스가 차지하는 비중을 같은 단위로 비교할 수 있습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Aspect
+public class HotPathTimingAspect implements Ordered {
+
+    public static final String USE_CASE_METRIC = "healthsync.usecase.duration";
+    public static final String PORT_METRIC = "healthsync.port.duration";
+
+    private static final String DOMAIN_REPOSITORY_PACKAGE = ".domain.repositories";
+
+    private final MeterRegistry meterRegistry;
+    private final HotPathTimingProperties properties;
+    private final String service;
+    private final Map<TimerKey, Timers> useCaseTimers = new ConcurrentHashMap<>();
+    private final Map<TimerKey, Timers> portTimers = new ConcurrentHashMap<>();
+
+    /**
+     * HotPathTimingAspect 생성자
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @param properties 계측 설정
+     * @param service 서비스 이름 (service 태그 값)
+     */
+    public HotPathTimingAspect(MeterRegistry meterRegistry, HotPathTimingProperties properties, String service) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.service = service;
+    }
+
+    @Pointcut("execution(public * com.healthsync..*UseCase.*(..))")
+    void useCase() {
+    }
+
+    @Pointcut("execution(public * com.healthsync..*Port+.*(..))"
+            + " || execution(public * com.healthsync..domain.repositories.*Repository+.*(..))"
+            + " || execution(public * com.healthsync..*Adapter.*(..))")
+    void port() {
+    }
+
+    /**
+     * 유스케이스 메서드 실행 시간을 기록합니다.
+     *
+     * @param joinPoint 실행 지점
+     * @return 메서드 결과
+     * @throws Throwable 메서드가 던진 예외
+     */
+    @Around("useCase()")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, useCaseTimers, USE_CASE_METRIC);
+    }
+
+    /**
+     * 포트 어댑터 메서드 실행 시간을 기록합니다.
+     *
+     * @param joinPoint 실행 지점
+     * @return 메서드 결과
+     * @throws Throwable 메서드가 던진 예외
+     */
+    @Around("port()")
+    public Object timePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, portTimers, PORT_METRIC);
+    }
+
+    /**
+     * 트랜잭션 인터셉터보다 바깥에서 실행하여 유스케이스 시간에 커밋 시간까지 포함합니다.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, Map<TimerKey, Timers> cache, String metric) throws Throwable {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timers timers = cache.computeIfAbsent(new TimerKey(targetClass, method), key -> createTimers(metric, key));
+
+        long startNanos = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timers.success.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timers.error.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timers createTimers(String metric, TimerKey key) {
+        boolean useCase = USE_CASE_METRIC.equals(metric);
+        String name = useCase ? ClassUtils.getUserClass(key.targetClass).getSimpleName() : portName(key.targetClass);
+        HotPathTimingProperties.Port config = properties.port(name);
+        return new Timers(
+                timer(metric, useCase ? "usecase" : "port", name, key.method.getName(), "SUCCESS", config),
+                timer(metric, useCase ? "usecase" : "port", name, key.method.getName(), "ERROR", config));
+    }
+
+    private Timer timer(String metric, String kind, String name, String method, String outcome,
+                        HotPathTimingProperties.Port config) {
+        return Timer.builder(metric)
+                .description(USE_CASE_METRIC.equals(metric) ? "유스케이스 실행 시간" : "포트 어댑터 호출 시간")
+                .tag("service", service)
+                .tag(kind, name)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .serviceLevelObjectives(config.getSlo().toArray(Duration[]::new))
+                .publishPercentileHistogram(config.getPercentileHistogram())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 어댑터가 구현한 포트 인터페이스 이름을 찾습니다. 포트 없이 쓰이는 어댑터는 클래스 이름을 사용합니다.
+     *
+     * @param targetClass 어댑터 클래스
+     * @return 포트 이름
+     */
+    private static String portName(Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (candidate.getSimpleName().endsWith("Port")
+                    || candidate.getPackageName().endsWith(DOMAIN_REPOSITORY_PACKAGE)) {
+                return candidate.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(targetClass).getSimpleName();
+    }
+
+    /**
+     * 구현 클래스별로 타이머를 구분하는 키입니다 (같은 포트를 여러 구현체가 구현할 수 있음).
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class TimerKey {
+
+        private final Class<?> targetClass;
+        private final Method method;
+    }
+
+    /**
+     * 결과별 타이머입니다.
+     */
+    @RequiredArgsConstructor
+    private static class Timers {
+
+        private final Timer success;
+        private final Timer error;
+    }
+}
@@ -0,0 +1,19 @@
+package com.healthsync.common.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이가 이벤트를 전달하는 메시지 브로커 인터페이스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public interface EventBroker {
+
+    /**
+     * 이벤트를 한 번에 전송합니다. 예외가 발생하면 릴레이는 같은 이벤트를 다시 전송하므로 소비자는 중복을 허용해야 합니다.
+     *
+     * @param messages 전송할 이벤트 (아웃박스 저장 순서)
+     */
+    void publish(List<OutboxMessage> messages);
+}
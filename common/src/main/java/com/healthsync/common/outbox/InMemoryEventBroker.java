@@ -0,0 +1,42 @@
+package com.healthsync.common.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 전송한 이벤트를 메모리에 보관하는 브로커입니다. 외부 브로커 없이 실행하는 테스트와 로컬 환경용입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class InMemoryEventBroker implements EventBroker {
+
+    private final Map<String, List<OutboxMessage>> topics = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            topics.computeIfAbsent(message.getTopic(), topic -> new CopyOnWriteArrayList<>()).add(message);
+        }
+    }
+
+    /**
+     * 토픽으로 전송된 이벤트를 조회합니다.
+     *
+     * @param topic 토픽
+     * @return 전송 순서대로 정렬된 이벤트
+     */
+    public List<OutboxMessage> messages(String topic) {
+        return new ArrayList<>(topics.getOrDefault(topic, List.of()));
+    }
+
+    /**
+     * 보관 중인 이벤트를 모두 삭제합니다.
+     */
+    public void clear() {
+        topics.clear();
+    }
+}
@@ -0,0 +1,58 @@
+package com.healthsync.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전송을 기다리는 도메인 이벤트를 저장하는 아웃박스 엔티티 클래스입니다.
+ * 도메인 변경과 같은 트랜잭션에서 저장되고, 릴레이가 브로커로 전송한 뒤 전송 시각을 기록합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_pending", columnList = "sent_at, id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 이벤트 종류 (브로커 토픽 이름)
+     */
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    /**
+     * 이벤트 키 (예: 사용자 ID)
+     */
+    @Column(name = "event_key", length = 100)
+    private String eventKey;
+
+    /**
+     * 이벤트 본문 (JSON)
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 브로커 전송 시각 (전송 전이면 null)
+     */
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,57 @@
+package com.healthsync.common.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 JPA 리포지토리 인터페이스입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * 전송 전 이벤트를 오래된 순서로 잠그고 조회합니다.
+     * 다른 인스턴스의 릴레이가 잠근 행은 건너뛰므로(SKIP LOCKED) 같은 이벤트를 동시에 전송하지 않습니다.
+     *
+     * @param pageable 조회 개수
+     * @return 전송 전 이벤트 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.sentAt IS NULL ORDER BY e.id")
+    List<OutboxEventEntity> lockPending(Pageable pageable);
+
+    /**
+     * 이벤트를 전송 완료로 표시합니다.
+     *
+     * @param ids 이벤트 ID 목록
+     * @param sentAt 전송 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.sentAt = :sentAt WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 보관 기간이 지난 전송 완료 이벤트를 삭제합니다.
+     *
+     * @param before 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,37 @@
+package com.healthsync.common.outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 브로커로 전송하는 아웃박스 이벤트입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@Builder
+public class OutboxMessage {
+
+    private final Long id;
+    private final String topic;
+    private final String key;
+    private final String payload;
+    private final String createdAt;
+
+    /**
+     * 아웃박스 엔티티로부터 전송 메시지를 만듭니다.
+     *
+     * @param entity 아웃박스 엔티티
+     * @return 전송 메시지
+     */
+    public static OutboxMessage from(OutboxEventEntity entity) {
+        return OutboxMessage.builder()
+                .id(entity.getId())
+                .topic(entity.getTopic())
+                .key(entity.getEventKey())
+                .payload(entity.getPayload())
+                .createdAt(entity.getCreatedAt().toString())
+                .build();
+    }
+}
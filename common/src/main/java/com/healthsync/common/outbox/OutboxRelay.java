@@ -0,0 +1,172 @@
+package com.healthsync.common.outbox;
+
+import com.healthsync.common.config.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스의 전송 전 이벤트를 배치로 읽어 브로커로 전송하고 전송 완료로 표시하는 백그라운드 릴레이입니다.
+ * <p>
+ * 배치마다 한 트랜잭션에서 행을 잠그고(SKIP LOCKED) 전송한 뒤 표시하므로 여러 인스턴스가 동시에 실행해도 됩니다.
+ * 전송이 실패하면 트랜잭션을 롤백하고 잠시 뒤 같은 이벤트를 다시 전송합니다 (최소 한 번 전달).
+ * 평소에는 이벤트 커밋 직후 깨어나고, 깨우는 신호가 없어도 조회 주기마다 확인합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    public static final String RELAYED_METRIC = "healthsync.outbox.relayed";
+    public static final String FAILURE_METRIC = "healthsync.outbox.relay.failures";
+
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+    private final OutboxEventRepository repository;
+    private final EventBroker broker;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final String service;
+    private final Counter relayed;
+    private final Counter failures;
+    private final Semaphore wakeups = new Semaphore(0);
+    private volatile boolean running;
+    private Thread worker;
+    private long nextPurgeNanos;
+
+    /**
+     * OutboxRelay 생성자
+     *
+     * @param repository 아웃박스 리포지토리
+     * @param broker 이벤트 브로커
+     * @param transactionTemplate 배치 트랜잭션 템플릿
+     * @param properties 아웃박스 설정
+     * @param service 서비스 이름
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public OutboxRelay(OutboxEventRepository repository, EventBroker broker, TransactionTemplate transactionTemplate,
+                       OutboxProperties properties, String service, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.broker = broker;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.service = service;
+        this.relayed = Counter.builder(RELAYED_METRIC)
+                .description("브로커로 전송한 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder(FAILURE_METRIC)
+                .description("아웃박스 배치 전송 실패 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        nextPurgeNanos = System.nanoTime() + properties.getPurgeInterval().toNanos();
+        worker = new Thread(this::relayLoop, "outbox-relay-" + service);
+        worker.setDaemon(true);
+        worker.start();
+        log.info("아웃박스 릴레이 시작: broker={}, batchSize={}, pollInterval={}",
+                properties.getBroker(), properties.getBatchSize(), properties.getPollInterval());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeUp();
+        try {
+            worker.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 새 이벤트가 커밋되었음을 알려 조회 주기를 기다리지 않고 전송하게 합니다.
+     */
+    public void wakeUp() {
+        if (wakeups.availablePermits() == 0) {
+            wakeups.release();
+        }
+    }
+
+    private void relayLoop() {
+        while (running) {
+            long waitMillis;
+            try {
+                int count = relayBatch();
+                purgeIfDue();
+                // 배치가 가득 찼으면 밀린 이벤트가 더 있으므로 바로 다음 배치를 처리합니다
+                waitMillis = count >= properties.getBatchSize() ? 0 : properties.getPollInterval().toMillis();
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("아웃박스 전송 실패, 잠시 후 다시 시도합니다: error={}", e.getMessage());
+                waitMillis = properties.getRetryBackoff().toMillis();
+            }
+            await(waitMillis);
+        }
+    }
+
+    /**
+     * 전송 전 이벤트 한 배치를 전송하고 전송 완료로 표시합니다.
+     *
+     * @return 전송한 이벤트 수
+     */
+    private int relayBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<OutboxEventEntity> pending = repository.lockPending(PageRequest.of(0, properties.getBatchSize()));
+            if (pending.isEmpty()) {
+                return 0;
+            }
+            broker.publish(pending.stream().map(OutboxMessage::from).toList());
+            repository.markSent(pending.stream().map(OutboxEventEntity::getId).toList(), LocalDateTime.now());
+            return pending.size();
+        });
+        int relayedCount = count != null ? count : 0;
+        relayed.increment(relayedCount);
+        return relayedCount;
+    }
+
+    /**
+     * 보관 기간이 지난 전송 완료 이벤트를 주기적으로 삭제합니다.
+     */
+    private void purgeIfDue() {
+        if (System.nanoTime() < nextPurgeNanos) {
+            return;
+        }
+        nextPurgeNanos = System.nanoTime() + properties.getPurgeInterval().toNanos();
+        Integer deleted = transactionTemplate.execute(status ->
+                repository.deleteSentBefore(LocalDateTime.now().minus(properties.getRetention())));
+        if (deleted != null && deleted > 0) {
+            log.info("전송 완료 아웃박스 이벤트 삭제: count={}", deleted);
+        }
+    }
+
+    private void await(long millis) {
+        if (millis <= 0 || !running) {
+            return;
+        }
+        try {
+            if (wakeups.tryAcquire(millis, TimeUnit.MILLISECONDS)) {
+                wakeups.drainPermits();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
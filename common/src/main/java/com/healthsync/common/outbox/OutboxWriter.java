@@ -0,0 +1,70 @@
+package com.healthsync.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트를 아웃박스 테이블에 저장하는 클래스입니다.
+ * 호출한 트랜잭션에 참여하므로 이벤트는 도메인 변경이 커밋될 때만 저장되며, 브로커 전송은 {@link OutboxRelay}가 담당합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class OutboxWriter {
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay relay;
+
+    /**
+     * OutboxWriter 생성자
+     *
+     * @param repository 아웃박스 리포지토리
+     * @param objectMapper 이벤트 직렬화용 ObjectMapper
+     * @param relay 커밋 후 깨울 릴레이
+     */
+    public OutboxWriter(OutboxEventRepository repository, ObjectMapper objectMapper, OutboxRelay relay) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+    }
+
+    /**
+     * 이벤트를 아웃박스에 저장합니다. 트랜잭션이 없으면 새 트랜잭션에서 저장합니다.
+     *
+     * @param topic 이벤트 종류 (브로커 토픽 이름)
+     * @param key 이벤트 키 (예: 사용자 ID)
+     * @param event 이벤트 (JSON으로 직렬화)
+     */
+    @Transactional
+    public void append(String topic, String key, Object event) {
+        repository.save(OutboxEventEntity.builder()
+                .topic(topic)
+                .eventKey(key)
+                .payload(serialize(event))
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    relay.wakeUp();
+                }
+            });
+        }
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트를 직렬화할 수 없습니다: " + event.getClass().getName(), e);
+        }
+    }
+}
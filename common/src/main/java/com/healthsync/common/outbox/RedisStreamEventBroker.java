@@ -0,0 +1,83 @@
+package com.healthsync.common.outbox;
+
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트를 토픽별 Redis Stream에 추가하는 브로커입니다 (스트림 키: 접두사 + 토픽).
+ * 한 배치는 파이프라인 한 번으로 전송하고, 스트림 길이는 설정된 최대 길이 근처로 유지합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class RedisStreamEventBroker implements EventBroker {
+
+    public static final String FIELD_ID = "outboxId";
+    public static final String FIELD_KEY = "key";
+    public static final String FIELD_PAYLOAD = "payload";
+    public static final String FIELD_CREATED_AT = "createdAt";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String streamPrefix;
+    private final long maxLength;
+
+    /**
+     * RedisStreamEventBroker 생성자
+     *
+     * @param redisTemplate Redis 템플릿
+     * @param streamPrefix 스트림 키 접두사
+     * @param maxLength 스트림 최대 길이 (근사 삭제, 0이면 제한 없음)
+     */
+    public RedisStreamEventBroker(StringRedisTemplate redisTemplate, String streamPrefix, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.streamPrefix = streamPrefix;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                for (OutboxMessage message : messages) {
+                    String stream = streamKey(message.getTopic());
+                    stringOperations.opsForStream().add(record(stream, message));
+                    if (maxLength > 0) {
+                        stringOperations.opsForStream().trim(stream, maxLength, true);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 토픽의 스트림 키를 반환합니다.
+     *
+     * @param topic 토픽
+     * @return 스트림 키
+     */
+    public String streamKey(String topic) {
+        return streamPrefix + topic;
+    }
+
+    private static MapRecord<String, String, String> record(String stream, OutboxMessage message) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_ID, String.valueOf(message.getId()));
+        if (message.getKey() != null) {
+            fields.put(FIELD_KEY, message.getKey());
+        }
+        fields.put(FIELD_PAYLOAD, message.getPayload());
+        fields.put(FIELD_CREATED_AT, message.getCreatedAt());
+        return StreamRecords.newRecord().in(stream).ofMap(fields);
+    }
+}
@@ -0,0 +1,75 @@
+package com.healthsync.common.security;
+
+import com.healthsync.common.util.IdentityHeaderUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Gateway가 전달한 서명된 신원 헤더로 인증 정보를 설정하는 필터입니다.
+ * 각 서비스는 JWT를 다시 파싱하지 않고 HMAC 검증만으로 사용자를 식별합니다.
+ * 운영자로 지정된 사용자에게만 {@link #ADMIN_ROLE} 권한을 부여하며, 진단용 actuator 엔드포인트는 이 권한을 요구합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class InternalIdentityFilter extends OncePerRequestFilter {
+
+    /**
+     * 운영자 역할 이름 ({@code hasRole}에 사용)
+     */
+    public static final String ADMIN_ROLE = "ADMIN";
+
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_" + ADMIN_ROLE));
+
+    private final IdentityHeaderUtil identityHeaderUtil;
+    private final Set<String> adminUserIds;
+
+    /**
+     * InternalIdentityFilter 생성자 (운영자 없음)
+     *
+     * @param identityHeaderUtil 내부 신원 헤더 유틸리티
+     */
+    public InternalIdentityFilter(IdentityHeaderUtil identityHeaderUtil) {
+        this(identityHeaderUtil, Collections.emptyList());
+    }
+
+    /**
+     * InternalIdentityFilter 생성자
+     *
+     * @param identityHeaderUtil 내부 신원 헤더 유틸리티
+     * @param adminUserIds 운영자 권한을 부여할 사용자 ID 목록
+     */
+    public InternalIdentityFilter(IdentityHeaderUtil identityHeaderUtil, Collection<String> adminUserIds) {
+        this.identityHeaderUtil = identityHeaderUtil;
+        this.adminUserIds = Set.copyOf(adminUserIds);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String userId = identityHeaderUtil.resolveUserId(request.getHeader(IdentityHeaderUtil.IDENTITY_HEADER));
+
+        if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(userId, null,
+                            adminUserIds.contains(userId) ? ADMIN_AUTHORITIES : Collections.emptyList());
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
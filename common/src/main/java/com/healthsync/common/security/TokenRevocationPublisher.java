@@ -0,0 +1,47 @@
+package com.healthsync.common.security;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 폐기된 토큰 ID(jti)를 Redis에 기록하고 다른 인스턴스에 전파하는 클래스입니다.
+ * 폐기 여부를 조회하지 않는 서비스(예: 로그아웃을 처리하는 User Service)는 이 클래스만 사용하며,
+ * 구독과 Bloom 필터 재구성은 {@link TokenRevocationStore}를 사용하는 서비스에서만 수행합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class TokenRevocationPublisher {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    /**
+     * TokenRevocationPublisher 생성자
+     *
+     * @param redisTemplate Reactive Redis 템플릿
+     */
+    public TokenRevocationPublisher(ReactiveStringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 토큰을 폐기합니다. 토큰 만료 시각이 지나면 폐기 기록도 함께 사라집니다.
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시각
+     * @return 완료 Mono (이미 만료된 토큰이면 바로 완료)
+     */
+    public Mono<Void> revoke(String tokenId, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return Mono.empty();
+        }
+
+        return redisTemplate.opsForValue().set(TokenRevocationStore.KEY_PREFIX + tokenId, "1", ttl)
+                .then(redisTemplate.convertAndSend(TokenRevocationStore.CHANNEL, tokenId))
+                .then();
+    }
+}
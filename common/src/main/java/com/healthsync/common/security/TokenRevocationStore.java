@@ -0,0 +1,188 @@
+package com.healthsync.common.security;
+
+import com.healthsync.common.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 로그아웃 등으로 폐기된 토큰 ID(jti)를 관리하는 저장소입니다.
+ * <ul>
+ *     <li>Redis: 폐기 목록의 원본입니다. 키는 토큰 만료 시각에 함께 만료됩니다.</li>
+ *     <li>로컬 Bloom 필터: 폐기되지 않은 토큰(대부분의 요청)은 Redis 조회 없이 메모리에서 바로 판정합니다.
+ *     Bloom 필터가 포함 가능성을 보고한 경우에만 Redis에서 확인합니다.</li>
+ *     <li>동기화: 폐기 시 pub/sub로 다른 인스턴스에 전파하고, 메시지 유실과 만료 항목 정리를 위해
+ *     주기적으로 Redis 목록을 다시 읽어 Bloom 필터를 새로 만듭니다.</li>
+ * </ul>
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class TokenRevocationStore implements SmartLifecycle {
+
+    public static final String KEY_PREFIX = "auth:revoked:";
+    public static final String CHANNEL = "auth:revocations";
+
+    private static final Mono<Boolean> NOT_REVOKED = Mono.just(false);
+    private static final long SCAN_BATCH_SIZE = 1000;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final TokenRevocationPublisher publisher;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration rebuildInterval;
+    private final Object swapLock = new Object();
+
+    private volatile BloomFilter bloomFilter;
+    private BloomFilter rebuilding;
+    private volatile boolean loaded;
+    private volatile Disposable subscription;
+
+    /**
+     * TokenRevocationStore 생성자
+     *
+     * @param redisTemplate Reactive Redis 템플릿
+     * @param expectedInsertions Bloom 필터 예상 항목 수 (만료 전 폐기 토큰 수)
+     * @param falsePositiveRate Bloom 필터 목표 오탐률
+     * @param rebuildInterval Bloom 필터 재구성 주기
+     */
+    public TokenRevocationStore(ReactiveStringRedisTemplate redisTemplate, long expectedInsertions,
+                                double falsePositiveRate, Duration rebuildInterval) {
+        this.redisTemplate = redisTemplate;
+        this.publisher = new TokenRevocationPublisher(redisTemplate);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildInterval = rebuildInterval;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 토큰을 폐기합니다. 토큰 만료 시각이 지나면 폐기 기록도 함께 사라집니다.
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시각
+     * @return 완료 Mono
+     */
+    public Mono<Void> revoke(String tokenId, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return Mono.empty();
+        }
+
+        add(tokenId);
+        return publisher.revoke(tokenId, expiresAt);
+    }
+
+    /**
+     * 토큰 폐기 여부를 확인합니다.
+     * 로컬 Bloom 필터에 없으면 Redis를 조회하지 않습니다.
+     * Bloom 필터 적중 후 Redis 조회가 실패하면 폐기된 것으로 간주합니다.
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @return 폐기 여부
+     */
+    public Mono<Boolean> isRevoked(String tokenId) {
+        if (loaded && !bloomFilter.mightContain(tokenId)) {
+            return NOT_REVOKED;
+        }
+
+        boolean failClosed = loaded;
+        return redisTemplate.hasKey(KEY_PREFIX + tokenId)
+                .onErrorResume(e -> {
+                    log.warn("토큰 폐기 여부 조회 실패: failClosed={}, error={}", failClosed, e.toString());
+                    return Mono.just(failClosed);
+                });
+    }
+
+    @Override
+    public void start() {
+        Disposable listener = redisTemplate.listenToChannel(CHANNEL)
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::add)
+                .retryWhen(Retry.fixedDelay(Long.MAX_VALUE, Duration.ofSeconds(5))
+                        .doBeforeRetry(signal -> log.warn("토큰 폐기 채널 재구독: {}", signal.failure().toString())))
+                .subscribe();
+
+        Disposable rebuilder = Flux.interval(Duration.ZERO, rebuildInterval)
+                .concatMap(tick -> rebuild()
+                        .onErrorResume(e -> {
+                            log.warn("토큰 폐기 Bloom 필터 재구성 실패: {}", e.toString());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+
+        subscription = Disposables.composite(listener, rebuilder);
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+            subscription = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null;
+    }
+
+    /**
+     * 폐기된 토큰을 현재 필터와 재구성 중인 필터에 기록합니다.
+     * 필터 교체와 같은 잠금 안에서 기록하므로, 교체 직전에 도착한 폐기도 교체된 필터에 반드시 남습니다.
+     *
+     * @param tokenId 토큰 ID (jti)
+     */
+    private void add(String tokenId) {
+        synchronized (swapLock) {
+            bloomFilter.put(tokenId);
+            if (rebuilding != null) {
+                rebuilding.put(tokenId);
+            }
+        }
+    }
+
+    /**
+     * Redis의 폐기 목록으로 새 Bloom 필터를 만들어 교체합니다.
+     * 재구성 중 도착한 폐기 메시지는 새 필터에도 기록합니다.
+     *
+     * @return 완료 Mono
+     */
+    private Mono<Void> rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        synchronized (swapLock) {
+            rebuilding = next;
+        }
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        return redisTemplate.scan(options)
+                .doOnNext(key -> next.put(key.substring(KEY_PREFIX.length())))
+                .count()
+                .doOnNext(count -> {
+                    synchronized (swapLock) {
+                        bloomFilter = next;
+                        rebuilding = null;
+                    }
+                    loaded = true;
+                    log.debug("토큰 폐기 Bloom 필터 재구성 완료: entries={}", count);
+                })
+                .doFinally(signal -> {
+                    synchronized (swapLock) {
+                        if (rebuilding == next) {
+                            rebuilding = null;
+                        }
+                    }
+                })
+                .then();
+    }
+}
@@ -0,0 +1,317 @@
+package com.healthsync.common.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthsync.common.config.StreamConsumerProperties;
+import com.healthsync.common.outbox.RedisStreamEventBroker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 등록된 {@link StreamEventHandler}마다 Redis Stream 소비자 그룹으로 이벤트를 읽어 처리하는 컨테이너입니다.
+ * <p>
+ * 핸들러마다 설정된 수의 소비자 스레드가 XREADGROUP으로 한 번에 여러 이벤트를 읽고,
+ * 처리에 성공한 이벤트를 XACK 한 번으로 확인합니다. 같은 그룹의 다른 인스턴스와 이벤트를 나누어 처리합니다.
+ * 처리에 실패했거나 소비자가 죽어 확인되지 않은 이벤트는 첫 번째 스레드가 주기적으로 회수(XCLAIM)해 다시 처리하고,
+ * 최대 전달 횟수를 넘긴 이벤트는 dead-letter 스트림으로 옮깁니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class StreamConsumerContainer implements SmartLifecycle {
+
+    public static final String CONSUMED_METRIC = "healthsync.stream.consumed";
+    public static final String DEAD_LETTER_SUFFIX = ":dead-letter";
+
+    private static final String BUSY_GROUP = "BUSYGROUP";
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+    private static final long ERROR_BACKOFF_MILLIS = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<StreamEventHandler<?>> handlers;
+    private final StreamConsumerProperties properties;
+    private final String streamPrefix;
+    private final String group;
+    private final String consumerPrefix;
+    private final MeterRegistry meterRegistry;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * StreamConsumerContainer 생성자
+     *
+     * @param redisTemplate Redis 템플릿
+     * @param objectMapper ObjectMapper
+     * @param handlers 이벤트 핸들러 목록
+     * @param properties 소비자 설정
+     * @param streamPrefix 스트림 키 접두사
+     * @param group 소비자 그룹 이름
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public StreamConsumerContainer(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                   List<StreamEventHandler<?>> handlers, StreamConsumerProperties properties,
+                                   String streamPrefix, String group, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers;
+        this.properties = properties;
+        this.streamPrefix = streamPrefix;
+        this.group = group;
+        // 인스턴스마다 소비자 이름이 겹치지 않도록 임의 접미사를 붙입니다
+        this.consumerPrefix = group + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (StreamEventHandler<?> handler : handlers) {
+            StreamConsumerProperties.Topic topic = properties.topic(handler.topic());
+            for (int i = 0; i < topic.getConcurrency(); i++) {
+                Worker<?> worker = new Worker<>(handler, topic.getBatchSize(), consumerPrefix + "-" + i, i == 0);
+                Thread thread = new Thread(worker::run, "stream-consumer-" + handler.topic() + "-" + i);
+                thread.setDaemon(true);
+                thread.start();
+                workers.add(thread);
+            }
+            log.info("스트림 소비자 시작: topic={}, group={}, concurrency={}, batchSize={}",
+                    handler.topic(), group, topic.getConcurrency(), topic.getBatchSize());
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 한 토픽을 읽는 소비자 스레드
+     *
+     * @param <T> 이벤트 본문 타입
+     */
+    private final class Worker<T> {
+
+        private final StreamEventHandler<T> handler;
+        private final String stream;
+        private final int batchSize;
+        private final Consumer consumer;
+        private final boolean reclaimer;
+        private final Counter succeeded;
+        private final Counter failed;
+        private final Counter deadLettered;
+        private final StreamOperations<String, String, String> operations;
+        private long nextReclaimNanos;
+
+        private Worker(StreamEventHandler<T> handler, int batchSize, String consumerName, boolean reclaimer) {
+            this.handler = handler;
+            this.stream = streamPrefix + handler.topic();
+            this.batchSize = batchSize;
+            this.consumer = Consumer.from(group, consumerName);
+            this.reclaimer = reclaimer;
+            this.succeeded = counter("success");
+            this.failed = counter("failure");
+            this.deadLettered = counter("dead_lettered");
+            this.operations = redisTemplate.opsForStream();
+        }
+
+        private Counter counter(String outcome) {
+            return Counter.builder(CONSUMED_METRIC)
+                    .description("스트림에서 읽어 처리한 이벤트 수")
+                    .tag("topic", handler.topic())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private void run() {
+            boolean groupReady = false;
+            nextReclaimNanos = System.nanoTime();
+            while (running) {
+                try {
+                    if (!groupReady) {
+                        createGroup();
+                        groupReady = true;
+                    }
+                    if (reclaimer && System.nanoTime() >= nextReclaimNanos) {
+                        reclaim();
+                        nextReclaimNanos = System.nanoTime() + properties.getReclaimInterval().toNanos();
+                    }
+                    readBatch();
+                } catch (RuntimeException e) {
+                    if (!running) {
+                        return;
+                    }
+                    log.warn("스트림 소비 실패, 잠시 후 다시 시도합니다: stream={}, error={}", stream, e.getMessage());
+                    pause();
+                }
+            }
+        }
+
+        /**
+         * 소비자 그룹을 만듭니다. 스트림이 없으면 함께 만들고, 그룹이 이미 있으면 그대로 사용합니다.
+         */
+        private void createGroup() {
+            ReadOffset offset = properties.getInitialOffset() == StreamConsumerProperties.InitialOffset.EARLIEST
+                    ? ReadOffset.from("0") : ReadOffset.latest();
+            try {
+                redisTemplate.execute(connection -> {
+                    connection.streamCommands().xGroupCreate(stream.getBytes(StandardCharsets.UTF_8), group,
+                            offset, true);
+                    return null;
+                }, true);
+            } catch (RedisSystemException e) {
+                if (!isBusyGroup(e)) {
+                    throw e;
+                }
+            }
+        }
+
+        private boolean isBusyGroup(Throwable e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause.getMessage() != null && cause.getMessage().contains(BUSY_GROUP)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 새 이벤트 한 배치를 읽어 처리합니다. 이벤트가 없으면 대기 시간만큼 기다립니다.
+         */
+        private void readBatch() {
+            // read(...)가 제네릭 가변 인자(StreamOffset<String>...)를 받으므로 배열 생성 경고만 억제합니다.
+            @SuppressWarnings("unchecked")
+            List<MapRecord<String, String, String>> records = operations.read(consumer,
+                    StreamReadOptions.empty().count(batchSize).block(properties.getBlockTimeout()),
+                    StreamOffset.create(stream, ReadOffset.lastConsumed()));
+            if (records != null && !records.isEmpty()) {
+                process(records);
+            }
+        }
+
+        /**
+         * 오래 확인되지 않은 이벤트를 회수해 다시 처리하고, 최대 전달 횟수를 넘긴 이벤트는 dead-letter로 옮깁니다.
+         */
+        private void reclaim() {
+            PendingMessages pending = operations.pending(stream, group, Range.unbounded(), batchSize);
+            Duration claimIdle = properties.getClaimIdle();
+            List<RecordId> retry = new ArrayList<>();
+            List<RecordId> exhausted = new ArrayList<>();
+            for (PendingMessage message : pending) {
+                if (message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) < 0) {
+                    continue;
+                }
+                if (message.getTotalDeliveryCount() >= properties.getMaxDeliveries()) {
+                    exhausted.add(message.getId());
+                } else {
+                    retry.add(message.getId());
+                }
+            }
+            if (!exhausted.isEmpty()) {
+                deadLetter(operations.claim(stream, group, consumer.getName(), claimIdle,
+                        exhausted.toArray(RecordId[]::new)));
+            }
+            if (!retry.isEmpty()) {
+                List<MapRecord<String, String, String>> claimed = operations.claim(stream, group, consumer.getName(),
+                        claimIdle, retry.toArray(RecordId[]::new));
+                log.info("확인되지 않은 이벤트 회수: stream={}, count={}", stream, claimed.size());
+                process(claimed);
+            }
+        }
+
+        private void process(List<MapRecord<String, String, String>> records) {
+            List<RecordId> acknowledged = new ArrayList<>(records.size());
+            for (MapRecord<String, String, String> record : records) {
+                try {
+                    handler.handle(toEvent(record));
+                    acknowledged.add(record.getId());
+                    succeeded.increment();
+                } catch (RuntimeException | JsonProcessingException e) {
+                    // 확인하지 않은 이벤트는 claimIdle이 지난 뒤 회수되어 다시 처리됩니다
+                    failed.increment();
+                    log.warn("이벤트 처리 실패: stream={}, id={}, error={}", stream, record.getId(), e.getMessage());
+                }
+            }
+            if (!acknowledged.isEmpty()) {
+                operations.acknowledge(stream, group, acknowledged.toArray(RecordId[]::new));
+            }
+        }
+
+        private StreamEvent<T> toEvent(MapRecord<String, String, String> record) throws JsonProcessingException {
+            Map<String, String> fields = record.getValue();
+            return StreamEvent.<T>builder()
+                    .id(record.getId().getValue())
+                    .topic(handler.topic())
+                    .key(fields.get(RedisStreamEventBroker.FIELD_KEY))
+                    .payload(objectMapper.readValue(fields.get(RedisStreamEventBroker.FIELD_PAYLOAD),
+                            handler.payloadType()))
+                    .createdAt(fields.get(RedisStreamEventBroker.FIELD_CREATED_AT))
+                    .build();
+        }
+
+        /**
+         * 처리를 포기한 이벤트를 dead-letter 스트림에 복사하고 원래 스트림에서는 확인 처리합니다.
+         */
+        private void deadLetter(List<MapRecord<String, String, String>> records) {
+            if (records.isEmpty()) {
+                return;
+            }
+            String deadLetterStream = stream + DEAD_LETTER_SUFFIX;
+            for (MapRecord<String, String, String> record : records) {
+                Map<String, String> fields = new LinkedHashMap<>(record.getValue());
+                fields.put("sourceId", record.getId().getValue());
+                operations.add(StreamRecords.newRecord().in(deadLetterStream).ofMap(fields));
+                log.warn("최대 전달 횟수 초과로 dead-letter 이동: stream={}, id={}", stream, record.getId());
+            }
+            operations.acknowledge(stream, group, records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+            deadLettered.increment(records.size());
+        }
+
+        private void pause() {
+            try {
+                Thread.sleep(ERROR_BACKOFF_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+    }
+}
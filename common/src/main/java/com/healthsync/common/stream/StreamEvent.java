@@ -0,0 +1,41 @@
+package com.healthsync.common.stream;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Redis Stream에서 읽은 도메인 이벤트입니다.
+ *
+ * @param <T> 이벤트 본문 타입
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@Builder
+public class StreamEvent<T> {
+
+    /**
+     * 스트림 레코드 ID
+     */
+    private final String id;
+
+    /**
+     * 토픽
+     */
+    private final String topic;
+
+    /**
+     * 이벤트 키 (예: 사용자 ID)
+     */
+    private final String key;
+
+    /**
+     * 이벤트 본문
+     */
+    private final T payload;
+
+    /**
+     * 아웃박스 저장 시각
+     */
+    private final String createdAt;
+}
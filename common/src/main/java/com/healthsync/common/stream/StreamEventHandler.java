@@ -0,0 +1,34 @@
+package com.healthsync.common.stream;
+
+/**
+ * 한 토픽의 이벤트를 처리하는 핸들러 인터페이스입니다.
+ * 빈으로 등록하면 {@link StreamConsumerContainer}가 서비스 이름의 소비자 그룹으로 이벤트를 읽어 전달합니다.
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로 처리는 멱등이어야 합니다.
+ *
+ * @param <T> 이벤트 본문 타입
+ * @author healthsync-team
+ * @version 1.0
+ */
+public interface StreamEventHandler<T> {
+
+    /**
+     * 처리할 토픽을 반환합니다.
+     *
+     * @return 토픽 이름
+     */
+    String topic();
+
+    /**
+     * 이벤트 본문 타입을 반환합니다 (JSON 본문을 이 타입으로 변환).
+     *
+     * @return 본문 타입
+     */
+    Class<T> payloadType();
+
+    /**
+     * 이벤트를 처리합니다. 예외를 던지면 확인(ACK)하지 않으며, 일정 시간 뒤 다시 전달됩니다.
+     *
+     * @param event 이벤트
+     */
+    void handle(StreamEvent<T> event);
+}
@@ -0,0 +1,90 @@
+package com.healthsync.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합의 포함 여부를 메모리만으로 근사 판정하는 스레드 안전 Bloom 필터입니다.
+ * {@link #mightContain(String)}이 false이면 확실히 없는 값이고, true이면 오탐일 수 있으므로 원본 저장소에서 확인해야 합니다.
+ * 항목 삭제는 지원하지 않으므로 만료된 항목을 정리하려면 새 필터로 다시 만들어야 합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * BloomFilter 생성자
+     *
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate 목표 오탐률 (0과 1 사이)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("예상 항목 수는 양수, 오탐률은 0과 1 사이여야 합니다.");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (optimalBits + 63) / 64));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param value 추가할 값
+     */
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    /**
+     * 값이 포함되었을 가능성이 있는지 확인합니다.
+     *
+     * @param value 확인할 값
+     * @return 포함 가능성 (false면 확실히 없음)
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 SplitMix64 혼합을 적용해 상위/하위 32비트를 독립적인 해시로 사용합니다.
+     * {@link CountMinSketch}도 같은 해시를 사용합니다.
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,80 @@
+package com.healthsync.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열별 출현 횟수를 고정 크기 메모리로 근사 집계하는 스레드 안전 Count-Min Sketch입니다.
+ * 추정값은 실제 횟수보다 작지 않으며, 해시 충돌만큼 크게 나올 수 있습니다.
+ * {@link #halve()}로 모든 카운터를 절반으로 줄여 오래된 조회의 영향을 감쇠시킵니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class CountMinSketch {
+
+    private final AtomicLongArray counters;
+    private final int width;
+    private final int depth;
+
+    /**
+     * CountMinSketch 생성자
+     *
+     * @param width 행당 카운터 수 (2의 거듭제곱으로 올림)
+     * @param depth 행 수 (해시 함수 수)
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("너비와 깊이는 양수여야 합니다.");
+        }
+        this.width = width == 1 ? 1 : Integer.highestOneBit((width - 1) << 1);
+        this.depth = depth;
+        this.counters = new AtomicLongArray(this.width * depth);
+    }
+
+    /**
+     * 값의 출현 횟수를 1 늘리고 새 추정값을 반환합니다.
+     *
+     * @param value 값
+     * @return 증가 후 추정 횟수
+     */
+    public long add(String value) {
+        long hash = BloomFilter.hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 값의 추정 출현 횟수를 반환합니다.
+     *
+     * @param value 값
+     * @return 추정 횟수
+     */
+    public long estimate(String value) {
+        long hash = BloomFilter.hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄입니다. 동시에 증가한 값은 일부 유실될 수 있습니다.
+     */
+    public void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    private int index(int row, int h1, int h2) {
+        return row * width + ((h1 + (row + 1) * h2) & (width - 1));
+    }
+}
@@ -0,0 +1,110 @@
+package com.healthsync.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Gateway가 검증한 사용자 신원을 내부 서비스로 전달하는 서명 헤더 유틸리티입니다.
+ * 헤더 값은 {@code base64url(userId).만료시각(epoch 초).base64url(HMAC-SHA256)} 형식입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class IdentityHeaderUtil {
+
+    /**
+     * 내부 신원 헤더 이름
+     */
+    public static final String IDENTITY_HEADER = "X-HealthSync-Identity";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec signingKey;
+    private final ThreadLocal<Mac> macHolder;
+
+    /**
+     * IdentityHeaderUtil 생성자
+     *
+     * @param secret 내부 신원 헤더 서명 키
+     */
+    public IdentityHeaderUtil(
+            @Value("${internal-auth.secret:healthsync-internal-identity-secret-for-development-only}") String secret) {
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.macHolder = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 사용자 ID와 만료 시각으로 서명된 헤더 값을 생성합니다.
+     *
+     * @param userId 사용자 ID
+     * @param expiresAtEpochSecond 만료 시각(epoch 초)
+     * @return 서명된 헤더 값
+     */
+    public String createHeaderValue(String userId, long expiresAtEpochSecond) {
+        String payload = ENCODER.encodeToString(userId.getBytes(StandardCharsets.UTF_8)) + "." + expiresAtEpochSecond;
+        return payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * 헤더 값을 검증하고 사용자 ID를 반환합니다.
+     *
+     * @param headerValue 헤더 값
+     * @return 사용자 ID (서명 불일치, 만료, 형식 오류 시 null)
+     */
+    public String resolveUserId(String headerValue) {
+        if (headerValue == null || headerValue.isEmpty()) {
+            return null;
+        }
+
+        int signatureIndex = headerValue.lastIndexOf('.');
+        int expiryIndex = headerValue.indexOf('.');
+        if (expiryIndex <= 0 || signatureIndex <= expiryIndex) {
+            return null;
+        }
+
+        try {
+            String payload = headerValue.substring(0, signatureIndex);
+            byte[] signature = DECODER.decode(headerValue.substring(signatureIndex + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                log.warn("내부 신원 헤더 서명 불일치");
+                return null;
+            }
+
+            long expiresAt = Long.parseLong(headerValue.substring(expiryIndex + 1, signatureIndex));
+            if (expiresAt < System.currentTimeMillis() / 1000) {
+                return null;
+            }
+
+            return new String(DECODER.decode(headerValue.substring(0, expiryIndex)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            log.warn("내부 신원 헤더 형식 오류: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        return macHolder.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("내부 신원 헤더 서명기 초기화 실패", e);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 // common/src/main/java/com/healthsync/common/util/JwtUtil.java
 package com.healthsync.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -9,12 +12,21 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 유틸리티 클래스입니다.
+ * 서명 검증 파서는 생성 시 한 번만 만들어 재사용하며(스레드 안전), 최근 검증한 토큰은
+ * 만료 시각까지 제한된 크기의 캐시에 보관하여 같은 토큰의 반복 검증 비용을 줄입니다.
+ * 캐시 키는 토큰 원문이 아닌 SHA-256 해시를 사용합니다.
  *
  * @author healthsync-team
  * @version 1.0
@@ -24,6 +36,8 @@ import java.util.Date;
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, ParsedToken> verifiedTokens;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
@@ -33,13 +47,24 @@ public class JwtUtil {
      * @param secret JWT 시크릿 키
      * @param accessTokenValidityInMilliseconds 액세스 토큰 유효 시간
      * @param refreshTokenValidityInMilliseconds 리프레시 토큰 유효 시간
+     * @param verifiedCacheSize 검증된 토큰 캐시 최대 항목 수 (0이면 캐시 미사용)
      */
     public JwtUtil(
             @Value("${jwt.secret:healthsync-default-secret-key-for-development-only}") String secret,
             @Value("${jwt.access-token.expire-length:3600000}") long accessTokenValidityInMilliseconds,
-            @Value("${jwt.refresh-token.expire-length:604800000}") long refreshTokenValidityInMilliseconds) {
+            @Value("${jwt.refresh-token.expire-length:604800000}") long refreshTokenValidityInMilliseconds,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheSize) {
 
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new UntilTokenExpiry())
+                        .build()
+                : null;
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
     }
@@ -96,6 +121,7 @@ public class JwtUtil {
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userId)
                 .setIssuedAt(now)
                 .setExpiration(validity)
@@ -110,7 +136,7 @@ public class JwtUtil {
      * @return 사용자 ID
      */
     public String getUserId(String token) {
-        return getClaims(token).getSubject();
+        return verify(token).getUserId();
     }
 
     /**
@@ -120,27 +146,70 @@ public class JwtUtil {
      * @return 유효성 여부
      */
     public boolean validateToken(String token) {
+        ParsedToken parsed = parseOnce(token);
+        if (!parsed.isValid()) {
+            log.error("Invalid JWT token");
+        }
+        return parsed.isValid();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱·검증하여 토큰 ID, 사용자 ID, 만료 시각, 유효성을 함께 반환합니다.
+     * 예외를 던지지 않으므로 요청마다 호출하는 인증 경로에서 사용합니다.
+     *
+     * @param token JWT 토큰
+     * @return 파싱 결과 (유효하지 않으면 {@link ParsedToken#invalid()})
+     */
+    public ParsedToken parseOnce(String token) {
         try {
-            getClaims(token);
-            return true;
+            return verify(token);
         } catch (JwtException | IllegalArgumentException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return ParsedToken.invalid();
         }
     }
 
     /**
-     * 토큰에서 Claims를 추출합니다.
+     * 캐시에 검증 결과가 있으면 재사용하고, 없으면 서명을 검증한 뒤 캐시에 보관합니다.
+     * 유효하지 않은 토큰은 캐시하지 않습니다.
      *
      * @param token JWT 토큰
-     * @return Claims
+     * @return 검증된 토큰 정보
+     * @throws JwtException 서명이 맞지 않거나 만료된 경우
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
      */
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private ParsedToken verify(String token) {
+        String cacheKey = verifiedTokens != null && token != null ? hash(token) : null;
+        if (cacheKey != null) {
+            ParsedToken cached = verifiedTokens.getIfPresent(cacheKey);
+            if (cached != null && !cached.isExpired()) {
+                return cached;
+            }
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        ParsedToken parsed = new ParsedToken(true, claims.getId(), claims.getSubject(),
+                expiration != null ? expiration.toInstant() : null);
+        if (cacheKey != null && expiration != null) {
+            verifiedTokens.put(cacheKey, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * 토큰 원문 대신 캐시 키로 사용할 SHA-256 해시를 계산합니다.
+     *
+     * @param token JWT 토큰
+     * @return Base64 인코딩된 해시
+     */
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 
     /**
@@ -150,7 +219,29 @@ public class JwtUtil {
      * @return 만료 시간
      */
     public LocalDateTime getExpirationDate(String token) {
-        Date expiration = getClaims(token).getExpiration();
-        return expiration.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+        Instant expiration = verify(token).getExpiresAt();
+        return expiration.atZone(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    /**
+     * 각 항목을 토큰 자체의 만료 시각까지 유지하는 만료 정책입니다.
+     */
+    private static class UntilTokenExpiry implements Expiry<String, ParsedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, ParsedToken value, long currentTime) {
+            long remainingMillis = value.getExpiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ParsedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, ParsedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
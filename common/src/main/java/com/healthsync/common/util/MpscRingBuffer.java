@@ -0,0 +1,105 @@
+package com.healthsync.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 생산자와 하나의 소비자가 락 없이 사용하는 고정 크기 링 버퍼입니다.
+ * 칸마다 순번을 두어 생산자는 CAS 한 번으로 칸을 차지하고, 버퍼가 가득 차면 기다리지 않고 실패를 반환합니다.
+ * {@link #poll()}은 한 스레드에서만 호출해야 합니다.
+ *
+ * @param <E> 원소 타입
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * MpscRingBuffer 생성자
+     *
+     * @param capacity 용량 (2의 거듭제곱으로 올림)
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("용량은 양수여야 합니다.");
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit((capacity - 1) << 1);
+        this.mask = this.capacity - 1;
+        this.elements = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소를 넣습니다. 버퍼가 가득 차면 기다리지 않고 false를 반환합니다.
+     *
+     * @param element 원소
+     * @return 넣었으면 true
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 가장 먼저 들어온 원소를 꺼냅니다. 소비자 스레드에서만 호출합니다.
+     *
+     * @return 원소 (비어 있거나 생산자가 아직 쓰는 중이면 null)
+     */
+    public E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.set(index, null);
+        sequences.set(index, position + capacity);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * 현재 원소 수의 근사값을 반환합니다.
+     *
+     * @return 원소 수
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    /**
+     * 용량을 반환합니다.
+     *
+     * @return 용량
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
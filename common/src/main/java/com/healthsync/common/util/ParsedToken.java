@@ -0,0 +1,52 @@
+package com.healthsync.common.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * JWT를 한 번 파싱하고 검증한 결과입니다.
+ * 토큰 ID(jti), 사용자 ID, 만료 시각, 유효성을 함께 담아 같은 토큰을 여러 번 파싱하지 않도록 합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class ParsedToken {
+
+    private static final ParsedToken INVALID = new ParsedToken(false, null, null, null);
+
+    private final boolean valid;
+    private final String tokenId;
+    private final String userId;
+    private final Instant expiresAt;
+
+    /**
+     * 유효하지 않은 토큰 결과를 반환합니다.
+     *
+     * @return 유효하지 않은 토큰 결과
+     */
+    public static ParsedToken invalid() {
+        return INVALID;
+    }
+
+    /**
+     * 검증 당시 유효했던 토큰이 지금 만료되었는지 확인합니다.
+     *
+     * @return 만료 여부
+     */
+    public boolean isExpired() {
+        return expiresAt != null && !Instant.now().isBefore(expiresAt);
+    }
+
+    /**
+     * 만료 시각을 epoch 초로 반환합니다.
+     *
+     * @return 만료 시각 (epoch 초)
+     */
+    public long getExpiresAtEpochSecond() {
+        return expiresAt.getEpochSecond();
+    }
+}
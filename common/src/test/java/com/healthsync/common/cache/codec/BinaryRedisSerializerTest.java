@@ -0,0 +1,209 @@
+package com.healthsync.common.cache.codec;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link BinaryRedisSerializer}의 프레임 형식과 이전 형식 호환성 테스트입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+class BinaryRedisSerializerTest {
+
+    private static final int PAYLOAD_TYPE_ID = 901;
+    private static final byte COMPRESSION_NONE = 0;
+    private static final byte COMPRESSION_LZ4 = 1;
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final RedisCodecRegistry registry = new RedisCodecRegistry().register(PAYLOAD_TYPE_ID, Payload.class);
+
+    @Test
+    void writesUncompressedFrameForRegisteredType() {
+        BinaryRedisSerializer serializer = new BinaryRedisSerializer(registry, json, false, 0);
+        Payload payload = Payload.repetitive(50);
+
+        byte[] bytes = serializer.serialize(payload);
+
+        assertThat(bytes[0]).isEqualTo(BinaryRedisSerializer.FORMAT_VERSION);
+        assertThat(typeId(bytes)).isEqualTo(PAYLOAD_TYPE_ID);
+        assertThat(bytes[3]).isEqualTo(COMPRESSION_NONE);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(payload);
+    }
+
+    @Test
+    void compressesBodyAboveThreshold() {
+        BinaryRedisSerializer plain = new BinaryRedisSerializer(registry, json, false, 0);
+        BinaryRedisSerializer compressing = new BinaryRedisSerializer(registry, json, true, 64);
+        Payload payload = Payload.repetitive(50);
+
+        byte[] bytes = compressing.serialize(payload);
+
+        assertThat(typeId(bytes)).isEqualTo(PAYLOAD_TYPE_ID);
+        assertThat(bytes[3]).isEqualTo(COMPRESSION_LZ4);
+        assertThat(bytes.length).isLessThan(plain.serialize(payload).length);
+        assertThat(compressing.deserialize(bytes)).isEqualTo(payload);
+    }
+
+    @Test
+    void keepsBodyBelowThresholdUncompressed() {
+        BinaryRedisSerializer serializer = new BinaryRedisSerializer(registry, json, true, 1 << 20);
+        Payload payload = Payload.repetitive(50);
+
+        byte[] bytes = serializer.serialize(payload);
+
+        assertThat(bytes[3]).isEqualTo(COMPRESSION_NONE);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(payload);
+    }
+
+    @Test
+    void storesIncompressibleBodyUncompressed() {
+        BinaryRedisSerializer serializer = new BinaryRedisSerializer(registry, json, true, 64);
+        Payload payload = Payload.random(4096);
+
+        byte[] bytes = serializer.serialize(payload);
+
+        assertThat(bytes[3]).isEqualTo(COMPRESSION_NONE);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(payload);
+    }
+
+    @Test
+    void usesJsonFallbackForUnregisteredType() {
+        BinaryRedisSerializer serializer = new BinaryRedisSerializer(registry, json, false, 0);
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("userId", "12345");
+        value.put("count", 3);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(typeId(bytes)).isEqualTo(RedisCodecRegistry.FALLBACK_TYPE_ID);
+        assertThat(bytes[3]).isEqualTo(COMPRESSION_NONE);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void compressesJsonFallbackBody() {
+        BinaryRedisSerializer serializer = new BinaryRedisSerializer(registry, json, true, 64);
+        Map<String, Object> value = new LinkedHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            value.put("field-" + i, "국민건강보험공단 건강검진 정상 범위 기준");
+        }
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(typeId(bytes)).isEqualTo(RedisCodecRegistry.FALLBACK_TYPE_ID);
+        assertThat(bytes[3]).isEqualTo(COMPRESSION_LZ4);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void readsLegacyJsonValues() {
+        BinaryRedisSerializer serializer = new BinaryRedisSerializer(registry, json, true, 64);
+        Payload payload = Payload.repetitive(5);
+
+        byte[] legacy = json.serialize(payload);
+
+        assertThat(serializer.deserialize(legacy)).isEqualTo(payload);
+    }
+
+    @Test
+    void rejectsUnknownTypeId() {
+        RedisCodecRegistry other = new RedisCodecRegistry().register(PAYLOAD_TYPE_ID + 1, Payload.class);
+        byte[] bytes = new BinaryRedisSerializer(other, json, false, 0).serialize(Payload.repetitive(5));
+        BinaryRedisSerializer serializer = new BinaryRedisSerializer(registry, json, false, 0);
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining(String.valueOf(PAYLOAD_TYPE_ID + 1));
+    }
+
+    @Test
+    void rejectsUnknownCompression() {
+        BinaryRedisSerializer serializer = new BinaryRedisSerializer(registry, json, false, 0);
+        byte[] bytes = serializer.serialize(Payload.repetitive(5));
+        bytes[3] = 7;
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void mapsNullToEmptyBytes() {
+        BinaryRedisSerializer serializer = new BinaryRedisSerializer(registry, json, true, 64);
+
+        assertThat(serializer.serialize(null)).isEmpty();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+    }
+
+    private static int typeId(byte[] bytes) {
+        return ((bytes[1] & 0xFF) << 8) | (bytes[2] & 0xFF);
+    }
+
+    /**
+     * 테스트용 값입니다.
+     */
+    public static class Payload {
+
+        private String userId;
+        private List<String> notes = new ArrayList<>();
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public void setUserId(String userId) {
+            this.userId = userId;
+        }
+
+        public List<String> getNotes() {
+            return notes;
+        }
+
+        public void setNotes(List<String> notes) {
+            this.notes = notes;
+        }
+
+        static Payload repetitive(int count) {
+            Payload payload = new Payload();
+            payload.userId = "12345";
+            for (int i = 0; i < count; i++) {
+                payload.notes.add("국민건강보험공단 건강검진 정상 범위 기준");
+            }
+            return payload;
+        }
+
+        static Payload random(int length) {
+            Random random = new Random(42);
+            StringBuilder text = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                text.append((char) ('!' + random.nextInt(94)));
+            }
+            Payload payload = new Payload();
+            payload.userId = "12345";
+            payload.notes.add(text.toString());
+            return payload;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Payload other && Objects.equals(userId, other.userId)
+                    && Objects.equals(notes, other.notes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, notes);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.healthsync.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link MpscRingBuffer}의 용량 처리와 다중 생산자 동시성 테스트입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+class MpscRingBufferTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int PER_PRODUCER = 50_000;
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<>(1).capacity()).isEqualTo(1);
+        assertThat(new MpscRingBuffer<>(5).capacity()).isEqualTo(8);
+        assertThat(new MpscRingBuffer<>(1024).capacity()).isEqualTo(1024);
+        assertThatThrownBy(() -> new MpscRingBuffer<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsOfferWhenFullAndAcceptsAfterPoll() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 0; i < 8; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(8)).isFalse();
+        assertThat(buffer.size()).isEqualTo(8);
+
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(8)).isTrue();
+        for (int i = 1; i <= 8; i++) {
+            assertThat(buffer.poll()).isEqualTo(i);
+        }
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void concurrentProducersFillExactlyCapacity() throws Exception {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                futures.add(executor.submit(() -> {
+                    await(start);
+                    for (int i = 0; i < 1024; i++) {
+                        if (buffer.offer(i)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(accepted.get()).isEqualTo(buffer.capacity());
+        assertThat(buffer.offer(-1)).isFalse();
+        int polled = 0;
+        while (buffer.poll() != null) {
+            polled++;
+        }
+        assertThat(polled).isEqualTo(buffer.capacity());
+    }
+
+    @Test
+    void deliversEveryElementOnceInProducerOrder() throws Exception {
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(256);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        int[] received = new int[PRODUCERS];
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                long producer = p;
+                futures.add(executor.submit(() -> {
+                    await(start);
+                    for (int i = 0; i < PER_PRODUCER; i++) {
+                        Long element = (producer << 32) | i;
+                        while (!buffer.offer(element)) {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+            start.countDown();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            int total = 0;
+            while (total < PRODUCERS * PER_PRODUCER) {
+                assertThat(System.nanoTime()).as("소비 시간 초과").isLessThan(deadline);
+                Long element = buffer.poll();
+                if (element == null) {
+                    Thread.yield();
+                    continue;
+                }
+                int producer = (int) (element >>> 32);
+                int sequence = (int) (element & 0xFFFFFFFFL);
+                // 생산자별 순번이 하나씩 증가하면 유실도 중복도 없습니다.
+                assertThat(sequence).isEqualTo(received[producer]);
+                received[producer]++;
+                total++;
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int count : received) {
+            assertThat(count).isEqualTo(PER_PRODUCER);
+        }
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -199,13 +199,24 @@ public class GoalUseCase {
         // 캐시 키 생성
         String cacheKey = String.format("mission_history:%s:%s:%s:%s", userId, startDate, endDate, missionIds);
         
-        // 캐시 확인
-        MissionHistoryResponse cachedResponse = cachePort.getMissionHistory(cacheKey);
-        if (cachedResponse != null) {
-            log.info("캐시에서 미션 이력 조회: userId={}", userId);
-            return cachedResponse;
-        }
+        // 캐시 확인 (미스 시 한 요청만 계산하고 나머지는 결과를 공유)
+        MissionHistoryResponse response = cachePort.getOrLoadMissionHistory(cacheKey,
+                () -> buildMissionHistory(userId, startDate, endDate, missionIds));
         
+        log.info("미션 이력 조회 완료: userId={}, achievementRate={}", userId, response.getTotalAchievementRate());
+        return response;
+    }
+    
+    /**
+     * 미션 달성 이력을 계산합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param startDate 시작일 (없으면 한 달 전)
+     * @param endDate 종료일 (없으면 오늘)
+     * @param missionIds 미션 ID 목록
+     * @return 미션 달성 이력
+     */
+    private MissionHistoryResponse buildMissionHistory(String userId, String startDate, String endDate, String missionIds) {
         // 기본값 설정
         if (startDate == null) startDate = LocalDate.now().minusMonths(1).toString();
         if (endDate == null) endDate = LocalDate.now().toString();
@@ -235,10 +246,6 @@ public class GoalUseCase {
                 .insights(insights)
                 .build();
         
-        // 캐시 저장
-        cachePort.cacheMissionHistory(cacheKey, response);
-        
-        log.info("미션 이력 조회 완료: userId={}, achievementRate={}", userId, response.getTotalAchievementRate());
         return response;
     }
     
@@ -0,0 +1,36 @@
+package com.healthsync.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 목표 설정 이벤트 DTO 클래스입니다.
+ * 
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalSetEvent {
+    
+    /**
+     * 사용자 ID
+     */
+    private String userId;
+    
+    /**
+     * 선택한 미션 ID 목록
+     */
+    private List<String> missionIds;
+    
+    /**
+     * 발생 시각
+     */
+    private String occurredAt;
+}
@@ -0,0 +1,39 @@
+package com.healthsync.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미션 완료 이벤트 DTO 클래스입니다.
+ * 
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissionCompleteEvent {
+    
+    /**
+     * 사용자 ID
+     */
+    private String userId;
+    
+    /**
+     * 미션 ID
+     */
+    private String missionId;
+    
+    /**
+     * 완료 데이터
+     */
+    private CompletionData completionData;
+    
+    /**
+     * 발생 시각
+     */
+    private String occurredAt;
+}
@@ -1,17 +1,19 @@
 package com.healthsync.goal.infrastructure.adapters;
 
+import com.healthsync.common.cache.TwoTierCache;
+import com.healthsync.common.cache.TwoTierCacheManager;
 import com.healthsync.goal.dto.ActiveMissionsResponse;
 import com.healthsync.goal.dto.MissionHistoryResponse;
 import com.healthsync.goal.infrastructure.ports.CachePort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.function.Supplier;
 
 /**
- * Redis 캐시와의 통신을 담당하는 어댑터 클래스입니다.
+ * 2단계 캐시(L1 로컬 + L2 Redis)와의 통신을 담당하는 어댑터 클래스입니다.
+ * 활성 미션처럼 자주 조회되는 항목은 L1 적중 시 네트워크 호출 없이 응답합니다.
  * Clean Architecture의 Infrastructure 계층에 해당합니다.
  * 
  * @author healthsync-team
@@ -19,16 +21,26 @@ import java.time.Duration;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CacheAdapter implements CachePort {
     
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TwoTierCache activeMissionsCache;
+    private final TwoTierCache missionHistoryCache;
+    
+    /**
+     * CacheAdapter 생성자
+     * 
+     * @param cacheManager 2단계 캐시 관리자
+     */
+    public CacheAdapter(TwoTierCacheManager cacheManager) {
+        this.activeMissionsCache = cacheManager.getCache("active_missions");
+        this.missionHistoryCache = cacheManager.getCache("mission_history");
+    }
     
     @Override
     public ActiveMissionsResponse getActiveMissions(String userId) {
         try {
             String cacheKey = "active_missions:" + userId;
-            return (ActiveMissionsResponse) redisTemplate.opsForValue().get(cacheKey);
+            return activeMissionsCache.get(cacheKey, ActiveMissionsResponse.class);
         } catch (Exception e) {
             log.warn("활성 미션 캐시 조회 실패: userId={}, error={}", userId, e.getMessage());
             return null;
@@ -39,7 +51,7 @@ public class CacheAdapter implements CachePort {
     public void cacheActiveMissions(String userId, ActiveMissionsResponse response) {
         try {
             String cacheKey = "active_missions:" + userId;
-            redisTemplate.opsForValue().set(cacheKey, response, Duration.ofMinutes(30));
+            activeMissionsCache.put(cacheKey, response, Duration.ofMinutes(30));
             log.info("활성 미션 캐시 저장: userId={}", userId);
         } catch (Exception e) {
             log.warn("활성 미션 캐시 저장 실패: userId={}, error={}", userId, e.getMessage());
@@ -47,36 +59,21 @@ public class CacheAdapter implements CachePort {
     }
     
     @Override
-    public MissionHistoryResponse getMissionHistory(String cacheKey) {
-        try {
-            return (MissionHistoryResponse) redisTemplate.opsForValue().get(cacheKey);
-        } catch (Exception e) {
-            log.warn("미션 이력 캐시 조회 실패: key={}, error={}", cacheKey, e.getMessage());
-            return null;
-        }
-    }
-    
-    @Override
-    public void cacheMissionHistory(String cacheKey, MissionHistoryResponse response) {
-        try {
-            redisTemplate.opsForValue().set(cacheKey, response, Duration.ofHours(1));
-            log.info("미션 이력 캐시 저장: key={}", cacheKey);
-        } catch (Exception e) {
-            log.warn("미션 이력 캐시 저장 실패: key={}, error={}", cacheKey, e.getMessage());
-        }
+    public MissionHistoryResponse getOrLoadMissionHistory(String cacheKey, Supplier<MissionHistoryResponse> loader) {
+        return missionHistoryCache.getOrLoad(cacheKey, MissionHistoryResponse.class, Duration.ofHours(1), loader);
     }
     
     @Override
     public void invalidateUserMissionCache(String userId) {
         try {
             String activeMissionKey = "active_missions:" + userId;
-            String historyKeyPattern = "mission_history:" + userId + ":*";
+            String historyKeyPrefix = "mission_history:" + userId + ":";
             
             // 활성 미션 캐시 삭제
-            redisTemplate.delete(activeMissionKey);
+            activeMissionsCache.evict(activeMissionKey);
             
-            // 미션 이력 캐시 삭제 (패턴 매칭)
-            redisTemplate.delete(redisTemplate.keys(historyKeyPattern));
+            // 미션 이력 캐시 삭제 (접두사 매칭)
+            missionHistoryCache.evictByPrefix(historyKeyPrefix);
             
             log.info("사용자 미션 캐시 무효화 완료: userId={}", userId);
         } catch (Exception e) {
@@ -1,10 +1,10 @@
 package com.healthsync.goal.infrastructure.adapters;
 
 import com.healthsync.common.exception.ExternalApiException;
+import com.healthsync.common.http.WebClientFactory;
 import com.healthsync.goal.dto.CelebrationResponse;
 import com.healthsync.goal.dto.Mission;
 import com.healthsync.goal.infrastructure.ports.IntelligenceServicePort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -21,14 +21,22 @@ import java.util.List;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class IntelligenceServiceAdapter implements IntelligenceServicePort {
     
-    private final WebClient webClient = WebClient.builder().build();
+    private final WebClient webClient;
     
     @Value("${services.intelligence-service.url}")
     private String intelligenceServiceUrl;
     
+    /**
+     * IntelligenceServiceAdapter 생성자
+     * 
+     * @param webClientFactory WebClient 팩토리 (대상: intelligence-service)
+     */
+    public IntelligenceServiceAdapter(WebClientFactory webClientFactory) {
+        this.webClient = webClientFactory.getClient("intelligence-service");
+    }
+    
     @Override
     public CelebrationResponse requestCelebrationMessage(String userId, String missionId, int streakDays) {
         try {
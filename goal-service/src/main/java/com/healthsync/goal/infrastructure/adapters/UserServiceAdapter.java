@@ -1,9 +1,9 @@
 package com.healthsync.goal.infrastructure.adapters;
 
 import com.healthsync.common.exception.ExternalApiException;
+import com.healthsync.common.http.WebClientFactory;
 import com.healthsync.goal.dto.UserProfile;
 import com.healthsync.goal.infrastructure.ports.UserServicePort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -18,14 +18,22 @@ import org.springframework.web.reactive.function.client.WebClient;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class UserServiceAdapter implements UserServicePort {
     
-    private final WebClient webClient = WebClient.builder().build();
+    private final WebClient webClient;
     
     @Value("${services.user-service.url}")
     private String userServiceUrl;
     
+    /**
+     * UserServiceAdapter 생성자
+     * 
+     * @param webClientFactory WebClient 팩토리 (대상: user-service)
+     */
+    public UserServiceAdapter(WebClientFactory webClientFactory) {
+        this.webClient = webClientFactory.getClient("user-service");
+    }
+    
     @Override
     public UserProfile getUserProfile(String userId) {
         try {
@@ -3,6 +3,8 @@ package com.healthsync.goal.infrastructure.ports;
 import com.healthsync.goal.dto.ActiveMissionsResponse;
 import com.healthsync.goal.dto.MissionHistoryResponse;
 
+import java.util.function.Supplier;
+
 /**
  * 캐시와의 통신을 위한 포트 인터페이스입니다.
  * Clean Architecture의 Domain 계층에서 정의합니다.
@@ -29,20 +31,14 @@ public interface CachePort {
     void cacheActiveMissions(String userId, ActiveMissionsResponse response);
     
     /**
-     * 미션 이력을 캐시에서 조회합니다.
-     * 
-     * @param cacheKey 캐시 키
-     * @return 미션 이력 응답 (캐시 미스 시 null)
-     */
-    MissionHistoryResponse getMissionHistory(String cacheKey);
-    
-    /**
-     * 미션 이력을 캐시에 저장합니다.
+     * 미션 이력을 캐시에서 조회하고, 없으면 한 번만 계산하여 저장합니다.
+     * 같은 키를 동시에 요청해도 계산은 여러 인스턴스를 통틀어 한 번만 실행됩니다.
      * 
      * @param cacheKey 캐시 키
-     * @param response 미션 이력 응답
+     * @param loader 미션 이력 계산 함수
+     * @return 미션 이력 응답
      */
-    void cacheMissionHistory(String cacheKey, MissionHistoryResponse response);
+    MissionHistoryResponse getOrLoadMissionHistory(String cacheKey, Supplier<MissionHistoryResponse> loader);
     
     /**
      * 사용자 미션 캐시를 무효화합니다.
@@ -0,0 +1,77 @@
+package com.healthsync.health.config;
+
+import com.healthsync.common.security.InternalIdentityFilter;
+import com.healthsync.common.util.IdentityHeaderUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Health Service의 보안 설정을 관리하는 클래스입니다.
+ * 
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+@EnableWebSecurity
+public class HealthSecurityConfig {
+    
+    /**
+     * Security Filter Chain을 구성합니다.
+     * Gateway가 전달한 서명된 신원 헤더로 사용자를 인증합니다.
+     * JFR 레코딩과 핫 키 목록은 운영자만 호출할 수 있습니다.
+     * 
+     * @param http HttpSecurity
+     * @param identityHeaderUtil 내부 신원 헤더 유틸리티
+     * @param adminUserIds 운영자 사용자 ID 목록
+     * @return SecurityFilterChain
+     * @throws Exception 예외
+     */
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http, IdentityHeaderUtil identityHeaderUtil,
+            @Value("${internal-auth.admin-user-ids:}") List<String> adminUserIds) throws Exception {
+        http
+                .csrf(AbstractHttpConfigurer::disable)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new InternalIdentityFilter(identityHeaderUtil, adminUserIds), UsernamePasswordAuthenticationFilter.class)
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/swagger-ui/**", "/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/jfr/**", "/actuator/hotkeys/**").hasRole(InternalIdentityFilter.ADMIN_ROLE)
+                        .requestMatchers("/actuator/**").permitAll()
+                        .anyRequest().authenticated()
+                );
+        
+        return http.build();
+    }
+    
+    /**
+     * CORS 설정을 구성합니다.
+     * 
+     * @return CorsConfigurationSource
+     */
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOriginPatterns(Arrays.asList("*"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setAllowCredentials(true);
+        
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+}
\ No newline at end of file
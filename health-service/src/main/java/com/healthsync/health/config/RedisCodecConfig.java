@@ -0,0 +1,28 @@
+package com.healthsync.health.config;
+
+import com.healthsync.common.cache.codec.RedisCodecRegistrar;
+import com.healthsync.health.dto.HealthHistoryResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Health Service 캐시 값 타입의 Redis 바이너리 코덱 등록을 관리하는 클래스입니다.
+ * 타입 ID는 저장된 값에 기록되므로 변경하거나 다른 타입에 재사용하지 않습니다 (200~299 대역).
+ * 
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+public class RedisCodecConfig {
+    
+    /**
+     * 캐시 값 타입을 등록합니다.
+     * 
+     * @return RedisCodecRegistrar
+     */
+    @Bean
+    public RedisCodecRegistrar healthRedisCodecRegistrar() {
+        return registry -> registry
+                .register(200, HealthHistoryResponse.class);
+    }
+}
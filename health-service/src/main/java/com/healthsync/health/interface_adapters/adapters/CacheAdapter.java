@@ -1,15 +1,15 @@
 package com.healthsync.health.interface_adapters.adapters;
 
+import com.healthsync.common.cache.TwoTierCache;
+import com.healthsync.common.cache.TwoTierCacheManager;
 import com.healthsync.health.dto.HealthHistoryResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 
 /**
- * Redis 캐시와의 통신을 담당하는 어댑터 클래스입니다.
+ * 2단계 캐시(L1 로컬 + L2 Redis)와의 통신을 담당하는 어댑터 클래스입니다.
  * Clean Architecture의 Interface Adapter 계층에 해당합니다.
  * 
  * @author healthsync-team
@@ -17,10 +17,18 @@ import java.time.Duration;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CacheAdapter {
     
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TwoTierCache healthHistoryCache;
+    
+    /**
+     * CacheAdapter 생성자
+     * 
+     * @param cacheManager 2단계 캐시 관리자
+     */
+    public CacheAdapter(TwoTierCacheManager cacheManager) {
+        this.healthHistoryCache = cacheManager.getCache("health_history");
+    }
     
     /**
      * 건강검진 이력을 캐시에서 조회합니다.
@@ -30,7 +38,7 @@ public class CacheAdapter {
      */
     public HealthHistoryResponse getHealthHistory(String cacheKey) {
         try {
-            return (HealthHistoryResponse) redisTemplate.opsForValue().get(cacheKey);
+            return healthHistoryCache.get(cacheKey, HealthHistoryResponse.class);
         } catch (Exception e) {
             log.warn("캐시 조회 실패: key={}, error={}", cacheKey, e.getMessage());
             return null;
@@ -45,7 +53,7 @@ public class CacheAdapter {
      */
     public void cacheHealthHistory(String cacheKey, HealthHistoryResponse response) {
         try {
-            redisTemplate.opsForValue().set(cacheKey, response, Duration.ofHours(1));
+            healthHistoryCache.put(cacheKey, response, Duration.ofHours(1));
             log.info("건강검진 이력 캐시 저장: key={}", cacheKey);
         } catch (Exception e) {
             log.warn("캐시 저장 실패: key={}, error={}", cacheKey, e.getMessage());
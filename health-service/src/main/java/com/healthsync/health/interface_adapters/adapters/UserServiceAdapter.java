@@ -1,8 +1,8 @@
 package com.healthsync.health.interface_adapters.adapters;
 
 import com.healthsync.common.exception.ExternalApiException;
+import com.healthsync.common.http.WebClientFactory;
 import com.healthsync.health.dto.UserInfo;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -17,14 +17,22 @@ import org.springframework.web.reactive.function.client.WebClient;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class UserServiceAdapter {
     
-    private final WebClient webClient = WebClient.builder().build();
+    private final WebClient webClient;
     
     @Value("${services.user-service.url}")
     private String userServiceUrl;
     
+    /**
+     * UserServiceAdapter 생성자
+     * 
+     * @param webClientFactory WebClient 팩토리 (대상: user-service)
+     */
+    public UserServiceAdapter(WebClientFactory webClientFactory) {
+        this.webClient = webClientFactory.getClient("user-service");
+    }
+    
     /**
      * User Service로부터 사용자 기본 정보를 조회합니다.
      * 
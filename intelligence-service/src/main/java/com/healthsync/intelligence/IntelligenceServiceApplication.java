@@ -3,7 +3,6 @@ package com.healthsync.intelligence;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
-import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 /**
  * Intelligence Service의 메인 애플리케이션 클래스입니다.
@@ -13,7 +12,6 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * @version 1.0
  */
 @SpringBootApplication(scanBasePackages = {"com.healthsync.intelligence", "com.healthsync.common"})
-@EnableJpaAuditing
 @ConfigurationPropertiesScan
 public class IntelligenceServiceApplication {
     
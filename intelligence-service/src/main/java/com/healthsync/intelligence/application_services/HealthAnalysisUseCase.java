@@ -38,25 +38,18 @@ public class HealthAnalysisUseCase {
     public HealthDiagnosisResponse generateHealthDiagnosis(String userId) {
         log.info("AI 건강 진단 생성 시작: userId={}", userId);
         
-        // 캐시 확인
+        // 캐시 확인 (미스 시 한 요청만 AI를 호출하고 나머지는 결과를 공유, 2시간 보관)
         String cacheKey = "health_diagnosis:" + userId;
-        HealthDiagnosisResponse cachedResponse = cachePort.getHealthDiagnosis(cacheKey);
-        if (cachedResponse != null) {
-            log.info("캐시에서 건강 진단 조회: userId={}", userId);
-            return cachedResponse;
-        }
-        
-        // 사용자 정보 조회
-        UserProfile userProfile = userServicePort.getUserProfile(userId);
-        
-        // 건강 데이터 조회
-        HealthData healthData = healthServicePort.getHealthData(userId);
-        
-        // AI 진단 생성
-        HealthDiagnosisResponse response = aiAnalysisDomainService.generateHealthDiagnosis(userProfile, healthData);
-        
-        // 캐시 저장 (2시간)
-        cachePort.cacheHealthDiagnosis(cacheKey, response, 7200);
+        HealthDiagnosisResponse response = cachePort.getOrGenerateHealthDiagnosis(cacheKey, 7200, () -> {
+            // 사용자 정보 조회
+            UserProfile userProfile = userServicePort.getUserProfile(userId);
+            
+            // 건강 데이터 조회
+            HealthData healthData = healthServicePort.getHealthData(userId);
+            
+            // AI 진단 생성
+            return aiAnalysisDomainService.generateHealthDiagnosis(userProfile, healthData);
+        });
         
         log.info("AI 건강 진단 생성 완료: userId={}, healthScore={}", userId, response.getHealthScore());
         return response;
@@ -71,27 +64,42 @@ public class HealthAnalysisUseCase {
     public MissionRecommendationResponse recommendMissions(String userId) {
         log.info("AI 미션 추천 생성 시작: userId={}", userId);
         
-        // 캐시 확인
-        String cacheKey = "mission_recommendations:" + userId;
-        MissionRecommendationResponse cachedResponse = cachePort.getMissionRecommendations(cacheKey);
-        if (cachedResponse != null) {
-            log.info("캐시에서 미션 추천 조회: userId={}", userId);
-            return cachedResponse;
-        }
-        
-        // 사용자 정보 조회
-        UserProfile userProfile = userServicePort.getUserProfile(userId);
-        
-        // 건강 데이터 조회
-        HealthData healthData = healthServicePort.getHealthData(userId);
-        
-        // AI 미션 추천 생성
-        MissionRecommendationResponse response = aiAnalysisDomainService.generateMissionRecommendations(userProfile, healthData);
-        
-        // 캐시 저장 (2시간)
-        cachePort.cacheMissionRecommendations(cacheKey, response, 7200);
+        // 캐시 확인 (미스 시 한 요청만 AI를 호출하고 나머지는 결과를 공유, 2시간 보관)
+        String cacheKey = generateMissionRecommendationsCacheKey(userId);
+        MissionRecommendationResponse response = cachePort.getOrGenerateMissionRecommendations(cacheKey, 7200, () -> {
+            // 사용자 정보 조회
+            UserProfile userProfile = userServicePort.getUserProfile(userId);
+            
+            // 건강 데이터 조회
+            HealthData healthData = healthServicePort.getHealthData(userId);
+            
+            // AI 미션 추천 생성
+            return aiAnalysisDomainService.generateMissionRecommendations(userProfile, healthData);
+        });
         
         log.info("AI 미션 추천 생성 완료: userId={}, recommendedCount={}", userId, response.getTotalRecommended());
         return response;
     }
+    
+    /**
+     * 미션 재설정을 반영합니다.
+     * 사용자가 미션을 다시 고를 때 새 추천을 받도록 캐시된 미션 추천 결과를 삭제합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param resetReason 재설정 이유
+     */
+    public void handleMissionReset(String userId, String resetReason) {
+        cachePort.evictMissionRecommendations(generateMissionRecommendationsCacheKey(userId));
+        log.info("미션 재설정 반영: userId={}, resetReason={}", userId, resetReason);
+    }
+    
+    /**
+     * 미션 추천 캐시 키를 생성합니다.
+     * 
+     * @param userId 사용자 ID
+     * @return 캐시 키
+     */
+    private String generateMissionRecommendationsCacheKey(String userId) {
+        return "mission_recommendations:" + userId;
+    }
 }
@@ -1,5 +1,8 @@
 package com.healthsync.intelligence.config;
 
+import com.healthsync.common.security.InternalIdentityFilter;
+import com.healthsync.common.util.IdentityHeaderUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -7,11 +10,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Intelligence Service의 보안 설정을 관리하는 클래스입니다.
@@ -25,19 +30,26 @@ public class IntelligenceSecurityConfig {
     
     /**
      * Security Filter Chain을 구성합니다.
+     * Gateway가 전달한 서명된 신원 헤더로 사용자를 인증합니다.
+     * JFR 레코딩(힙/스레드/시스템 정보)과 핫 키 목록(사용자 ID 포함)은 운영자만 호출할 수 있습니다.
      * 
      * @param http HttpSecurity
+     * @param identityHeaderUtil 내부 신원 헤더 유틸리티
+     * @param adminUserIds 운영자 사용자 ID 목록
      * @return SecurityFilterChain
      * @throws Exception 예외
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, IdentityHeaderUtil identityHeaderUtil,
+            @Value("${internal-auth.admin-user-ids:}") List<String> adminUserIds) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new InternalIdentityFilter(identityHeaderUtil, adminUserIds), UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/swagger-ui/**", "/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/jfr/**", "/actuator/hotkeys/**").hasRole(InternalIdentityFilter.ADMIN_ROLE)
                         .requestMatchers("/actuator/**").permitAll()
                         .anyRequest().authenticated()
                 );
@@ -0,0 +1,32 @@
+package com.healthsync.intelligence.config;
+
+import com.healthsync.common.cache.codec.RedisCodecRegistrar;
+import com.healthsync.intelligence.dto.ChatMessage;
+import com.healthsync.intelligence.dto.HealthDiagnosisResponse;
+import com.healthsync.intelligence.dto.MissionRecommendationResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Intelligence Service 캐시 값 타입의 Redis 바이너리 코덱 등록을 관리하는 클래스입니다.
+ * 타입 ID는 저장된 값에 기록되므로 변경하거나 다른 타입에 재사용하지 않습니다 (300~399 대역).
+ * 
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+public class RedisCodecConfig {
+    
+    /**
+     * 캐시 값 타입을 등록합니다.
+     * 
+     * @return RedisCodecRegistrar
+     */
+    @Bean
+    public RedisCodecRegistrar intelligenceRedisCodecRegistrar() {
+        return registry -> registry
+                .register(300, HealthDiagnosisResponse.class)
+                .register(301, MissionRecommendationResponse.class)
+                .register(302, ChatMessage.class);
+    }
+}
@@ -0,0 +1,34 @@
+package com.healthsync.intelligence.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Goal Service가 발행하는 미션 재설정 이벤트 DTO 클래스입니다.
+ * 
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissionResetEvent {
+    
+    /**
+     * 사용자 ID
+     */
+    private String userId;
+    
+    /**
+     * 재설정 이유
+     */
+    private String resetReason;
+    
+    /**
+     * 발생 시각
+     */
+    private String occurredAt;
+}
@@ -1,10 +1,11 @@
 package com.healthsync.intelligence.infrastructure.adapters;
 
+import com.healthsync.common.cache.TwoTierCache;
+import com.healthsync.common.cache.TwoTierCacheManager;
 import com.healthsync.intelligence.dto.HealthDiagnosisResponse;
 import com.healthsync.intelligence.dto.MissionRecommendationResponse;
 import com.healthsync.intelligence.dto.ChatMessage;
 import com.healthsync.intelligence.infrastructure.ports.CachePort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
@@ -13,9 +14,11 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
- * Redis 캐시와의 통신을 담당하는 어댑터 클래스입니다.
+ * 2단계 캐시(L1 로컬 + L2 Redis)와의 통신을 담당하는 어댑터 클래스입니다.
+ * 최근 채팅 목록은 Redis List로만 관리합니다.
  * Clean Architecture의 Infrastructure 계층에 해당합니다.
  * 
  * @author healthsync-team
@@ -23,49 +26,42 @@ import java.util.List;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CacheAdapter implements CachePort {
     
     private final RedisTemplate<String, Object> redisTemplate;
+    private final TwoTierCache healthDiagnosisCache;
+    private final TwoTierCache missionRecommendationsCache;
     
-    @Override
-    public HealthDiagnosisResponse getHealthDiagnosis(String cacheKey) {
-        try {
-            return (HealthDiagnosisResponse) redisTemplate.opsForValue().get(cacheKey);
-        } catch (Exception e) {
-            log.warn("건강 진단 캐시 조회 실패: key={}, error={}", cacheKey, e.getMessage());
-            return null;
-        }
+    /**
+     * CacheAdapter 생성자
+     * 
+     * @param redisTemplate Redis 템플릿 (채팅 목록용)
+     * @param cacheManager 2단계 캐시 관리자
+     */
+    public CacheAdapter(RedisTemplate<String, Object> redisTemplate, TwoTierCacheManager cacheManager) {
+        this.redisTemplate = redisTemplate;
+        this.healthDiagnosisCache = cacheManager.getCache("health_diagnosis");
+        this.missionRecommendationsCache = cacheManager.getCache("mission_recommendations");
     }
     
     @Override
-    public void cacheHealthDiagnosis(String cacheKey, HealthDiagnosisResponse response, int expireSeconds) {
-        try {
-            redisTemplate.opsForValue().set(cacheKey, response, Duration.ofSeconds(expireSeconds));
-            log.info("건강 진단 캐시 저장: key={}, expireSeconds={}", cacheKey, expireSeconds);
-        } catch (Exception e) {
-            log.warn("건강 진단 캐시 저장 실패: key={}, error={}", cacheKey, e.getMessage());
-        }
+    public HealthDiagnosisResponse getOrGenerateHealthDiagnosis(String cacheKey, int expireSeconds,
+                                                                Supplier<HealthDiagnosisResponse> generator) {
+        return healthDiagnosisCache.getOrLoad(cacheKey, HealthDiagnosisResponse.class,
+                Duration.ofSeconds(expireSeconds), generator);
     }
     
     @Override
-    public MissionRecommendationResponse getMissionRecommendations(String cacheKey) {
-        try {
-            return (MissionRecommendationResponse) redisTemplate.opsForValue().get(cacheKey);
-        } catch (Exception e) {
-            log.warn("미션 추천 캐시 조회 실패: key={}, error={}", cacheKey, e.getMessage());
-            return null;
-        }
+    public MissionRecommendationResponse getOrGenerateMissionRecommendations(String cacheKey, int expireSeconds,
+                                                                             Supplier<MissionRecommendationResponse> generator) {
+        return missionRecommendationsCache.getOrLoad(cacheKey, MissionRecommendationResponse.class,
+                Duration.ofSeconds(expireSeconds), generator);
     }
     
     @Override
-    public void cacheMissionRecommendations(String cacheKey, MissionRecommendationResponse response, int expireSeconds) {
-        try {
-            redisTemplate.opsForValue().set(cacheKey, response, Duration.ofSeconds(expireSeconds));
-            log.info("미션 추천 캐시 저장: key={}, expireSeconds={}", cacheKey, expireSeconds);
-        } catch (Exception e) {
-            log.warn("미션 추천 캐시 저장 실패: key={}, error={}", cacheKey, e.getMessage());
-        }
+    public void evictMissionRecommendations(String cacheKey) {
+        missionRecommendationsCache.evict(cacheKey);
+        log.info("미션 추천 캐시 삭제: key={}", cacheKey);
     }
     
     @Override
@@ -1,9 +1,9 @@
 package com.healthsync.intelligence.infrastructure.adapters;
 
 import com.healthsync.common.exception.ExternalApiException;
+import com.healthsync.common.http.WebClientFactory;
 import com.healthsync.intelligence.dto.HealthData;
 import com.healthsync.intelligence.infrastructure.ports.HealthServicePort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -18,14 +18,22 @@ import org.springframework.web.reactive.function.client.WebClient;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class HealthServiceAdapter implements HealthServicePort {
     
-    private final WebClient webClient = WebClient.builder().build();
+    private final WebClient webClient;
     
     @Value("${services.health-service.url}")
     private String healthServiceUrl;
     
+    /**
+     * HealthServiceAdapter 생성자
+     * 
+     * @param webClientFactory WebClient 팩토리 (대상: health-service)
+     */
+    public HealthServiceAdapter(WebClientFactory webClientFactory) {
+        this.webClient = webClientFactory.getClient("health-service");
+    }
+    
     @Override
     public HealthData getHealthData(String userId) {
         try {
@@ -5,6 +5,7 @@ import com.healthsync.intelligence.dto.MissionRecommendationResponse;
 import com.healthsync.intelligence.dto.ChatMessage;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 캐시와의 통신을 위한 포트 인터페이스입니다.
@@ -16,38 +17,34 @@ import java.util.List;
 public interface CachePort {
     
     /**
-     * 건강 진단 결과를 캐시에서 조회합니다.
+     * 건강 진단 결과를 캐시에서 조회하고, 없으면 한 번만 생성하여 저장합니다.
+     * 같은 키를 동시에 요청해도 AI 진단 생성은 여러 인스턴스를 통틀어 한 번만 실행됩니다.
      * 
      * @param cacheKey 캐시 키
-     * @return 건강 진단 결과 (캐시 미스 시 null)
-     */
-    HealthDiagnosisResponse getHealthDiagnosis(String cacheKey);
-    
-    /**
-     * 건강 진단 결과를 캐시에 저장합니다.
-     * 
-     * @param cacheKey 캐시 키
-     * @param response 건강 진단 결과
      * @param expireSeconds 만료 시간(초)
+     * @param generator 건강 진단 생성 함수
+     * @return 건강 진단 결과
      */
-    void cacheHealthDiagnosis(String cacheKey, HealthDiagnosisResponse response, int expireSeconds);
+    HealthDiagnosisResponse getOrGenerateHealthDiagnosis(String cacheKey, int expireSeconds,
+                                                         Supplier<HealthDiagnosisResponse> generator);
     
     /**
-     * 미션 추천 결과를 캐시에서 조회합니다.
+     * 미션 추천 결과를 캐시에서 조회하고, 없으면 한 번만 생성하여 저장합니다.
      * 
      * @param cacheKey 캐시 키
-     * @return 미션 추천 결과 (캐시 미스 시 null)
+     * @param expireSeconds 만료 시간(초)
+     * @param generator 미션 추천 생성 함수
+     * @return 미션 추천 결과
      */
-    MissionRecommendationResponse getMissionRecommendations(String cacheKey);
+    MissionRecommendationResponse getOrGenerateMissionRecommendations(String cacheKey, int expireSeconds,
+                                                                      Supplier<MissionRecommendationResponse> generator);
     
     /**
-     * 미션 추천 결과를 캐시에 저장합니다.
+     * 미션 추천 결과를 캐시에서 삭제합니다 (모든 인스턴스의 로컬 캐시 포함).
      * 
      * @param cacheKey 캐시 키
-     * @param response 미션 추천 결과
-     * @param expireSeconds 만료 시간(초)
      */
-    void cacheMissionRecommendations(String cacheKey, MissionRecommendationResponse response, int expireSeconds);
+    void evictMissionRecommendations(String cacheKey);
     
     /**
      * 최근 채팅을 캐시에 저장합니다.
@@ -0,0 +1,38 @@
+package com.healthsync.intelligence.interface_adapters.events;
+
+import com.healthsync.common.stream.StreamEvent;
+import com.healthsync.common.stream.StreamEventHandler;
+import com.healthsync.intelligence.application_services.HealthAnalysisUseCase;
+import com.healthsync.intelligence.dto.MissionResetEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Goal Service의 미션 재설정 이벤트를 받아 미션 추천 캐시에 반영하는 핸들러입니다.
+ * Clean Architecture의 Interface Adapter 계층에 해당합니다.
+ * 
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class MissionResetEventHandler implements StreamEventHandler<MissionResetEvent> {
+    
+    private final HealthAnalysisUseCase healthAnalysisUseCase;
+    
+    @Override
+    public String topic() {
+        return "mission-reset";
+    }
+    
+    @Override
+    public Class<MissionResetEvent> payloadType() {
+        return MissionResetEvent.class;
+    }
+    
+    @Override
+    public void handle(StreamEvent<MissionResetEvent> event) {
+        MissionResetEvent payload = event.getPayload();
+        healthAnalysisUseCase.handleMissionReset(payload.getUserId(), payload.getResetReason());
+    }
+}
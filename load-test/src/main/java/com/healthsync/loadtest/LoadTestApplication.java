@@ -0,0 +1,96 @@
+package com.healthsync.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.healthsync.common.config.HttpClientProperties;
+import com.healthsync.common.http.WebClientFactory;
+import com.healthsync.common.util.IdentityHeaderUtil;
+import com.healthsync.loadtest.cluster.InProcessCluster;
+import com.healthsync.loadtest.config.LoadTestProperties;
+import com.healthsync.loadtest.journey.ServiceClient;
+import com.healthsync.loadtest.journey.UserJourneys;
+import com.healthsync.loadtest.journey.UserPool;
+import com.healthsync.loadtest.report.LatencyRecorder;
+import com.healthsync.loadtest.report.LoadTestReport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 멀티 서비스 부하 테스트 하네스의 진입점입니다.
+ * user, health, intelligence, goal, motivator 서비스를 한 JVM에서 로컬 대체 인프라로 띄우고,
+ * 설정된 도착률로 사용자 여정을 실행한 뒤 단계별 응답 시간 백분위와 처리량을 보고합니다.
+ * 하네스 설정은 load-test.yml과 --loadtest.* 실행 인자로 지정합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties
+@Import({LoadTestProperties.class, HttpClientProperties.class, IdentityHeaderUtil.class})
+public class LoadTestApplication {
+
+    private static final String LOAD_DRIVER_CLIENT = "load-driver";
+    private static final DateTimeFormatter REPORT_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext harness = new SpringApplicationBuilder(LoadTestApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties("spring.config.name=load-test")
+                .run(args);
+             InProcessCluster cluster = new InProcessCluster(harness.getBean(LoadTestProperties.class))) {
+
+            LoadTestProperties properties = harness.getBean(LoadTestProperties.class);
+            cluster.start();
+
+            WebClient webClient = harness.getBean(WebClientFactory.class).getClient(LOAD_DRIVER_CLIENT);
+            ServiceClient client = new ServiceClient(webClient, harness.getBean(IdentityHeaderUtil.class), cluster);
+            LatencyRecorder recorder = new LatencyRecorder();
+            UserPool userPool = new UserPool();
+            UserJourneys journeys = new UserJourneys(client, recorder, userPool, properties.getCompletionRatio());
+
+            LoadTestReport report = new LoadTestRunner(properties, recorder, userPool, journeys).run();
+            log.info("부하 테스트 결과 (measured {}s):{}{}",
+                    String.format("%.1f", report.getMeasuredSeconds()), System.lineSeparator(), report.toTable());
+            log.info("결과 보고서: {}", write(report, Path.of(properties.getReportDir())));
+        }
+        // 서비스가 만든 비데몬 스레드가 남아 있어도 하네스가 끝나도록 명시적으로 종료합니다
+        System.exit(0);
+    }
+
+    /**
+     * 부하 발생기 WebClient를 만들 팩토리를 등록합니다. 연결 풀 설정은 healthsync.http-client를 따릅니다.
+     *
+     * @param properties HTTP 클라이언트 설정
+     * @return WebClient 팩토리
+     */
+    @Bean
+    public WebClientFactory loadTestWebClientFactory(HttpClientProperties properties) {
+        return new WebClientFactory(WebClient.builder(), properties);
+    }
+
+    private static Path write(LoadTestReport report, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("load-test-" + LocalDateTime.now().format(REPORT_FILE_TIME) + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), report);
+        return file.toAbsolutePath();
+    }
+}
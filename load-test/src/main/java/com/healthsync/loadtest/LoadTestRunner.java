@@ -0,0 +1,146 @@
+package com.healthsync.loadtest;
+
+import com.healthsync.loadtest.config.LoadTestProperties;
+import com.healthsync.loadtest.journey.ArrivalGenerator;
+import com.healthsync.loadtest.journey.UserJourneys;
+import com.healthsync.loadtest.journey.UserPool;
+import com.healthsync.loadtest.report.LatencyRecorder;
+import com.healthsync.loadtest.report.LoadTestReport;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 한 회차를 실행합니다.
+ * 사용자 사전 가입 → 워밍업 → 측정 → 진행 중 여정 정리 순서로 진행하며, 측정 구간의 결과만 보고서에 담습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final int SEED_CONCURRENCY = 16;
+    private static final Duration SEED_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestProperties properties;
+    private final LatencyRecorder recorder;
+    private final UserPool userPool;
+    private final UserJourneys journeys;
+
+    /**
+     * LoadTestRunner 생성자
+     *
+     * @param properties 부하 테스트 설정
+     * @param recorder 응답 시간 기록기
+     * @param userPool 가상 사용자 목록
+     * @param journeys 사용자 여정
+     */
+    public LoadTestRunner(LoadTestProperties properties, LatencyRecorder recorder, UserPool userPool,
+                          UserJourneys journeys) {
+        this.properties = properties;
+        this.recorder = recorder;
+        this.userPool = userPool;
+        this.journeys = journeys;
+    }
+
+    /**
+     * 부하 테스트를 실행하고 결과 보고서를 반환합니다.
+     *
+     * @return 결과 보고서
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public LoadTestReport run() throws InterruptedException {
+        seedUsers();
+
+        Semaphore inFlight = new Semaphore(properties.getMaxConcurrentJourneys());
+        List<ArrivalGenerator> generators = generators(inFlight);
+        generators.forEach(ArrivalGenerator::start);
+
+        log.info("워밍업: {}", properties.getWarmup());
+        Thread.sleep(properties.getWarmup().toMillis());
+
+        String startedAt = LocalDateTime.now().toString();
+        recorder.start();
+        log.info("측정 시작: duration={}, onboardingRate={}/s, dailyRate={}/s, batchInterval={}",
+                properties.getDuration(), properties.getOnboardingRate(), properties.getDailyRate(),
+                properties.getBatchInterval());
+        Thread.sleep(properties.getDuration().toMillis());
+        recorder.stop();
+
+        generators.forEach(ArrivalGenerator::stop);
+        int permits = properties.getMaxConcurrentJourneys();
+        if (!inFlight.tryAcquire(permits, DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("진행 중인 여정이 제한 시간 안에 끝나지 않았습니다: remaining={}",
+                    permits - inFlight.availablePermits());
+        }
+
+        return LoadTestReport.builder()
+                .startedAt(startedAt)
+                .measuredSeconds(recorder.elapsedSeconds())
+                .settings(settings())
+                .steps(recorder.report())
+                .build();
+    }
+
+    /**
+     * 일일 여정과 배치 대상이 처음부터 존재하도록 측정 전에 사용자를 가입시킵니다.
+     */
+    private void seedUsers() {
+        if (properties.getSeedUsers() <= 0) {
+            return;
+        }
+        log.info("사용자 사전 가입: count={}", properties.getSeedUsers());
+        Flux.range(0, properties.getSeedUsers())
+                .flatMap(i -> journeys.onboarding()
+                        .onErrorResume(e -> {
+                            log.warn("사전 가입 실패: error={}", e.toString());
+                            return Mono.empty();
+                        }), SEED_CONCURRENCY)
+                .blockLast(SEED_TIMEOUT);
+        log.info("사용자 사전 가입 완료: users={}", userPool.size());
+    }
+
+    private List<ArrivalGenerator> generators(Semaphore inFlight) {
+        List<ArrivalGenerator> generators = new ArrayList<>();
+        if (properties.getOnboardingRate() > 0) {
+            generators.add(ArrivalGenerator.poisson(UserJourneys.ONBOARDING, properties.getOnboardingRate(),
+                    journeys::onboarding, recorder, inFlight));
+        }
+        if (properties.getDailyRate() > 0) {
+            generators.add(ArrivalGenerator.poisson(UserJourneys.DAILY, properties.getDailyRate(),
+                    journeys::daily, recorder, inFlight));
+        }
+        if (!properties.getBatchInterval().isZero()) {
+            generators.add(ArrivalGenerator.fixedInterval(UserJourneys.MORNING_BATCH, properties.getBatchInterval(),
+                    journeys::morningBatch, recorder, inFlight));
+        }
+        return generators;
+    }
+
+    private Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("seedUsers", properties.getSeedUsers());
+        settings.put("warmup", properties.getWarmup().toString());
+        settings.put("duration", properties.getDuration().toString());
+        settings.put("onboardingRate", properties.getOnboardingRate());
+        settings.put("dailyRate", properties.getDailyRate());
+        settings.put("completionRatio", properties.getCompletionRatio());
+        settings.put("batchInterval", properties.getBatchInterval().toString());
+        settings.put("maxConcurrentJourneys", properties.getMaxConcurrentJourneys());
+        settings.put("claudeLatency", properties.getClaudeLatency().toString());
+        settings.put("usersAtEnd", userPool.size());
+        settings.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        return settings;
+    }
+}
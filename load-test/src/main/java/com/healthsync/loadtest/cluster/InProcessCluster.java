@@ -0,0 +1,203 @@
+package com.healthsync.loadtest.cluster;
+
+import com.healthsync.loadtest.config.LoadTestProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모든 서비스를 한 JVM 안에서 실행하는 부하 테스트용 클러스터입니다.
+ * 각 서비스는 자신의 application.yml을 그대로 읽고, 외부 인프라 설정만 로컬 대체 구현으로 덮어씁니다.
+ * PostgreSQL은 PostgreSQL 호환 모드의 인메모리 H2로, Redis는 임베디드 서버로 대체합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class InProcessCluster implements AutoCloseable {
+
+    private static final String CONFIG_FILE = "application.yml";
+    private static final String OVERLAY_LOCATION = "services/";
+
+    private final LoadTestProperties properties;
+    private final Map<ServiceNode, Integer> ports = new EnumMap<>(ServiceNode.class);
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private RedisServer redisServer;
+    private int redisPort;
+
+    /**
+     * InProcessCluster 생성자
+     *
+     * @param properties 부하 테스트 설정
+     */
+    public InProcessCluster(LoadTestProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Redis와 모든 서비스를 시작합니다.
+     * 서비스 간 호출 URL을 미리 정하기 위해 모든 포트를 먼저 할당합니다.
+     */
+    public void start() {
+        startRedis();
+        for (ServiceNode node : ServiceNode.values()) {
+            ports.put(node, freePort());
+        }
+
+        for (ServiceNode node : ServiceNode.values()) {
+            long startedAt = System.nanoTime();
+            List<Class<?>> sources = new ArrayList<>(List.of(node.getApplicationClass()));
+            if (node.getStandIns() != null) {
+                sources.add(node.getStandIns());
+            }
+
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(sources.toArray(Class<?>[]::new))
+                    .web(WebApplicationType.SERVLET)
+                    .logStartupInfo(false)
+                    .run(arguments(node));
+            contexts.add(context);
+            log.info("서비스 시작: service={}, url={}, elapsedMs={}",
+                    node.getServiceName(), baseUrl(node), (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    /**
+     * 서비스의 기본 URL을 반환합니다.
+     *
+     * @param node 서비스
+     * @return 기본 URL
+     */
+    public String baseUrl(ServiceNode node) {
+        return "http://localhost:" + ports.get(node);
+    }
+
+    @Override
+    public void close() {
+        for (int i = contexts.size() - 1; i >= 0; i--) {
+            try {
+                contexts.get(i).close();
+            } catch (Exception e) {
+                log.warn("서비스 종료 실패: error={}", e.getMessage());
+            }
+        }
+        contexts.clear();
+
+        if (redisServer != null) {
+            try {
+                redisServer.stop();
+            } catch (IOException e) {
+                log.warn("임베디드 Redis 종료 실패: error={}", e.getMessage());
+            }
+        }
+    }
+
+    private void startRedis() {
+        LoadTestProperties.Redis redis = properties.getRedis();
+        if (!redis.isEmbedded()) {
+            redisPort = redis.getPort();
+            log.info("외부 Redis 사용: host={}, port={}", redis.getHost(), redisPort);
+            return;
+        }
+
+        redisPort = redis.getPort() > 0 ? redis.getPort() : freePort();
+        try {
+            redisServer = new RedisServer(redisPort);
+            redisServer.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("임베디드 Redis를 시작하지 못했습니다.", e);
+        }
+        log.info("임베디드 Redis 시작: port={}", redisPort);
+    }
+
+    /**
+     * 서비스 설정을 덮어쓰는 실행 인자를 만듭니다.
+     * 실행 인자는 설정 파일보다 우선하므로 서비스의 나머지 설정(캐시, HTTP 클라이언트 등)은 그대로 유지됩니다.
+     *
+     * @param node 서비스
+     * @return 실행 인자
+     */
+    private String[] arguments(ServiceNode node) {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.config.location=" + configLocation(node));
+        args.add("--spring.main.banner-mode=off");
+        args.add("--server.port=" + ports.get(node));
+
+        args.add("--spring.datasource.url=jdbc:h2:mem:" + node.databaseName()
+                + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+        args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        args.add("--spring.datasource.username=sa");
+        args.add("--spring.datasource.password=");
+        args.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+        args.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        args.add("--spring.batch.job.enabled=false");
+
+        args.add("--spring.data.redis.client-type=lettuce");
+        args.add("--spring.data.redis.host=" + properties.getRedis().getHost());
+        args.add("--spring.data.redis.port=" + redisPort);
+
+        for (ServiceNode target : ServiceNode.values()) {
+            args.add("--services." + target.getServiceName() + ".url=" + baseUrl(target));
+            // 로깅 시스템은 JVM 전역이므로 모든 서비스 패키지의 레벨을 함께 지정합니다
+            args.add("--logging.level." + target.getBasePackage() + "=" + properties.getServiceLogLevel());
+        }
+        args.add("--logging.level.com.healthsync.common=" + properties.getServiceLogLevel());
+        args.add("--logging.level.org.springframework.web=WARN");
+        args.add("--logging.level.org.springframework.batch=WARN");
+        args.add("--loadtest.claude-latency=" + properties.getClaudeLatency().toMillis() + "ms");
+        return args.toArray(String[]::new);
+    }
+
+    /**
+     * 서비스 모듈의 application.yml 위치를 찾습니다.
+     * 모든 서비스가 같은 클래스패스에 있으므로 classpath:application.yml 대신 모듈 경로로 구분합니다.
+     * application.yml이 없는 서비스는 이 모듈의 services/{서비스 이름}.yml을 사용합니다.
+     *
+     * @param node 서비스
+     * @return spring.config.location 값
+     */
+    private String configLocation(ServiceNode node) {
+        List<String> locations = new ArrayList<>();
+        try {
+            Enumeration<URL> resources = node.getApplicationClass().getClassLoader().getResources(CONFIG_FILE);
+            while (resources.hasMoreElements()) {
+                String url = resources.nextElement().toString();
+                if (url.contains("/" + node.getServiceName() + "/")) {
+                    locations.add(url);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String overlay = OVERLAY_LOCATION + node.getServiceName() + ".yml";
+        if (new ClassPathResource(overlay).exists()) {
+            locations.add("classpath:/" + overlay);
+        }
+        if (locations.isEmpty()) {
+            throw new IllegalStateException("서비스 설정 파일을 찾을 수 없습니다: " + node.getServiceName());
+        }
+        return String.join(",", locations);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
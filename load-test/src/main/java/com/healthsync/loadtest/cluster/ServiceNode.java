@@ -0,0 +1,61 @@
+package com.healthsync.loadtest.cluster;
+
+import com.healthsync.goal.GoalServiceApplication;
+import com.healthsync.health.HealthServiceApplication;
+import com.healthsync.intelligence.IntelligenceServiceApplication;
+import com.healthsync.loadtest.standin.IntelligenceServiceStandIns;
+import com.healthsync.loadtest.standin.MotivatorServiceStandIns;
+import com.healthsync.loadtest.standin.UserServiceStandIns;
+import com.healthsync.motivator.MotivatorServiceApplication;
+import com.healthsync.user.UserServiceApplication;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 테스트 클러스터에서 한 JVM 안에 띄우는 서비스 목록입니다.
+ * 각 서비스는 독립된 ApplicationContext와 내장 톰캣, 인메모리 데이터베이스를 가집니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ServiceNode {
+
+    USER("user-service", "com.healthsync.user", UserServiceApplication.class, UserServiceStandIns.class),
+    HEALTH("health-service", "com.healthsync.health", HealthServiceApplication.class, null),
+    INTELLIGENCE("intelligence-service", "com.healthsync.intelligence",
+            IntelligenceServiceApplication.class, IntelligenceServiceStandIns.class),
+    GOAL("goal-service", "com.healthsync.goal", GoalServiceApplication.class, null),
+    MOTIVATOR("motivator-service", "com.healthsync.motivator",
+            MotivatorServiceApplication.class, MotivatorServiceStandIns.class);
+
+    /**
+     * 서비스 이름 (services.{name}.url 설정 키, 설정 파일 위치 판별에 사용)
+     */
+    private final String serviceName;
+
+    /**
+     * 서비스 기본 패키지 (로그 레벨 설정에 사용)
+     */
+    private final String basePackage;
+
+    /**
+     * 서비스 애플리케이션 클래스
+     */
+    private final Class<?> applicationClass;
+
+    /**
+     * 외부 의존성 대체 구현 설정 클래스 (없으면 null)
+     */
+    private final Class<?> standIns;
+
+    /**
+     * 서비스별 인메모리 데이터베이스 이름을 반환합니다 (운영의 서비스별 PostgreSQL 데이터베이스에 대응).
+     *
+     * @return 데이터베이스 이름
+     */
+    public String databaseName() {
+        return "healthsync_" + name().toLowerCase();
+    }
+}
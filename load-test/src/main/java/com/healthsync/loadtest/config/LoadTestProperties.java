@@ -0,0 +1,102 @@
+package com.healthsync.loadtest.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 하네스 설정 정보를 관리하는 클래스입니다.
+ * 도착률은 초당 여정 시작 수이며, 도착 간격은 포아송 과정(지수 분포)을 따릅니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    /**
+     * 측정 전에 온보딩 여정으로 미리 가입시킬 사용자 수
+     */
+    private int seedUsers = 50;
+
+    /**
+     * 측정에서 제외하는 워밍업 시간 (JIT, 연결 풀, 캐시 예열)
+     */
+    private Duration warmup = Duration.ofSeconds(15);
+
+    /**
+     * 측정 시간
+     */
+    private Duration duration = Duration.ofSeconds(60);
+
+    /**
+     * 신규 사용자 온보딩 여정 도착률 (로그인 → 가입 → 건강검진 연동 → 진단 → 미션 추천 → 미션 선택)
+     */
+    private double onboardingRate = 2.0;
+
+    /**
+     * 기존 사용자 일일 여정 도착률 (로그인 → 활성 미션 조회 → 미션 완료 → 이력 조회)
+     */
+    private double dailyRate = 20.0;
+
+    /**
+     * 일일 여정에서 각 미션을 완료 처리할 확률
+     */
+    private double completionRatio = 0.7;
+
+    /**
+     * 오전 9시 알림 배치 실행 주기 (하루를 압축하여 반복)
+     */
+    private Duration batchInterval = Duration.ofSeconds(30);
+
+    /**
+     * 동시에 진행할 수 있는 최대 여정 수 (초과한 도착은 버리고 dropped로 집계)
+     */
+    private int maxConcurrentJourneys = 500;
+
+    /**
+     * Claude API 대체 구현의 응답 지연
+     */
+    private Duration claudeLatency = Duration.ofMillis(300);
+
+    /**
+     * 서비스 로그 레벨 (요청마다 INFO 로그가 남으므로 기본은 WARN)
+     */
+    private String serviceLogLevel = "WARN";
+
+    /**
+     * 결과 보고서 디렉터리
+     */
+    private String reportDir = "build/reports/load-test";
+
+    /**
+     * Redis 설정
+     */
+    private Redis redis = new Redis();
+
+    /**
+     * Redis 설정입니다.
+     */
+    @Data
+    public static class Redis {
+
+        /**
+         * 임베디드 Redis 서버 사용 여부 (false면 host/port의 기존 서버 사용)
+         */
+        private boolean embedded = true;
+
+        /**
+         * Redis 호스트
+         */
+        private String host = "localhost";
+
+        /**
+         * Redis 포트 (임베디드 서버에서 0이면 빈 포트를 사용)
+         */
+        private int port = 0;
+    }
+}
@@ -0,0 +1,132 @@
+package com.healthsync.loadtest.journey;
+
+import com.healthsync.loadtest.report.LatencyRecorder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 개방형(open) 부하 모델로 여정을 시작하는 도착 생성기입니다.
+ * 응답을 기다리지 않고 정해진 도착 시각마다 여정을 시작하므로, 서비스가 느려져도 부하가 줄지 않습니다.
+ * 여정 응답 시간은 예정된 도착 시각부터 측정하여 생성기 지연이 결과에서 빠지지 않게 합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Slf4j
+public class ArrivalGenerator {
+
+    private final String name;
+    private final LongSupplier nextGapNanos;
+    private final Supplier<Mono<Void>> journey;
+    private final LatencyRecorder recorder;
+    private final Semaphore inFlight;
+    private volatile boolean running;
+    private Thread thread;
+
+    private ArrivalGenerator(String name, LongSupplier nextGapNanos, Supplier<Mono<Void>> journey,
+                             LatencyRecorder recorder, Semaphore inFlight) {
+        this.name = name;
+        this.nextGapNanos = nextGapNanos;
+        this.journey = journey;
+        this.recorder = recorder;
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * 포아송 과정으로 도착하는 생성기를 만듭니다 (도착 간격은 지수 분포).
+     *
+     * @param name 여정 이름
+     * @param ratePerSecond 초당 평균 도착 수
+     * @param journey 여정
+     * @param recorder 응답 시간 기록기
+     * @param inFlight 동시 여정 수 제한
+     * @return 도착 생성기
+     */
+    public static ArrivalGenerator poisson(String name, double ratePerSecond, Supplier<Mono<Void>> journey,
+                                           LatencyRecorder recorder, Semaphore inFlight) {
+        double meanGapNanos = 1_000_000_000.0 / ratePerSecond;
+        return new ArrivalGenerator(name,
+                () -> (long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos),
+                journey, recorder, inFlight);
+    }
+
+    /**
+     * 일정한 간격으로 도착하는 생성기를 만듭니다.
+     *
+     * @param name 여정 이름
+     * @param interval 도착 간격
+     * @param journey 여정
+     * @param recorder 응답 시간 기록기
+     * @param inFlight 동시 여정 수 제한
+     * @return 도착 생성기
+     */
+    public static ArrivalGenerator fixedInterval(String name, Duration interval, Supplier<Mono<Void>> journey,
+                                                 LatencyRecorder recorder, Semaphore inFlight) {
+        long gapNanos = interval.toNanos();
+        return new ArrivalGenerator(name, () -> gapNanos, journey, recorder, inFlight);
+    }
+
+    /**
+     * 도착 생성을 시작합니다.
+     */
+    public void start() {
+        running = true;
+        thread = new Thread(this::generate, "arrival-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 도착 생성을 멈춥니다. 이미 시작된 여정은 계속 진행됩니다.
+     */
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void generate() {
+        long nextArrival = System.nanoTime();
+        while (running) {
+            nextArrival += nextGapNanos.getAsLong();
+            long waitNanos;
+            while (running && (waitNanos = nextArrival - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            if (running) {
+                launch(nextArrival);
+            }
+        }
+    }
+
+    private void launch(long scheduledAtNanos) {
+        if (!inFlight.tryAcquire()) {
+            recorder.dropped(name);
+            return;
+        }
+
+        try {
+            journey.get()
+                    .doFinally(signal -> inFlight.release())
+                    .subscribe(
+                            null,
+                            e -> {
+                                recorder.record(name, scheduledAtNanos, false);
+                                log.debug("여정 실패: journey={}, error={}", name, e.toString());
+                            },
+                            () -> recorder.record(name, scheduledAtNanos, true));
+        } catch (RuntimeException e) {
+            inFlight.release();
+            recorder.record(name, scheduledAtNanos, false);
+            log.debug("여정 시작 실패: journey={}, error={}", name, e.toString());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.healthsync.loadtest.journey;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.healthsync.common.util.IdentityHeaderUtil;
+import com.healthsync.loadtest.cluster.InProcessCluster;
+import com.healthsync.loadtest.cluster.ServiceNode;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 대상 서비스 API를 호출하는 클라이언트입니다.
+ * 운영에서 api-gateway가 하는 것처럼 서명된 신원 헤더를 붙여 각 서비스를 직접 호출합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class ServiceClient {
+
+    private static final long IDENTITY_TTL_SECONDS = 3600;
+
+    private final WebClient webClient;
+    private final IdentityHeaderUtil identityHeaderUtil;
+    private final InProcessCluster cluster;
+
+    /**
+     * ServiceClient 생성자
+     *
+     * @param webClient 부하 발생용 WebClient
+     * @param identityHeaderUtil 신원 헤더 유틸리티
+     * @param cluster 대상 클러스터
+     */
+    public ServiceClient(WebClient webClient, IdentityHeaderUtil identityHeaderUtil, InProcessCluster cluster) {
+        this.webClient = webClient;
+        this.identityHeaderUtil = identityHeaderUtil;
+        this.cluster = cluster;
+    }
+
+    /**
+     * Google OAuth 인증 코드로 로그인합니다.
+     *
+     * @param authCode 인증 코드
+     * @return 로그인 응답 데이터
+     */
+    public Mono<JsonNode> login(String authCode) {
+        return webClient.post()
+                .uri(cluster.baseUrl(ServiceNode.USER) + "/api/auth/login")
+                .bodyValue(Map.of("code", authCode))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> body.path("data"));
+    }
+
+    /**
+     * 신규 사용자의 기본 정보를 등록합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 회원가입 응답 데이터
+     */
+    public Mono<JsonNode> register(String userId) {
+        return post(ServiceNode.USER, "/api/users/register", userId, Map.of(
+                "userId", userId,
+                "name", "부하테스트 사용자",
+                "birthDate", "1990-01-01",
+                "occupation", "it"));
+    }
+
+    /**
+     * 건강검진 데이터를 연동합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 연동 응답 데이터
+     */
+    public Mono<JsonNode> syncCheckup(String userId) {
+        return post(ServiceNode.HEALTH, "/api/health/checkup/sync", userId, Map.of("userId", userId));
+    }
+
+    /**
+     * AI 건강 진단을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 진단 응답 데이터
+     */
+    public Mono<JsonNode> healthDiagnosis(String userId) {
+        return get(ServiceNode.INTELLIGENCE, "/api/intelligence/health/diagnosis?userId={userId}", userId);
+    }
+
+    /**
+     * AI 미션 추천을 요청합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 미션 추천 응답 데이터
+     */
+    public Mono<JsonNode> recommendMissions(String userId) {
+        return webClient.post()
+                .uri(cluster.baseUrl(ServiceNode.INTELLIGENCE) + "/api/intelligence/missions/recommend?userId={userId}",
+                        userId)
+                .header(IdentityHeaderUtil.IDENTITY_HEADER, identity(userId))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> body.path("data"));
+    }
+
+    /**
+     * 추천받은 미션 중 일부를 선택합니다.
+     *
+     * @param userId 사용자 ID
+     * @param missionIds 선택한 미션 ID 목록
+     * @return 미션 설정 응답 데이터
+     */
+    public Mono<JsonNode> selectMissions(String userId, List<String> missionIds) {
+        return post(ServiceNode.GOAL, "/api/goals/missions/select", userId, Map.of(
+                "userId", userId,
+                "selectedMissionIds", missionIds));
+    }
+
+    /**
+     * 활성 미션을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 활성 미션 응답 데이터
+     */
+    public Mono<JsonNode> activeMissions(String userId) {
+        return get(ServiceNode.GOAL, "/api/goals/missions/active?userId={userId}", userId);
+    }
+
+    /**
+     * 미션을 완료 처리합니다.
+     *
+     * @param userId 사용자 ID
+     * @param missionId 미션 ID
+     * @return 미션 완료 응답 데이터
+     */
+    public Mono<JsonNode> completeMission(String userId, String missionId) {
+        return webClient.put()
+                .uri(cluster.baseUrl(ServiceNode.GOAL) + "/api/goals/missions/{missionId}/complete", missionId)
+                .header(IdentityHeaderUtil.IDENTITY_HEADER, identity(userId))
+                .bodyValue(Map.of(
+                        "userId", userId,
+                        "completed", true,
+                        "completedAt", LocalDateTime.now().toString(),
+                        "notes", "load-test"))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> body.path("data"));
+    }
+
+    /**
+     * 미션 달성 이력을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 미션 이력 응답 데이터
+     */
+    public Mono<JsonNode> missionHistory(String userId) {
+        return get(ServiceNode.GOAL, "/api/goals/missions/history?userId={userId}", userId);
+    }
+
+    /**
+     * 오전 9시 독려 알림 배치를 실행합니다.
+     *
+     * @param schedulerId 배치를 실행하는 주체의 ID
+     * @param targetUsers 대상 사용자 ID 목록
+     * @return 배치 응답 데이터
+     */
+    public Mono<JsonNode> morningBatch(String schedulerId, List<String> targetUsers) {
+        return post(ServiceNode.MOTIVATOR, "/api/motivator/batch/notifications", schedulerId, Map.of(
+                "triggerTime", LocalDateTime.of(LocalDate.now(), LocalTime.of(9, 0)).toString(),
+                "targetUsers", targetUsers,
+                "notificationType", "daily_encouragement"));
+    }
+
+    private Mono<JsonNode> get(ServiceNode node, String uriTemplate, String userId) {
+        return webClient.get()
+                .uri(cluster.baseUrl(node) + uriTemplate, userId)
+                .header(IdentityHeaderUtil.IDENTITY_HEADER, identity(userId))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> body.path("data"));
+    }
+
+    private Mono<JsonNode> post(ServiceNode node, String path, String userId, Object body) {
+        return webClient.post()
+                .uri(cluster.baseUrl(node) + path)
+                .header(IdentityHeaderUtil.IDENTITY_HEADER, identity(userId))
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(response -> response.path("data"));
+    }
+
+    private String identity(String userId) {
+        return identityHeaderUtil.createHeaderValue(userId, Instant.now().getEpochSecond() + IDENTITY_TTL_SECONDS);
+    }
+}
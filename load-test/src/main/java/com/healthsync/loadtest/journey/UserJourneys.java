@@ -0,0 +1,134 @@
+package com.healthsync.loadtest.journey;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.healthsync.loadtest.report.LatencyRecorder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실제 사용 흐름을 따라 여러 서비스를 차례로 호출하는 사용자 여정입니다.
+ * 각 API 호출은 단계 이름으로 응답 시간이 기록됩니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class UserJourneys {
+
+    public static final String ONBOARDING = "journey.onboarding";
+    public static final String DAILY = "journey.daily";
+    public static final String MORNING_BATCH = "journey.morning-batch";
+
+    private static final int SELECTED_MISSIONS = 3;
+    private static final String SCHEDULER_ID = "load-test-scheduler";
+
+    private final ServiceClient client;
+    private final LatencyRecorder recorder;
+    private final UserPool userPool;
+    private final double completionRatio;
+
+    /**
+     * UserJourneys 생성자
+     *
+     * @param client 서비스 API 클라이언트
+     * @param recorder 응답 시간 기록기
+     * @param userPool 가상 사용자 목록
+     * @param completionRatio 일일 여정에서 각 미션을 완료할 확률
+     */
+    public UserJourneys(ServiceClient client, LatencyRecorder recorder, UserPool userPool, double completionRatio) {
+        this.client = client;
+        this.recorder = recorder;
+        this.userPool = userPool;
+        this.completionRatio = completionRatio;
+    }
+
+    /**
+     * 신규 사용자 온보딩 여정입니다.
+     * 로그인 → 회원가입 → 건강검진 연동 → AI 진단 → 미션 추천 → 미션 선택 후 사용자 목록에 추가합니다.
+     *
+     * @return 여정 완료 Mono
+     */
+    public Mono<Void> onboarding() {
+        String authCode = userPool.nextAuthCode();
+        return recorder.time("user.login", client.login(authCode))
+                .flatMap(login -> {
+                    String userId = login.path("userId").asText();
+                    Mono<JsonNode> register = login.path("newUser").asBoolean()
+                            ? recorder.time("user.register", client.register(userId))
+                            : Mono.just(login);
+
+                    return register
+                            .then(recorder.time("health.sync", client.syncCheckup(userId)))
+                            .then(recorder.time("intelligence.diagnosis", client.healthDiagnosis(userId)))
+                            .then(recorder.time("intelligence.recommend", client.recommendMissions(userId)))
+                            .flatMap(recommendation -> {
+                                List<String> missionIds = chooseMissions(recommendation);
+                                return recorder.time("goal.select", client.selectMissions(userId, missionIds))
+                                        .doOnSuccess(result ->
+                                                userPool.add(new VirtualUser(authCode, userId, missionIds)));
+                            });
+                })
+                .then();
+    }
+
+    /**
+     * 기존 사용자의 하루 여정입니다.
+     * 로그인 → 활성 미션 조회 → 미션 완료(설정된 확률로 미션마다) → 달성 이력 조회 순서로 진행합니다.
+     *
+     * @return 여정 완료 Mono (사용자가 없으면 바로 완료)
+     */
+    public Mono<Void> daily() {
+        return Mono.justOrEmpty(userPool.pick())
+                .flatMap(user -> recorder.time("user.login", client.login(user.getAuthCode()))
+                        .then(recorder.time("goal.active", client.activeMissions(user.getUserId())))
+                        .flatMapMany(active -> Flux.fromIterable(missionsToComplete(active, user)))
+                        .concatMap(missionId -> recorder.time("goal.complete",
+                                client.completeMission(user.getUserId(), missionId)))
+                        .then(recorder.time("goal.history", client.missionHistory(user.getUserId()))))
+                .then();
+    }
+
+    /**
+     * 오전 9시 독려 알림 배치입니다. 지금까지 온보딩한 모든 사용자를 대상으로 합니다.
+     *
+     * @return 배치 완료 Mono
+     */
+    public Mono<Void> morningBatch() {
+        return recorder.time("motivator.batch", client.morningBatch(SCHEDULER_ID, userPool.userIds()))
+                .then();
+    }
+
+    private List<String> chooseMissions(JsonNode recommendation) {
+        List<String> missionIds = new ArrayList<>();
+        for (JsonNode mission : recommendation.path("missions")) {
+            if (missionIds.size() == SELECTED_MISSIONS) {
+                break;
+            }
+            missionIds.add(mission.path("missionId").asText());
+        }
+        if (missionIds.isEmpty()) {
+            throw new IllegalStateException("추천된 미션이 없습니다.");
+        }
+        return missionIds;
+    }
+
+    private List<String> missionsToComplete(JsonNode activeMissions, VirtualUser user) {
+        List<String> candidates = new ArrayList<>();
+        for (JsonNode mission : activeMissions.path("dailyMissions")) {
+            if (!mission.path("completedToday").asBoolean()) {
+                candidates.add(mission.path("missionId").asText());
+            }
+        }
+        if (candidates.isEmpty() && !activeMissions.has("dailyMissions")) {
+            candidates.addAll(user.getMissionIds());
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return candidates.stream()
+                .filter(missionId -> random.nextDouble() < completionRatio)
+                .toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.healthsync.loadtest.journey;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 온보딩을 마친 가상 사용자 목록입니다.
+ * 추가는 온보딩 도착률만큼만 일어나고 조회가 대부분이므로 쓰기 시 복사 목록을 사용합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class UserPool {
+
+    private final String runId = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<VirtualUser> users = new CopyOnWriteArrayList<>();
+
+    /**
+     * 새 가상 사용자의 인증 코드를 발급합니다.
+     * 외부 Redis를 재사용해도 이전 실행의 캐시와 겹치지 않도록 실행 ID를 포함합니다.
+     *
+     * @return 인증 코드
+     */
+    public String nextAuthCode() {
+        return "lt-" + runId + "-" + sequence.incrementAndGet();
+    }
+
+    /**
+     * 온보딩을 마친 사용자를 추가합니다.
+     *
+     * @param user 가상 사용자
+     */
+    public void add(VirtualUser user) {
+        users.add(user);
+    }
+
+    /**
+     * 임의의 사용자를 고릅니다.
+     *
+     * @return 가상 사용자 (아직 없으면 빈 Optional)
+     */
+    public Optional<VirtualUser> pick() {
+        // 사용자는 추가만 되므로 크기를 읽은 뒤 조회해도 범위를 벗어나지 않습니다
+        int size = users.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(users.get(ThreadLocalRandom.current().nextInt(size)));
+    }
+
+    /**
+     * 모든 사용자 ID를 반환합니다.
+     *
+     * @return 사용자 ID 목록
+     */
+    public List<String> userIds() {
+        return users.stream().map(VirtualUser::getUserId).toList();
+    }
+
+    /**
+     * 사용자 수를 반환합니다.
+     *
+     * @return 사용자 수
+     */
+    public int size() {
+        return users.size();
+    }
+}
@@ -0,0 +1,32 @@
+package com.healthsync.loadtest.journey;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 온보딩을 마친 가상 사용자입니다. 일일 여정에서 같은 인증 코드로 다시 로그인합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class VirtualUser {
+
+    /**
+     * Google OAuth 인증 코드 (대체 OAuth 클라이언트가 사용자 식별자로 사용)
+     */
+    private final String authCode;
+
+    /**
+     * 사용자 ID
+     */
+    private final String userId;
+
+    /**
+     * 선택한 미션 ID 목록
+     */
+    private final List<String> missionIds;
+}
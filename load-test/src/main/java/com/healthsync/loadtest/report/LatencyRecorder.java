@@ -0,0 +1,154 @@
+package com.healthsync.loadtest.report;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 응답 시간과 성공/실패 수를 HdrHistogram으로 집계하는 기록기입니다.
+ * 측정 구간({@link #start()} ~ {@link #stop()}) 밖의 결과는 버리므로 워밍업 구간이 통계에 섞이지 않습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+public class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, StepMetrics> steps = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private volatile long startedAtNanos;
+    private volatile long stoppedAtNanos;
+
+    /**
+     * 측정을 시작합니다. 이전에 기록된 값은 모두 버립니다.
+     */
+    public void start() {
+        steps.clear();
+        startedAtNanos = System.nanoTime();
+        recording = true;
+    }
+
+    /**
+     * 측정을 종료합니다.
+     */
+    public void stop() {
+        recording = false;
+        stoppedAtNanos = System.nanoTime();
+    }
+
+    /**
+     * 호출의 응답 시간을 단계 이름으로 기록합니다. 구독 시점부터 완료 또는 오류까지를 측정합니다.
+     *
+     * @param step 단계 이름
+     * @param call 호출
+     * @param <T> 응답 타입
+     * @return 측정이 적용된 호출
+     */
+    public <T> Mono<T> time(String step, Mono<T> call) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return call
+                    .doOnSuccess(result -> record(step, startNanos, true))
+                    .doOnError(e -> record(step, startNanos, false));
+        });
+    }
+
+    /**
+     * 지정한 시작 시각부터 지금까지의 시간을 기록합니다.
+     * 여정은 예정된 도착 시각을 시작으로 넘겨 지연된 시작까지 응답 시간에 포함합니다.
+     *
+     * @param step 단계 이름
+     * @param startNanos 시작 시각 ({@link System#nanoTime()})
+     * @param success 성공 여부
+     */
+    public void record(String step, long startNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        StepMetrics metrics = metrics(step);
+        if (success) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+            metrics.histogram.recordValue(Math.max(micros, 1));
+        } else {
+            metrics.errors.increment();
+        }
+    }
+
+    /**
+     * 동시 여정 수 제한으로 시작하지 못한 도착을 기록합니다.
+     *
+     * @param step 여정 이름
+     */
+    public void dropped(String step) {
+        if (recording) {
+            metrics(step).dropped.increment();
+        }
+    }
+
+    /**
+     * 단계별 통계를 만듭니다.
+     *
+     * @return 단계 이름순 통계 목록
+     */
+    public List<StepReport> report() {
+        double elapsedSeconds = elapsedSeconds();
+        return steps.entrySet().stream()
+                .map(entry -> toReport(entry.getKey(), entry.getValue(), elapsedSeconds))
+                .sorted(Comparator.comparing(StepReport::getName))
+                .toList();
+    }
+
+    /**
+     * 측정 구간 길이를 반환합니다.
+     *
+     * @return 측정 시간(초)
+     */
+    public double elapsedSeconds() {
+        long end = recording ? System.nanoTime() : stoppedAtNanos;
+        return (end - startedAtNanos) / 1_000_000_000.0;
+    }
+
+    private StepMetrics metrics(String step) {
+        return steps.computeIfAbsent(step, name -> new StepMetrics());
+    }
+
+    private static StepReport toReport(String name, StepMetrics metrics, double elapsedSeconds) {
+        Histogram histogram = metrics.histogram.copy();
+        long count = histogram.getTotalCount();
+        return StepReport.builder()
+                .name(name)
+                .count(count)
+                .errors(metrics.errors.sum())
+                .dropped(metrics.dropped.sum())
+                .throughputPerSecond(elapsedSeconds > 0 ? count / elapsedSeconds : 0)
+                .meanMs(count > 0 ? histogram.getMean() / 1000.0 : 0)
+                .p50Ms(percentileMs(histogram, 50.0))
+                .p90Ms(percentileMs(histogram, 90.0))
+                .p99Ms(percentileMs(histogram, 99.0))
+                .p999Ms(percentileMs(histogram, 99.9))
+                .maxMs(histogram.getTotalCount() > 0 ? histogram.getMaxValue() / 1000.0 : 0)
+                .build();
+    }
+
+    private static double percentileMs(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() > 0 ? histogram.getValueAtPercentile(percentile) / 1000.0 : 0;
+    }
+
+    /**
+     * 단계 하나의 집계 값입니다.
+     */
+    private static class StepMetrics {
+
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
@@ -0,0 +1,71 @@
+package com.healthsync.loadtest.report;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 한 회차의 결과 보고서입니다.
+ * 같은 설정으로 다시 실행한 결과와 비교할 수 있도록 실행 설정을 함께 기록합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@Builder
+public class LoadTestReport {
+
+    private static final String ROW_FORMAT = "%-26s %8s %7s %7s %9s %9s %9s %9s %9s %9s%n";
+
+    /**
+     * 측정 시작 시각
+     */
+    private final String startedAt;
+
+    /**
+     * 측정 시간(초)
+     */
+    private final double measuredSeconds;
+
+    /**
+     * 실행 설정 (도착률, 측정 시간, Claude 지연 등)
+     */
+    private final Map<String, Object> settings;
+
+    /**
+     * 단계별 결과
+     */
+    private final List<StepReport> steps;
+
+    /**
+     * 콘솔 출력용 표를 만듭니다.
+     *
+     * @return 결과 표
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, ROW_FORMAT,
+                "step", "count", "errors", "dropped", "rps", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        for (StepReport step : steps) {
+            table.append(String.format(Locale.ROOT, ROW_FORMAT,
+                    step.getName(),
+                    step.getCount(),
+                    step.getErrors(),
+                    step.getDropped(),
+                    format(step.getThroughputPerSecond()),
+                    format(step.getP50Ms()),
+                    format(step.getP90Ms()),
+                    format(step.getP99Ms()),
+                    format(step.getP999Ms()),
+                    format(step.getMaxMs())));
+        }
+        return table.toString();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+}
@@ -0,0 +1,48 @@
+package com.healthsync.loadtest.report;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 부하 테스트 단계(API 호출 또는 여정) 하나의 측정 결과입니다.
+ * 응답 시간 통계는 성공한 호출만으로 계산합니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Getter
+@Builder
+public class StepReport {
+
+    /**
+     * 단계 이름
+     */
+    private final String name;
+
+    /**
+     * 성공 수
+     */
+    private final long count;
+
+    /**
+     * 실패 수
+     */
+    private final long errors;
+
+    /**
+     * 동시 여정 수 제한으로 시작하지 못한 수
+     */
+    private final long dropped;
+
+    /**
+     * 초당 성공 처리량
+     */
+    private final double throughputPerSecond;
+
+    private final double meanMs;
+    private final double p50Ms;
+    private final double p90Ms;
+    private final double p99Ms;
+    private final double p999Ms;
+    private final double maxMs;
+}
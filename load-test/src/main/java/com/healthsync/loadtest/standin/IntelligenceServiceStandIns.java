@@ -0,0 +1,68 @@
+package com.healthsync.loadtest.standin;
+
+import com.healthsync.common.http.WebClientFactory;
+import com.healthsync.intelligence.infrastructure.adapters.ClaudeApiAdapter;
+import com.healthsync.intelligence.infrastructure.ports.ClaudeApiPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트에서 intelligence-service에 주입하는 대체 구현입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class IntelligenceServiceStandIns {
+
+    /**
+     * 실제 Claude API 응답 시간을 흉내 내도록 지연을 더한 Claude API 어댑터를 등록합니다.
+     *
+     * @param webClientFactory WebClient 팩토리
+     * @param latency 응답 지연
+     * @return Claude API 포트
+     */
+    @Bean
+    @Primary
+    public ClaudeApiPort loadTestClaudeApiAdapter(WebClientFactory webClientFactory,
+                                                  @Value("${loadtest.claude-latency:0ms}") Duration latency) {
+        return new DelayedClaudeApiAdapter(webClientFactory, latency);
+    }
+
+    /**
+     * Mock 응답을 돌려주기 전에 설정된 시간만큼 대기하는 Claude API 어댑터입니다.
+     */
+    static class DelayedClaudeApiAdapter extends ClaudeApiAdapter {
+
+        private final Duration latency;
+
+        DelayedClaudeApiAdapter(WebClientFactory webClientFactory, Duration latency) {
+            super(webClientFactory);
+            this.latency = latency;
+        }
+
+        @Override
+        public String requestAnalysis(String prompt) {
+            delay();
+            return super.requestAnalysis(prompt);
+        }
+
+        @Override
+        public String requestChatResponse(String prompt) {
+            delay();
+            return super.requestChatResponse(prompt);
+        }
+
+        private void delay() {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.healthsync.loadtest.standin;
+
+import com.healthsync.common.http.WebClientFactory;
+import com.healthsync.user.acl.GoogleOAuthClient;
+import com.healthsync.user.dto.GoogleUserInfo;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 부하 테스트에서 user-service에 주입하는 대체 구현입니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class UserServiceStandIns {
+
+    /**
+     * 인증 코드마다 고정된 Google 사용자를 돌려주는 OAuth 클라이언트를 등록합니다.
+     * 기본 Mock은 호출 시각으로 ID를 만들어 동시 로그인 시 google_id가 충돌합니다.
+     *
+     * @param webClientFactory WebClient 팩토리
+     * @return Google OAuth 클라이언트
+     */
+    @Bean
+    @Primary
+    public GoogleOAuthClient loadTestGoogleOAuthClient(WebClientFactory webClientFactory) {
+        return new DeterministicGoogleOAuthClient(webClientFactory);
+    }
+
+    /**
+     * 인증 코드를 그대로 사용자 식별자로 사용하는 Google OAuth 클라이언트입니다.
+     */
+    static class DeterministicGoogleOAuthClient extends GoogleOAuthClient {
+
+        DeterministicGoogleOAuthClient(WebClientFactory webClientFactory) {
+            super(webClientFactory);
+        }
+
+        @Override
+        public GoogleUserInfo getGoogleUserInfo(String authCode) {
+            return new GoogleUserInfo(
+                    "google_" + authCode,
+                    authCode + "@loadtest.healthsync.local",
+                    "부하테스트 사용자",
+                    null
+            );
+        }
+    }
+}
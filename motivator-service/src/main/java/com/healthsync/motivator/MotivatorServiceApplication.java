@@ -3,7 +3,6 @@ package com.healthsync.motivator;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
-import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -15,7 +14,6 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * @version 1.0
  */
 @SpringBootApplication(scanBasePackages = {"com.healthsync.motivator", "com.healthsync.common"})
-@EnableJpaAuditing
 @ConfigurationPropertiesScan
 @EnableBatchProcessing
 @EnableScheduling
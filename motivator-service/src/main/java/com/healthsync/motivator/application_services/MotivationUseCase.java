@@ -135,6 +135,18 @@ public class MotivationUseCase {
                 .build();
     }
     
+    /**
+     * 미션 완료를 반영합니다.
+     * 완료 전 진행 상황으로 만든 독려 메시지가 다시 쓰이지 않도록 사용자의 독려 메시지 캐시를 비웁니다.
+     * 
+     * @param userId 사용자 ID
+     * @param missionId 완료된 미션 ID
+     */
+    public void handleMissionCompleted(String userId, String missionId) {
+        cachePort.evictEncouragementMessages(userId);
+        log.info("미션 완료 반영: userId={}, missionId={}", userId, missionId);
+    }
+    
     /**
      * 독려 요청을 검증합니다.
      * 
@@ -152,6 +164,7 @@ public class MotivationUseCase {
     
     /**
      * 캐시 키를 생성합니다.
+     * 사용자별 캐시 세대를 포함하므로 미션 완료로 세대가 바뀌면 이전 메시지는 조회되지 않습니다.
      * 
      * @param userId 사용자 ID
      * @param missionsStatus 미션 상태 목록
@@ -161,8 +174,9 @@ public class MotivationUseCase {
         // 미션 완료 상태를 바탕으로 캐시 키 생성
         long completedCount = missionsStatus.stream().mapToLong(ms -> ms.isCompleted() ? 1 : 0).sum();
         double completionRate = (double) completedCount / missionsStatus.size();
+        String version = cachePort.getEncouragementCacheVersion(userId);
         
-        return String.format("encouragement:%s:%.1f", userId, completionRate);
+        return String.format("encouragement:%s:%s:%.1f", userId, version, completionRate);
     }
     
     /**
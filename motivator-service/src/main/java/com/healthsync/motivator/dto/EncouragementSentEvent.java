@@ -0,0 +1,34 @@
+package com.healthsync.motivator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 독려 메시지 전송 이벤트 DTO 클래스입니다.
+ * 
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EncouragementSentEvent {
+    
+    /**
+     * 사용자 ID
+     */
+    private String userId;
+    
+    /**
+     * 메시지 유형
+     */
+    private String messageType;
+    
+    /**
+     * 발생 시각
+     */
+    private String occurredAt;
+}
@@ -0,0 +1,35 @@
+package com.healthsync.motivator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Goal Service가 발행하는 미션 완료 이벤트 DTO 클래스입니다.
+ * 독려 메시지에 필요한 필드만 읽습니다.
+ * 
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissionCompleteEvent {
+    
+    /**
+     * 사용자 ID
+     */
+    private String userId;
+    
+    /**
+     * 미션 ID
+     */
+    private String missionId;
+    
+    /**
+     * 발생 시각
+     */
+    private String occurredAt;
+}
@@ -1,8 +1,9 @@
 package com.healthsync.motivator.infrastructure.adapters;
 
+import com.healthsync.common.cache.TwoTierCache;
+import com.healthsync.common.cache.TwoTierCacheManager;
 import com.healthsync.motivator.dto.EncouragementResponse;
 import com.healthsync.motivator.infrastructure.ports.CachePort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
@@ -10,7 +11,9 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 
 /**
- * Redis 캐시와의 통신을 담당하는 어댑터 클래스입니다.
+ * 2단계 캐시(L1 로컬 + L2 Redis)와의 통신을 담당하는 어댑터 클래스입니다.
+ * 배치 메시지는 다른 인스턴스가 읽어 가므로 Redis에만 저장합니다.
+ * 독려 메시지는 사용자별 캐시 세대를 키에 포함하며, 세대를 바꾸는 것으로 사용자의 메시지를 한 번에 무효화합니다.
  * Clean Architecture의 Infrastructure 계층에 해당합니다.
  * 
  * @author healthsync-team
@@ -18,15 +21,34 @@ import java.time.Duration;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CacheAdapter implements CachePort {
     
+    private static final Duration ENCOURAGEMENT_TTL = Duration.ofMinutes(30);
+    
+    /**
+     * 세대 키는 독려 메시지보다 오래 유지하여, 세대가 만료되어 초기 세대로 돌아갔을 때 무효화 이전 메시지가 남아 있지 않게 합니다.
+     */
+    private static final Duration ENCOURAGEMENT_VERSION_TTL = ENCOURAGEMENT_TTL.multipliedBy(2);
+    private static final String INITIAL_VERSION = "0";
+    
     private final RedisTemplate<String, Object> redisTemplate;
+    private final TwoTierCache encouragementCache;
+    
+    /**
+     * CacheAdapter 생성자
+     * 
+     * @param redisTemplate Redis 템플릿 (배치 메시지용)
+     * @param cacheManager 2단계 캐시 관리자
+     */
+    public CacheAdapter(RedisTemplate<String, Object> redisTemplate, TwoTierCacheManager cacheManager) {
+        this.redisTemplate = redisTemplate;
+        this.encouragementCache = cacheManager.getCache("encouragement");
+    }
     
     @Override
     public EncouragementResponse getCachedEncouragementMessage(String cacheKey) {
         try {
-            return (EncouragementResponse) redisTemplate.opsForValue().get(cacheKey);
+            return encouragementCache.get(cacheKey, EncouragementResponse.class);
         } catch (Exception e) {
             log.warn("독려 메시지 캐시 조회 실패: key={}, error={}", cacheKey, e.getMessage());
             return null;
@@ -36,13 +58,39 @@ public class CacheAdapter implements CachePort {
     @Override
     public void cacheEncouragementMessage(String cacheKey, EncouragementResponse response) {
         try {
-            redisTemplate.opsForValue().set(cacheKey, response, Duration.ofMinutes(30));
+            encouragementCache.put(cacheKey, response, ENCOURAGEMENT_TTL);
             log.info("독려 메시지 캐시 저장: key={}", cacheKey);
         } catch (Exception e) {
             log.warn("독려 메시지 캐시 저장 실패: key={}, error={}", cacheKey, e.getMessage());
         }
     }
     
+    @Override
+    public String getEncouragementCacheVersion(String userId) {
+        try {
+            String version = encouragementCache.get(versionKey(userId), String.class);
+            return version != null ? version : INITIAL_VERSION;
+        } catch (Exception e) {
+            log.warn("독려 메시지 캐시 세대 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return INITIAL_VERSION;
+        }
+    }
+    
+    @Override
+    public void evictEncouragementMessages(String userId) {
+        try {
+            encouragementCache.put(versionKey(userId), Long.toString(System.currentTimeMillis(), 36),
+                    ENCOURAGEMENT_VERSION_TTL);
+            log.info("독려 메시지 캐시 무효화: userId={}", userId);
+        } catch (Exception e) {
+            log.warn("독려 메시지 캐시 무효화 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+    
+    private String versionKey(String userId) {
+        return "encouragement_version:" + userId;
+    }
+    
     @Override
     public void storeBatchMessage(String userId, String message) {
         try {
@@ -1,8 +1,9 @@
 package com.healthsync.motivator.infrastructure.adapters;
 
 import com.healthsync.common.exception.ExternalApiException;
+import com.healthsync.common.http.WebClientFactory;
+import com.healthsync.common.jfr.LlmCallEvent;
 import com.healthsync.motivator.infrastructure.ports.ClaudeApiPort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -17,10 +18,9 @@ import org.springframework.web.reactive.function.client.WebClient;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ClaudeApiAdapter implements ClaudeApiPort {
     
-    private final WebClient webClient = WebClient.builder().build();
+    private final WebClient webClient;
     
     @Value("${claude.api.url}")
     private String claudeApiUrl;
@@ -34,18 +34,32 @@ public class ClaudeApiAdapter implements ClaudeApiPort {
     @Value("${claude.api.max-tokens}")
     private int maxTokens;
     
+    /**
+     * ClaudeApiAdapter 생성자
+     * 
+     * @param webClientFactory WebClient 팩토리 (대상: claude-api)
+     */
+    public ClaudeApiAdapter(WebClientFactory webClientFactory) {
+        this.webClient = webClientFactory.getClient("claude-api");
+    }
+    
     @Override
     public String callClaudeApi(String prompt) {
+        LlmCallEvent event = LlmCallEvent.start("callClaudeApi", claudeModel, prompt);
+        String response = null;
         try {
             log.info("Claude API 호출: promptLength={}", prompt.length());
             
             // 실제 구현에서는 Claude API 호출
             // Mock 응답 반환
-            return generateMockMotivationMessage(prompt);
+            response = generateMockMotivationMessage(prompt);
+            return response;
                     
         } catch (Exception e) {
             log.error("Claude API 호출 실패: error={}", e.getMessage(), e);
             throw new ExternalApiException("AI 메시지 생성에 실패했습니다.");
+        } finally {
+            event.finish(response);
         }
     }
     
@@ -1,10 +1,10 @@
 package com.healthsync.motivator.infrastructure.adapters;
 
 import com.healthsync.common.exception.ExternalApiException;
+import com.healthsync.common.http.WebClientFactory;
 import com.healthsync.motivator.dto.DailyProgress;
 import com.healthsync.motivator.dto.UserMissionStatus;
 import com.healthsync.motivator.infrastructure.ports.GoalServicePort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -23,14 +23,22 @@ import java.util.stream.IntStream;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GoalServiceAdapter implements GoalServicePort {
     
-    private final WebClient webClient = WebClient.builder().build();
+    private final WebClient webClient;
     
     @Value("${services.goal-service.url}")
     private String goalServiceUrl;
     
+    /**
+     * GoalServiceAdapter 생성자
+     * 
+     * @param webClientFactory WebClient 팩토리 (대상: goal-service)
+     */
+    public GoalServiceAdapter(WebClientFactory webClientFactory) {
+        this.webClient = webClientFactory.getClient("goal-service");
+    }
+    
     @Override
     public DailyProgress getUserDailyProgress(String userId) {
         try {
@@ -27,6 +27,23 @@ public interface CachePort {
      */
     void cacheEncouragementMessage(String cacheKey, EncouragementResponse response);
     
+    /**
+     * 사용자의 독려 메시지 캐시 세대를 조회합니다.
+     * 독려 메시지 캐시 키에 포함하여, 세대가 바뀌면 이전 메시지를 더 이상 조회하지 않게 합니다.
+     * 
+     * @param userId 사용자 ID
+     * @return 캐시 세대
+     */
+    String getEncouragementCacheVersion(String userId);
+    
+    /**
+     * 사용자의 캐시된 독려 메시지를 모두 무효화합니다.
+     * 키를 찾아 지우지 않고 캐시 세대를 바꾸므로 사용자의 메시지 수와 관계없이 한 번의 쓰기로 끝납니다.
+     * 
+     * @param userId 사용자 ID
+     */
+    void evictEncouragementMessages(String userId);
+    
     /**
      * 배치 메시지를 저장합니다.
      * 
@@ -0,0 +1,38 @@
+package com.healthsync.motivator.interface_adapters.events;
+
+import com.healthsync.common.stream.StreamEvent;
+import com.healthsync.common.stream.StreamEventHandler;
+import com.healthsync.motivator.application_services.MotivationUseCase;
+import com.healthsync.motivator.dto.MissionCompleteEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Goal Service의 미션 완료 이벤트를 받아 독려 메시지 상태에 반영하는 핸들러입니다.
+ * Clean Architecture의 Interface Adapter 계층에 해당합니다.
+ * 
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class MissionCompleteEventHandler implements StreamEventHandler<MissionCompleteEvent> {
+    
+    private final MotivationUseCase motivationUseCase;
+    
+    @Override
+    public String topic() {
+        return "mission-complete";
+    }
+    
+    @Override
+    public Class<MissionCompleteEvent> payloadType() {
+        return MissionCompleteEvent.class;
+    }
+    
+    @Override
+    public void handle(StreamEvent<MissionCompleteEvent> event) {
+        MissionCompleteEvent payload = event.getPayload();
+        motivationUseCase.handleMissionCompleted(payload.getUserId(), payload.getMissionId());
+    }
+}
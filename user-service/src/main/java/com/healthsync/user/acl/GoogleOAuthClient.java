@@ -1,8 +1,8 @@
 package com.healthsync.user.acl;
 
 import com.healthsync.common.exception.ExternalApiException;
+import com.healthsync.common.http.WebClientFactory;
 import com.healthsync.user.dto.GoogleUserInfo;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -17,10 +17,9 @@ import org.springframework.web.reactive.function.client.WebClient;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GoogleOAuthClient {
     
-    private final WebClient webClient = WebClient.builder().build();
+    private final WebClient webClient;
     
     @Value("${google.oauth.client-id}")
     private String clientId;
@@ -28,6 +27,15 @@ public class GoogleOAuthClient {
     @Value("${google.oauth.client-secret}")
     private String clientSecret;
     
+    /**
+     * GoogleOAuthClient 생성자
+     * 
+     * @param webClientFactory WebClient 팩토리 (대상: google-oauth)
+     */
+    public GoogleOAuthClient(WebClientFactory webClientFactory) {
+        this.webClient = webClientFactory.getClient("google-oauth");
+    }
+    
     /**
      * Google OAuth 인증 코드를 통해 사용자 정보를 획득합니다.
      * 
@@ -0,0 +1,29 @@
+package com.healthsync.user.config;
+
+import com.healthsync.common.security.TokenRevocationPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+/**
+ * 로그아웃 토큰 폐기 설정을 관리하는 클래스입니다.
+ * Gateway와 같은 Redis 키/채널을 사용하므로 폐기 즉시 모든 Gateway 인스턴스에 전파됩니다.
+ * User Service는 폐기 여부를 조회하지 않으므로 폐기 채널 구독이나 Bloom 필터 재구성은 하지 않습니다.
+ *
+ * @author healthsync-team
+ * @version 1.0
+ */
+@Configuration
+public class TokenRevocationConfig {
+
+    /**
+     * 폐기 토큰 기록기를 생성합니다.
+     *
+     * @param redisTemplate Reactive Redis 템플릿
+     * @return TokenRevocationPublisher
+     */
+    @Bean
+    public TokenRevocationPublisher tokenRevocationPublisher(ReactiveStringRedisTemplate redisTemplate) {
+        return new TokenRevocationPublisher(redisTemplate);
+    }
+}
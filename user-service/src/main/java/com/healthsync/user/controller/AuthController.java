@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,6 +28,8 @@ import jakarta.validation.Valid;
 @Tag(name = "인증", description = "사용자 인증 관련 API")
 public class AuthController {
     
+    private static final String BEARER_PREFIX = "Bearer ";
+    
     private final AuthService authService;
     
     /**
@@ -50,14 +53,19 @@ public class AuthController {
      * 로그아웃을 처리합니다.
      * 
      * @param userId 사용자 ID
+     * @param authorization Authorization 헤더 (Bearer 액세스 토큰)
      * @return 로그아웃 결과
      */
     @PostMapping("/logout")
-    @Operation(summary = "로그아웃", description = "사용자 로그아웃을 처리합니다")
-    public ResponseEntity<ApiResponse<Void>> logout(@RequestParam String userId) {
+    @Operation(summary = "로그아웃", description = "사용자 로그아웃을 처리하고 액세스 토큰을 폐기합니다")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestParam String userId,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         log.info("로그아웃 요청: userId={}", userId);
         
-        authService.logout(userId);
+        String accessToken = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length()).trim() : null;
+        authService.logout(userId, accessToken);
         
         log.info("로그아웃 완료: userId={}", userId);
         return ResponseEntity.ok(ApiResponse.success("로그아웃이 완료되었습니다.", null));
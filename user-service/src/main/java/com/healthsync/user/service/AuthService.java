@@ -1,7 +1,9 @@
 package com.healthsync.user.service;
 
 import com.healthsync.common.exception.AuthenticationException;
+import com.healthsync.common.security.TokenRevocationPublisher;
 import com.healthsync.common.util.JwtUtil;
+import com.healthsync.common.util.ParsedToken;
 import com.healthsync.user.acl.GoogleOAuthClient;
 import com.healthsync.user.dto.GoogleUserInfo;
 import com.healthsync.user.dto.LoginResponse;
@@ -12,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -27,9 +30,12 @@ import java.util.Optional;
 @Transactional
 public class AuthService {
     
+    private static final Duration REVOCATION_TIMEOUT = Duration.ofSeconds(3);
+    
     private final GoogleOAuthClient googleOAuthClient;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationPublisher tokenRevocationPublisher;
     
     /**
      * Google OAuth 인증을 처리합니다.
@@ -89,11 +95,26 @@ public class AuthService {
     
     /**
      * 로그아웃을 처리합니다.
+     * 액세스 토큰을 만료 시각까지 폐기 목록에 등록하여 Gateway에서 더 이상 인증되지 않도록 합니다.
      * 
      * @param userId 사용자 ID
+     * @param accessToken 폐기할 액세스 토큰 (없으면 폐기하지 않음)
      */
-    public void logout(String userId) {
-        // 실제 구현에서는 Redis에서 토큰 블랙리스트 관리
+    public void logout(String userId, String accessToken) {
         log.info("사용자 로그아웃 처리: userId={}", userId);
+        if (accessToken == null) {
+            return;
+        }
+
+        ParsedToken parsed = jwtUtil.parseOnce(accessToken);
+        if (!parsed.isValid() || !userId.equals(parsed.getUserId())) {
+            throw new AuthenticationException("유효하지 않은 토큰입니다.");
+        }
+        if (parsed.getTokenId() == null || parsed.getExpiresAt() == null) {
+            log.warn("토큰 ID가 없어 폐기할 수 없습니다: userId={}", userId);
+            return;
+        }
+
+        tokenRevocationPublisher.revoke(parsed.getTokenId(), parsed.getExpiresAt()).block(REVOCATION_TIMEOUT);
     }
 }